@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares bean property access through reflection against {@link BeanContextBuilder#useMethodHandles()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class BeanPropertyAccessBenchmark {
+
+	/**
+	 * The bean being accessed.
+	 */
+	public static class A {
+		private int f1;
+		private String f2;
+		private long f3;
+		private boolean f4;
+
+		/** @return The property value. */
+		public int getF1() {
+			return f1;
+		}
+
+		/** @param value The new property value. */
+		public void setF1(int value) {
+			f1 = value;
+		}
+
+		/** @return The property value. */
+		public String getF2() {
+			return f2;
+		}
+
+		/** @param value The new property value. */
+		public void setF2(String value) {
+			f2 = value;
+		}
+
+		/** @return The property value. */
+		public long getF3() {
+			return f3;
+		}
+
+		/** @param value The new property value. */
+		public void setF3(long value) {
+			f3 = value;
+		}
+
+		/** @return The property value. */
+		public boolean isF4() {
+			return f4;
+		}
+
+		/** @param value The new property value. */
+		public void setF4(boolean value) {
+			f4 = value;
+		}
+	}
+
+	private static final String JSON = "{\"f1\":1,\"f2\":\"foo\",\"f3\":2,\"f4\":true}";
+
+	/** Whether to use method handles instead of reflection. */
+	@Param({"false", "true"})
+	public boolean useMethodHandles;
+
+	private BeanMap<A> beanMap;
+	private JsonSerializer serializer;
+	private JsonParser parser;
+	private int i;
+
+	/**
+	 * Creates the bean map, serializer and parser.
+	 */
+	@Setup
+	public void setup() {
+		BeanContextBuilder b = BeanContext.create();
+		JsonSerializerBuilder sb = JsonSerializer.create();
+		JsonParserBuilder pb = JsonParser.create();
+		if (useMethodHandles) {
+			b.useMethodHandles();
+			sb.useMethodHandles();
+			pb.useMethodHandles();
+		}
+		beanMap = b.build().createBeanSession().toBeanMap(new A());
+		serializer = sb.build();
+		parser = pb.build();
+	}
+
+	/**
+	 * Sets and gets all the properties through a bean map.
+	 *
+	 * @return A value computed from the properties.
+	 */
+	@Benchmark
+	public int beanMap() {
+		BeanMap<A> m = beanMap;
+		i++;
+		m.put("f1", i);
+		m.put("f2", "foo");
+		m.put("f3", (long)i);
+		m.put("f4", true);
+		return (Integer)m.get("f1") + ((String)m.get("f2")).length() + ((Long)m.get("f3")).intValue() + ((Boolean)m.get("f4") ? 1 : 0);
+	}
+
+	/**
+	 * Parses a bean from JSON and serializes it back.
+	 *
+	 * @return The serialized bean.
+	 * @throws Exception Parsing or serialization failed.
+	 */
+	@Benchmark
+	public String roundTrip() throws Exception {
+		return serializer.serialize(parser.parse(JSON, A.class));
+	}
+}
@@ -0,0 +1,81 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.benchmarks.pojos.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost of creating {@link ClassMeta} objects for a bean graph.
+ *
+ * <p>
+ * {@link #coldStart()} measures the first lookup in a new JVM, including class loading and the creation of the
+ * framework's own metadata.
+ * <br>{@link #newContext()} measures introspection of the bean graph in a new {@link BeanContext} in an already
+ * warmed-up JVM.
+ * <br>{@link #cached()} measures lookups of already-created metadata.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassMetaBenchmark {
+
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * Looks up the metadata of a bean graph for the first time in a new JVM.
+	 *
+	 * @return The bean metadata.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations=0)
+	@Measurement(iterations=1)
+	@Fork(20)
+	public Object coldStart() {
+		return BeanContext.DEFAULT.getClassMeta(Order.class).getBeanMeta();
+	}
+
+	/**
+	 * Looks up the metadata of a bean graph in a new bean context.
+	 *
+	 * @return The bean metadata.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations=3, time=2)
+	@Measurement(iterations=5, time=2)
+	@Fork(1)
+	public Object newContext() {
+		// Bean contexts are cached by their settings, so use a unique setting to get a new one.
+		BeanContext bc = BeanContext.create().typePropertyName("_type" + counter.incrementAndGet()).build();
+		return bc.getClassMeta(Order.class).getBeanMeta();
+	}
+
+	/**
+	 * Looks up the metadata of a bean graph that has already been created.
+	 *
+	 * @return The bean metadata.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations=3, time=2)
+	@Measurement(iterations=5, time=2)
+	@Fork(1)
+	public Object cached() {
+		return BeanContext.DEFAULT.getClassMeta(Order.class).getBeanMeta();
+	}
+}
@@ -0,0 +1,117 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.benchmarks.pojos.*;
+import org.apache.juneau.parser.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Heap footprint and throughput of parsing untyped documents into generic maps and lists, with and without compact
+ * collections.
+ *
+ * <p>
+ * The <c>footprint</c> benchmark reports the retained heap size of each parsed document in the
+ * <c>bytesPerDocument</c> counter:
+ * <p class='bcode w800'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar CompactCollectionsBenchmark.footprint
+ * </p>
+ *
+ * @see Parser#PARSER_compactCollections
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class CompactCollectionsBenchmark {
+
+	private static final int COPIES = 20;
+
+	/** The format. */
+	@Param({"JSON", "MSGPACK"})
+	public Format format;
+
+	/** Whether compact collections are enabled on the parser. */
+	@Param({"false", "true"})
+	public boolean compact;
+
+	private Parser parser;
+	private Object serialized;
+
+	/**
+	 * Retained heap size measured by the footprint benchmark.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+
+		/** Retained heap size of a parsed document in bytes. */
+		public long bytesPerDocument;
+	}
+
+	/**
+	 * Creates the parser and the serialized input.
+	 *
+	 * @throws Exception Serialization failed.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		ParserBuilder b = format.parser.copy();
+		if (compact)
+			b.compactCollections();
+		parser = b.build();
+		serialized = format.serializer.serialize(Order.array(100));
+	}
+
+	/**
+	 * Parses the input into generic maps and lists.
+	 *
+	 * @return The parsed document.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(serialized, Object.class);
+	}
+
+	/**
+	 * Parses several copies of the input and measures the heap they retain.
+	 *
+	 * @param f The counters to update.
+	 * @return The parsed documents.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations=3)
+	@Measurement(iterations=5)
+	public Object[] footprint(Footprint f) throws Exception {
+		Object[] docs = new Object[COPIES];
+		long before = usedHeap();
+		for (int i = 0; i < docs.length; i++)
+			docs[i] = parser.parse(serialized, Object.class);
+		f.bytesPerDocument = (usedHeap() - before) / COPIES;
+		return docs;
+	}
+
+	private static long usedHeap() {
+		Runtime r = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++)
+			System.gc();
+		return r.totalMemory() - r.freeMemory();
+	}
+}
@@ -0,0 +1,82 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.benchmarks.pojos.*;
+import org.apache.juneau.csv.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serialize, parse and round-trip throughput of lists of flat beans as CSV.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class CsvBenchmark {
+
+	/** The number of rows. */
+	@Param({"10", "1000"})
+	public int size;
+
+	private OrderLine[] lines;
+	private String serialized;
+
+	/**
+	 * Creates the rows and their serialized form.
+	 *
+	 * @throws Exception Serialization failed.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		lines = OrderLine.array(size);
+		serialized = CsvSerializer.DEFAULT.serialize(lines);
+	}
+
+	/**
+	 * Serializes the rows.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization failed.
+	 */
+	@Benchmark
+	public String serialize() throws Exception {
+		return CsvSerializer.DEFAULT.serialize(lines);
+	}
+
+	/**
+	 * Parses the serialized rows.
+	 *
+	 * @return The parsed beans.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	public OrderLine[] parse() throws Exception {
+		return CsvParser.DEFAULT.parse(serialized, OrderLine[].class);
+	}
+
+	/**
+	 * Serializes the rows and parses them back.
+	 *
+	 * @return The parsed beans.
+	 * @throws Exception Serialization or parsing failed.
+	 */
+	@Benchmark
+	public OrderLine[] roundTrip() throws Exception {
+		return CsvParser.DEFAULT.parse(CsvSerializer.DEFAULT.serialize(lines), OrderLine[].class);
+	}
+}
@@ -0,0 +1,107 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.http.response.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.logging.*;
+import org.apache.juneau.rest.mock.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of requests that fail with an exception, shared by concurrent client threads.
+ *
+ * <p>
+ * Run with different thread counts to compare how the error path scales:
+ * <p class='bcode w800'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar ErrorHandlingBenchmark -t 1
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar ErrorHandlingBenchmark -t 16
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+@Threads(8)
+public class ErrorHandlingBenchmark {
+
+	/**
+	 * The resource being called.
+	 */
+	@Rest(callLogger=BasicDisabledRestLogger.class, renderResponseStackTraces="true")
+	public static class Errors {
+
+		/**
+		 * Throws an unexpected exception.
+		 */
+		@RestGet(path="/unexpected")
+		public void unexpected() {
+			throw new RuntimeException("foo");
+		}
+
+		/**
+		 * Throws an HTTP exception.
+		 */
+		@RestGet(path="/notFound")
+		public void notFound() {
+			throw new NotFound("bar");
+		}
+	}
+
+	private RestClient client;
+
+	/**
+	 * Creates the client.
+	 */
+	@Setup
+	public void setup() {
+		client = MockRestClient.buildLax(Errors.class);
+	}
+
+	/**
+	 * Closes the client.
+	 *
+	 * @throws Exception Thrown by the client.
+	 */
+	@TearDown
+	public void tearDown() throws Exception {
+		client.close();
+	}
+
+	/**
+	 * Calls a method that throws an unexpected exception, so the response includes the stack trace.
+	 *
+	 * @return The response body.
+	 * @throws Exception Call failed.
+	 */
+	@Benchmark
+	public String unexpected() throws Exception {
+		return client.get("/unexpected").run().getBody().asString();
+	}
+
+	/**
+	 * Calls a method that throws an HTTP exception.
+	 *
+	 * @return The response body.
+	 * @throws Exception Call failed.
+	 */
+	@Benchmark
+	public String notFound() throws Exception {
+		return client.get("/notFound").run().getBody().asString();
+	}
+}
@@ -0,0 +1,164 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.http.header.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parsing and matching of the HTTP headers used for content negotiation.
+ *
+ * <p>
+ * The <c>parse*</c> benchmarks bypass the header caches used by the <c>of(String)</c> methods, which are measured
+ * by the <c>cached*</c> benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class HeaderBenchmark {
+
+	private static final String
+		ACCEPT = "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8",
+		CONTENT_TYPE = "application/json;charset=utf-8",
+		ACCEPT_ENCODING = "gzip;q=1.0, identity; q=0.5, *;q=0";
+
+	private static final List<MediaType> MEDIA_TYPES = Arrays.asList(
+		MediaType.of("application/json"), MediaType.of("application/json+simple"), MediaType.of("text/xml"),
+		MediaType.of("application/xml"), MediaType.of("text/html"), MediaType.of("octal/msgpack")
+	);
+
+	private static final List<String> ENCODINGS = Arrays.asList("gzip", "deflate", "identity");
+
+	private static final MediaRanges MEDIA_RANGES = MediaRanges.of(ACCEPT);
+
+	private static final StringRanges STRING_RANGES = StringRanges.of(ACCEPT_ENCODING);
+
+	// Headers that only differ by q-values or parameters and so share the same match cache entries.
+	private static final String[] ACCEPT_VARIANTS = new String[64], CONTENT_TYPE_VARIANTS = new String[64];
+	static {
+		for (int i = 0; i < 64; i++) {
+			ACCEPT_VARIANTS[i] = "text/xml;q=0." + (i % 9 + 1) + ",application/json;q=0.0" + (i % 9 + 1);
+			CONTENT_TYPE_VARIANTS[i] = "application/xml;charset=x-" + i;
+		}
+	}
+
+	private final SerializerGroup serializers = SerializerGroup.create()
+		.add(JsonSerializer.class, XmlSerializer.class, HtmlSerializer.class, MsgPackSerializer.class).build();
+
+	private final ParserGroup parsers = ParserGroup.create()
+		.add(JsonParser.class, XmlParser.class, HtmlParser.class, MsgPackParser.class).build();
+
+	private int counter;
+
+	/**
+	 * Parses an <c>Accept</c> header value.
+	 *
+	 * @return The parsed value.
+	 */
+	@Benchmark
+	public MediaRanges parseAccept() {
+		return new MediaRanges(ACCEPT);
+	}
+
+	/**
+	 * Gets a previously-parsed <c>Accept</c> header value.
+	 *
+	 * @return The parsed value.
+	 */
+	@Benchmark
+	public MediaRanges cachedAccept() {
+		return MediaRanges.of(ACCEPT);
+	}
+
+	/**
+	 * Finds the best match of an <c>Accept</c> header against the media types of the default serializers.
+	 *
+	 * @return The index of the matching media type.
+	 */
+	@Benchmark
+	public int matchAccept() {
+		return MEDIA_RANGES.match(MEDIA_TYPES);
+	}
+
+	/**
+	 * Parses a <c>Content-Type</c> header value.
+	 *
+	 * @return The parsed value.
+	 */
+	@Benchmark
+	public MediaType parseContentType() {
+		return new MediaType(CONTENT_TYPE);
+	}
+
+	/**
+	 * Gets a previously-parsed <c>Content-Type</c> header value.
+	 *
+	 * @return The parsed value.
+	 */
+	@Benchmark
+	public ContentType cachedContentType() {
+		return ContentType.of(CONTENT_TYPE);
+	}
+
+	/**
+	 * Parses an <c>Accept-Encoding</c> header value.
+	 *
+	 * @return The parsed value.
+	 */
+	@Benchmark
+	public StringRanges parseAcceptEncoding() {
+		return new StringRanges(ACCEPT_ENCODING);
+	}
+
+	/**
+	 * Finds the best match of an <c>Accept-Encoding</c> header against a list of encodings.
+	 *
+	 * @return The index of the matching encoding.
+	 */
+	@Benchmark
+	public int matchAcceptEncoding() {
+		return STRING_RANGES.match(ENCODINGS);
+	}
+
+	/**
+	 * Finds the serializer for <c>Accept</c> headers that differ only by q-values.
+	 *
+	 * @return The matching serializer.
+	 */
+	@Benchmark
+	public SerializerMatch groupSerializerMatch() {
+		return serializers.getSerializerMatch(ACCEPT_VARIANTS[counter++ & 63]);
+	}
+
+	/**
+	 * Finds the parser for <c>Content-Type</c> headers that differ only by charset.
+	 *
+	 * @return The matching parser.
+	 */
+	@Benchmark
+	public ParserMatch groupParserMatch() {
+		return parsers.getParserMatch(CONTENT_TYPE_VARIANTS[counter++ & 63]);
+	}
+}
@@ -0,0 +1,88 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.benchmarks.pojos.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serialize, parse and round-trip throughput of bean graphs in each of the supported formats.
+ *
+ * <p>
+ * CSV is covered separately by {@link CsvBenchmark} since it only supports flat beans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class MarshallBenchmark {
+
+	/** The format. */
+	@Param
+	public Format format;
+
+	/** The number of orders in the bean graph. */
+	@Param({"1", "100"})
+	public int size;
+
+	private Order[] orders;
+	private Object serialized;
+
+	/**
+	 * Creates the bean graph and its serialized form.
+	 *
+	 * @throws Exception Serialization failed.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		orders = Order.array(size);
+		serialized = format.serializer.serialize(orders);
+	}
+
+	/**
+	 * Serializes the bean graph.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization failed.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return format.serializer.serialize(orders);
+	}
+
+	/**
+	 * Parses the serialized bean graph.
+	 *
+	 * @return The parsed beans.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	public Order[] parse() throws Exception {
+		return format.parser.parse(serialized, Order[].class);
+	}
+
+	/**
+	 * Serializes the bean graph and parses it back.
+	 *
+	 * @return The parsed beans.
+	 * @throws Exception Serialization or parsing failed.
+	 */
+	@Benchmark
+	public Order[] roundTrip() throws Exception {
+		return format.parser.parse(format.serializer.serialize(orders), Order[].class);
+	}
+}
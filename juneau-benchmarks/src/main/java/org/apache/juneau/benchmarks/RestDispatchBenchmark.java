@@ -0,0 +1,165 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.benchmarks.pojos.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.logging.*;
+import org.apache.juneau.rest.mock.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full request dispatch through {@link MockRestClient}, including client-side serialization, path matching, argument
+ * resolution, server-side serialization and client-side parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class RestDispatchBenchmark {
+
+	/**
+	 * The resource being called.
+	 */
+	@Rest(serializers=JsonSerializer.class, parsers=JsonParser.class, callLogger=BasicDisabledRestLogger.class)
+	public static class Orders {
+		private static final Order ORDER = Order.create(1);
+
+		/**
+		 * Returns a fixed response.
+		 *
+		 * @return A fixed response.
+		 */
+		@RestGet(path="/ping")
+		public String ping() {
+			return "pong";
+		}
+
+		/**
+		 * Returns an order.
+		 *
+		 * @param id The order ID.
+		 * @return The order.
+		 */
+		@RestGet(path="/orders/{id}")
+		public Order getOrder(@Path("id") long id) {
+			return ORDER;
+		}
+
+		/**
+		 * Returns the lines of an order.
+		 *
+		 * @param id The order ID.
+		 * @return The order lines.
+		 */
+		@RestGet(path="/orders/{id}/lines")
+		public Object getOrderLines(@Path("id") long id) {
+			return ORDER.lines;
+		}
+
+		/**
+		 * Creates an order.
+		 *
+		 * @param order The order.
+		 * @return The ID of the new order.
+		 */
+		@RestPost(path="/orders")
+		public long createOrder(@Body Order order) {
+			return order.id;
+		}
+
+		/**
+		 * Returns a customer.
+		 *
+		 * @param id The customer ID.
+		 * @return The customer.
+		 */
+		@RestGet(path="/customers/{id}")
+		public Customer getCustomer(@Path("id") long id) {
+			return ORDER.customer;
+		}
+
+		/**
+		 * Returns the address of a customer.
+		 *
+		 * @param id The customer ID.
+		 * @return The address.
+		 */
+		@RestGet(path="/customers/{id}/address")
+		public Address getCustomerAddress(@Path("id") long id) {
+			return ORDER.customer.address;
+		}
+	}
+
+	private RestClient client;
+	private Order order;
+
+	/**
+	 * Creates the client.
+	 */
+	@Setup
+	public void setup() {
+		client = MockRestClient.create(Orders.class).json().build();
+		order = Order.create(2);
+	}
+
+	/**
+	 * Closes the client.
+	 *
+	 * @throws Exception Thrown by the client.
+	 */
+	@TearDown
+	public void tearDown() throws Exception {
+		client.close();
+	}
+
+	/**
+	 * Calls a method with no arguments that returns a string.
+	 *
+	 * @return The response body.
+	 * @throws Exception Call failed.
+	 */
+	@Benchmark
+	public String ping() throws Exception {
+		return client.get("/ping").run().getBody().asString();
+	}
+
+	/**
+	 * Calls a method with a path variable that returns a bean.
+	 *
+	 * @return The parsed response body.
+	 * @throws Exception Call failed.
+	 */
+	@Benchmark
+	public Order getBean() throws Exception {
+		return client.get("/orders/123").run().getBody().asType(Order.class);
+	}
+
+	/**
+	 * Calls a method with a bean request body.
+	 *
+	 * @return The parsed response body.
+	 * @throws Exception Call failed.
+	 */
+	@Benchmark
+	public Long postBean() throws Exception {
+		return client.post("/orders", order).run().getBody().asType(Long.class);
+	}
+}
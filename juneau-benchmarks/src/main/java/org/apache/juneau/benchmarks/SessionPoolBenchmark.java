@@ -0,0 +1,125 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.benchmarks.pojos.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of serializing and parsing small beans with and without session pooling.
+ *
+ * <p>
+ * Run with the GC profiler to compare allocation rates:
+ * <p class='bcode w800'>
+ * 	java -jar juneau-benchmarks/target/benchmarks.jar SessionPoolBenchmark -prof gc
+ * </p>
+ *
+ * @see Serializer#SERIALIZER_poolSessions
+ * @see Parser#PARSER_poolSessions
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class SessionPoolBenchmark {
+
+	/** Whether sessions are pooled. */
+	@Param({"false", "true"})
+	public boolean pooled;
+
+	private WriterSerializer jsonSerializer;
+	private ReaderParser jsonParser;
+	private OutputStreamSerializer msgPackSerializer;
+	private InputStreamParser msgPackParser;
+	private Customer customer;
+	private String json;
+	private byte[] msgPack;
+
+	/**
+	 * Creates the serializers, parsers, and serialized input.
+	 *
+	 * @throws Exception Serialization failed.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		JsonSerializerBuilder jsb = JsonSerializer.create();
+		JsonParserBuilder jpb = JsonParser.create();
+		MsgPackSerializerBuilder msb = MsgPackSerializer.create();
+		MsgPackParserBuilder mpb = MsgPackParser.create();
+		if (pooled) {
+			jsb.poolSessions();
+			jpb.poolSessions();
+			msb.poolSessions();
+			mpb.poolSessions();
+		}
+		jsonSerializer = jsb.build();
+		jsonParser = jpb.build();
+		msgPackSerializer = msb.build();
+		msgPackParser = mpb.build();
+		customer = Customer.create(1);
+		json = jsonSerializer.serialize(customer);
+		msgPack = msgPackSerializer.serialize(customer);
+	}
+
+	/**
+	 * Serializes a small bean to JSON.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization failed.
+	 */
+	@Benchmark
+	public String serializeJson() throws Exception {
+		return jsonSerializer.serialize(customer);
+	}
+
+	/**
+	 * Parses a small bean from JSON.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	public Customer parseJson() throws Exception {
+		return jsonParser.parse(json, Customer.class);
+	}
+
+	/**
+	 * Serializes a small bean to MessagePack.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization failed.
+	 */
+	@Benchmark
+	public byte[] serializeMsgPack() throws Exception {
+		return msgPackSerializer.serialize(customer);
+	}
+
+	/**
+	 * Parses a small bean from MessagePack.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	public Customer parseMsgPack() throws Exception {
+		return msgPackParser.parse(msgPack, Customer.class);
+	}
+}
@@ -0,0 +1,39 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.pojos;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * A postal address.
+ */
+@Bean(properties="street,city,state,zip")
+public class Address {
+	public String street, city, state;
+	public int zip;
+
+	/**
+	 * Creates a populated address.
+	 *
+	 * @param i Seed used to vary the values.
+	 * @return A new address.
+	 */
+	public static Address create(int i) {
+		Address x = new Address();
+		x.street = i + " Main Street";
+		x.city = "Springfield";
+		x.state = "IL";
+		x.zip = 62700 + (i % 100);
+		return x;
+	}
+}
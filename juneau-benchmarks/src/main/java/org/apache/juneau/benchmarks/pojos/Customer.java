@@ -0,0 +1,46 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.pojos;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * A customer with a nested address and a list of tags.
+ */
+@Bean(properties="id,name,email,vip,address,tags")
+public class Customer {
+	public long id;
+	public String name, email;
+	public boolean vip;
+	public Address address;
+	public List<String> tags;
+
+	/**
+	 * Creates a populated customer.
+	 *
+	 * @param i Seed used to vary the values.
+	 * @return A new customer.
+	 */
+	public static Customer create(int i) {
+		Customer x = new Customer();
+		x.id = 1000 + i;
+		x.name = "Customer " + i;
+		x.email = "customer" + i + "@example.com";
+		x.vip = i % 10 == 0;
+		x.address = Address.create(i);
+		x.tags = Arrays.asList("retail", "region-" + (i % 5));
+		return x;
+	}
+}
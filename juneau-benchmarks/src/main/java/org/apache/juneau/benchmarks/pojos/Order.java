@@ -0,0 +1,75 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.pojos;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * An order with a nested customer, a list of lines and a map of attributes.
+ *
+ * <p>
+ * Representative of the kinds of bean graphs typically sent over REST interfaces.
+ */
+@Bean(properties="id,status,placed,customer,lines,attributes")
+public class Order {
+
+	/** Order status. */
+	public static enum Status {
+		/** Order has been placed. */ PLACED,
+		/** Order has been shipped. */ SHIPPED,
+		/** Order has been delivered. */ DELIVERED
+	}
+
+	public long id;
+	public Status status;
+	public String placed;
+	public Customer customer;
+	public List<OrderLine> lines;
+	public Map<String,String> attributes;
+
+	/**
+	 * Creates a populated order.
+	 *
+	 * @param i Seed used to vary the values.
+	 * @return A new order.
+	 */
+	public static Order create(int i) {
+		Order x = new Order();
+		x.id = i;
+		x.status = Status.values()[i % 3];
+		x.placed = "2021-0" + (1 + i % 9) + "-1" + (i % 10) + "T12:00:00Z";
+		x.customer = Customer.create(i);
+		x.lines = new ArrayList<>();
+		for (int j = 0; j < 5; j++)
+			x.lines.add(OrderLine.create(i * 5 + j));
+		x.attributes = new LinkedHashMap<>();
+		x.attributes.put("channel", i % 2 == 0 ? "web" : "phone");
+		x.attributes.put("priority", String.valueOf(i % 3));
+		return x;
+	}
+
+	/**
+	 * Creates the specified number of populated orders.
+	 *
+	 * @param count The number of orders to create.
+	 * @return A new array of orders.
+	 */
+	public static Order[] array(int count) {
+		Order[] x = new Order[count];
+		for (int i = 0; i < count; i++)
+			x[i] = create(i);
+		return x;
+	}
+}
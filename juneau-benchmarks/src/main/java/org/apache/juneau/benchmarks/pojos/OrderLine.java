@@ -0,0 +1,56 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.pojos;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * A single line of an order.
+ *
+ * <p>
+ * Contains only simple properties so that lists of these can also be used with tabular formats such as CSV.
+ */
+@Bean(properties="sku,description,quantity,price")
+public class OrderLine {
+	public String sku, description;
+	public int quantity;
+	public double price;
+
+	/**
+	 * Creates a populated order line.
+	 *
+	 * @param i Seed used to vary the values.
+	 * @return A new order line.
+	 */
+	public static OrderLine create(int i) {
+		OrderLine x = new OrderLine();
+		x.sku = "SKU-" + (10000 + i);
+		x.description = "Item number " + i;
+		x.quantity = 1 + (i % 7);
+		x.price = 9.99 + (i % 50);
+		return x;
+	}
+
+	/**
+	 * Creates the specified number of populated order lines.
+	 *
+	 * @param count The number of order lines to create.
+	 * @return A new array of order lines.
+	 */
+	public static OrderLine[] array(int count) {
+		OrderLine[] x = new OrderLine[count];
+		for (int i = 0; i < count; i++)
+			x[i] = create(i);
+		return x;
+	}
+}
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class BeanPropertyAccessBenchmark_jmhType extends BeanPropertyAccessBenchmark_jmhType_B3 {
+}
+
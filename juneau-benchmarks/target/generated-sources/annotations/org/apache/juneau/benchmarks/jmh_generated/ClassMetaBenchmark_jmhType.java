@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class ClassMetaBenchmark_jmhType extends ClassMetaBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class CompactCollectionsBenchmark_Footprint_jmhType extends CompactCollectionsBenchmark_Footprint_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class CsvBenchmark_jmhType extends CsvBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class ErrorHandlingBenchmark_jmhType extends ErrorHandlingBenchmark_jmhType_B3 {
+}
+
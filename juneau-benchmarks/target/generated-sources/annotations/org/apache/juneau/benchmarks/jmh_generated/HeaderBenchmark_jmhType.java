@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class HeaderBenchmark_jmhType extends HeaderBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class MarshallBenchmark_jmhType extends MarshallBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class RestDispatchBenchmark_jmhType extends RestDispatchBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.juneau.benchmarks.jmh_generated;
+public class SessionPoolBenchmark_jmhType extends SessionPoolBenchmark_jmhType_B3 {
+}
+
@@ -1244,12 +1244,24 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RdfParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public RdfParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public RdfParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public RdfParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -1262,6 +1274,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public RdfParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public RdfParserBuilder strict() {
 		super.strict();
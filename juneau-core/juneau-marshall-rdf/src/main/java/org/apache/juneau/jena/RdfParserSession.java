@@ -70,6 +70,12 @@ public class RdfParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		// The model keeps the statements read by previous calls.
+		return false;
+	}
+
 	@Override /* ReaderParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 
@@ -87,7 +93,7 @@ public class RdfParserSession extends ReaderParserSession {
 				c = (
 					type.canCreateNewInstance(getOuter())
 					? (Collection<?>)type.newInstance(getOuter())
-					: new OList(this)
+					: newOList()
 				);
 
 			int argIndex = 0;
@@ -268,13 +274,13 @@ public class RdfParserSession extends ReaderParserSession {
 				else if (r.getProperty(pValue) != null) {
 					o = parseAnything(object(), n.asResource().getProperty(pValue).getObject(), outer, null);
 				} else if (isSeq(r)) {
-					o = new OList(this);
+					o = newOList();
 					parseIntoCollection(r.as(Seq.class), (Collection)o, sType, pMeta);
 				} else if (isBag(r)) {
-					o = new OList(this);
+					o = newOList();
 					parseIntoCollection(r.as(Bag.class), (Collection)o, sType, pMeta);
 				} else if (r.canAs(RDFList.class)) {
-					o = new OList(this);
+					o = newOList();
 					parseIntoCollection(r.as(RDFList.class), (Collection)o, sType, pMeta);
 				} else {
 					// If it has a URI and no child properties, we interpret this as an
@@ -283,7 +289,7 @@ public class RdfParserSession extends ReaderParserSession {
 					if (uri != null && ! r.listProperties().hasNext()) {
 						o = r.getURI();
 					} else {
-						OMap m2 = new OMap(this);
+						OMap m2 = newOMap();
 						parseIntoMap(r, m2, null, null, pMeta);
 						o = cast(m2, pMeta, eType);
 					}
@@ -309,7 +315,7 @@ public class RdfParserSession extends ReaderParserSession {
 			if (sType.isArray() || sType.isArgs())
 				o = new ArrayList();
 			else
-				o = (sType.canCreateNewInstance(outer) ? (Collection<?>)sType.newInstance(outer) : new OList(this));
+				o = (sType.canCreateNewInstance(outer) ? (Collection<?>)sType.newInstance(outer) : newOList());
 			Resource r = n.asResource();
 			if (! urisVisited.add(r))
 				return null;
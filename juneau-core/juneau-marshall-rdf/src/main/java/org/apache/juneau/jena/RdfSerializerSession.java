@@ -117,6 +117,12 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		return XmlUtils.encodeElementName(toString(o));
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		// The model keeps the statements added by previous calls.
+		return false;
+	}
+
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
 
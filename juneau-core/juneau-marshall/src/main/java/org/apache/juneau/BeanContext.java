@@ -216,6 +216,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useMethodHandles,
 		useEnumNames,
 		sortProperties,
 		findFluentSetters;
@@ -233,6 +234,7 @@ public class BeanContext extends Context {
 	final List<String> notBeanPackages;
 
 	final Map<Class,ClassMeta> cmCache;
+	private final Map<Class,CountDownLatch> cmPending = new ConcurrentHashMap<>();  // Classes whose ClassMeta is about to be added to cmCache.
 
 	private final String[] notBeanPackageNames, notBeanPackagePrefixes;
 	private final BeanRegistry beanRegistry;
@@ -277,6 +279,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters = builder.ignoreInvocationExceptionsOnGetters;
 		ignoreInvocationExceptionsOnSetters = builder.ignoreInvocationExceptionsOnSetters;
 		useJavaBeanIntrospector = builder.useJavaBeanIntrospector;
+		useMethodHandles = builder.useMethodHandles;
 		sortProperties = builder.sortProperties;
 		findFluentSetters = builder.findFluentSetters;
 		typePropertyName = ofNullable(builder.typePropertyName).orElse("_type");
@@ -508,13 +511,22 @@ public class BeanContext extends Context {
 			return null;
 
 		ClassMeta<T> cm = cmCache.get(type);
-		if (cm == null) {
-
-			synchronized (this) {
-				// Make sure someone didn't already set it while this thread was blocked.
-				cm = cmCache.get(type);
-				if (cm == null)
+		while (cm == null) {
+
+			// Claim the class so that other threads wait for our ClassMeta instead of creating their own.
+			// The claim is only held until the ClassMeta constructor adds itself to the cache, so threads creating
+			// ClassMetas for unrelated classes never block each other.
+			CountDownLatch latch = new CountDownLatch(1), other = cmPending.putIfAbsent(type, latch);
+			if (other == null) {
+				try {
 					cm = new ClassMeta<>(type, this, findPojoSwaps(type), findChildPojoSwaps(type));
+				} finally {
+					cmPending.remove(type, latch);
+					latch.countDown();
+				}
+			} else {
+				awaitUninterruptibly(other);
+				cm = cmCache.get(type);  // Null if the other thread failed or the class isn't cacheable.
 			}
 		}
 		if (waitForInit)
@@ -522,6 +534,34 @@ public class BeanContext extends Context {
 		return cm;
 	}
 
+	/**
+	 * Called by the {@link ClassMeta} constructor to add itself to the cache before it's fully initialized so that
+	 * recursive references can be resolved.
+	 *
+	 * @param type The class being wrapped.
+	 * @param cm The class meta being constructed.
+	 */
+	final void cacheClassMeta(Class<?> type, ClassMeta<?> cm) {
+		cmCache.put(type, cm);
+		CountDownLatch latch = cmPending.get(type);
+		if (latch != null)
+			latch.countDown();
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				latch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
 	/**
 	 * Used to resolve <c>ClassMetas</c> of type <c>Collection</c> and <c>Map</c> that have
 	 * <c>ClassMeta</c> values that themselves could be collections or maps.
@@ -1227,6 +1267,17 @@ public class BeanContext extends Context {
 		return useJavaBeanIntrospector;
 	}
 
+	/**
+	 * Use method handles for bean property access.
+	 *
+	 * @see BeanContextBuilder#useMethodHandles()
+	 * @return
+	 * 	<jk>true</jk> if bean properties are read and written through method handles instead of reflection.
+	 */
+	public final boolean isUseMethodHandles() {
+		return useMethodHandles;
+	}
+
 	/**
 	 * Locale.
 	 *
@@ -1310,6 +1361,7 @@ public class BeanContext extends Context {
 					.a("useEnumNames", useEnumNames)
 					.a("useInterfaceProxies", useInterfaceProxies)
 					.a("useJavaBeanIntrospector", useJavaBeanIntrospector)
+					.a("useMethodHandles", useMethodHandles)
 			);
 	}
 }
\ No newline at end of file
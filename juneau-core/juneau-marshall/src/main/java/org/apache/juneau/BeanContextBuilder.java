@@ -69,7 +69,7 @@ public class BeanContextBuilder extends ContextBuilder {
 	boolean disableBeansRequireSomeProperties, beanMapPutReturnsOldValue, beansRequireDefaultConstructor, beansRequireSerializable,
 		beansRequireSettersForGetters, disableIgnoreTransientFields, disableIgnoreUnknownNullBeanProperties, disableIgnoreMissingSetters,
 		disableInterfaceProxies, findFluentSetters, ignoreInvocationExceptionsOnGetters, ignoreInvocationExceptionsOnSetters,
-		ignoreUnknownBeanProperties, sortProperties, useEnumNames, useJavaBeanIntrospector;
+		ignoreUnknownBeanProperties, sortProperties, useEnumNames, useJavaBeanIntrospector, useMethodHandles;
 	String typePropertyName;
 	MediaType mediaType;
 	Locale locale;
@@ -110,6 +110,7 @@ public class BeanContextBuilder extends ContextBuilder {
 		sortProperties = env("BeanContext.sortProperties", false);
 		useEnumNames = env("BeanContext.useEnumNames", false);
 		useJavaBeanIntrospector = env("BeanContext.useJavaBeanIntrospector", false);
+		useMethodHandles = env("BeanContext.useMethodHandles", false);
 		typePropertyName = env("BeanContext.typePropertyName", "_type");
 		mediaType = env("BeanContext.mediaType", (MediaType)null);
 		timeZone = env("BeanContext.timeZone", (TimeZone)null);
@@ -148,6 +149,7 @@ public class BeanContextBuilder extends ContextBuilder {
 		sortProperties = copyFrom.sortProperties;
 		useEnumNames = copyFrom.useEnumNames;
 		useJavaBeanIntrospector = copyFrom.useJavaBeanIntrospector;
+		useMethodHandles = copyFrom.useMethodHandles;
 		typePropertyName = copyFrom.typePropertyName;
 		mediaType = copyFrom.mediaType;
 		timeZone = copyFrom.timeZone;
@@ -186,6 +188,7 @@ public class BeanContextBuilder extends ContextBuilder {
 		sortProperties = copyFrom.sortProperties;
 		useEnumNames = copyFrom.useEnumNames;
 		useJavaBeanIntrospector = copyFrom.useJavaBeanIntrospector;
+		useMethodHandles = copyFrom.useMethodHandles;
 		typePropertyName = copyFrom.typePropertyName;
 		mediaType = copyFrom.mediaType;
 		timeZone = copyFrom.timeZone;
@@ -228,7 +231,8 @@ public class BeanContextBuilder extends ContextBuilder {
 				ignoreUnknownBeanProperties,
 				sortProperties,
 				useEnumNames,
-				useJavaBeanIntrospector
+				useJavaBeanIntrospector,
+				useMethodHandles
 			),
 			typePropertyName,
 			mediaType,
@@ -3208,6 +3212,51 @@ public class BeanContextBuilder extends ContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Use method handles for bean property access.
+	 *
+	 * <p>
+	 * When enabled, bean property getters, setters, and fields are invoked through {@link java.lang.invoke.MethodHandle MethodHandles}
+	 * that are created once when the bean metadata is initialized instead of through {@link Method#invoke(Object, Object...)}
+	 * and {@link Field#get(Object)}/{@link Field#set(Object, Object)} on every property read and write.
+	 * <br>This avoids the varargs array allocation and per-call access checks of core reflection.
+	 *
+	 * <p>
+	 * Properties whose members cannot be resolved to method handles (e.g. due to a security manager) and dynamic
+	 * <js>"*"</js> properties quietly fall back to reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses method handles to read bean properties.</jc>
+	 * 	WriterSerializer <jv>serializer</jv> = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useMethodHandles()
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='ja'>{@link BeanConfig#useMethodHandles()}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public BeanContextBuilder useMethodHandles() {
+		return useMethodHandles(true);
+	}
+
+	/**
+	 * Same as {@link #useMethodHandles()} but allows you to explicitly specify the value.
+	 *
+	 * @param value The value for this setting.
+	 * @return This object.
+	 */
+	@FluentSetter
+	public BeanContextBuilder useMethodHandles(boolean value) {
+		useMethodHandles = value;
+		return this;
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - ContextBuilder */
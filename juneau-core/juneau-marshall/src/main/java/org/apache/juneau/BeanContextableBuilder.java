@@ -2878,6 +2878,34 @@ public abstract class BeanContextableBuilder extends ContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Use method handles for bean property access.
+	 *
+	 * <p>
+	 * Bean property getters, setters, and fields are invoked through method handles created when the bean metadata is
+	 * initialized instead of through reflection on every property read and write.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses method handles to read bean properties.</jc>
+	 * 	WriterSerializer <jv>serializer</jv> = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useMethodHandles()
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jmf'>{@link BeanContextBuilder#useMethodHandles()}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public BeanContextableBuilder useMethodHandles() {
+		bcBuilder.useMethodHandles();
+		return this;
+	}
+
 	@Override
 	public BeanContextableBuilder apply(AnnotationWorkList work) {
 		super.apply(work);
@@ -26,6 +26,7 @@ import java.util.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.reflect.*;
 
 /**
@@ -99,6 +100,7 @@ public class BeanMeta<T> {
 	final BeanRegistry beanRegistry;
 	final boolean sortProperties;
 	final boolean fluentSetters;
+	private final NameTable propertyNameTable;             // Property names for parsers.
 
 	/**
 	 * Constructor.
@@ -132,6 +134,11 @@ public class BeanMeta<T> {
 		this.typeProperty = BeanPropertyMeta.builder(this, typePropertyName).canRead().canWrite().rawMetaType(ctx.string()).beanRegistry(beanRegistry).build();
 		this.sortProperties = b.sortProperties;
 		this.fluentSetters = b.fluentSetters;
+
+		List<String> names = new ArrayList<>(properties.keySet());
+		names.addAll(hiddenProperties.keySet());
+		names.add(typePropertyName);
+		this.propertyNameTable = new NameTable(names);
 	}
 
 	private static final class Builder<T> {
@@ -856,6 +863,22 @@ public class BeanMeta<T> {
 		return bpm;
 	}
 
+	/**
+	 * Returns the name of the property matching the specified characters in a parser buffer.
+	 *
+	 * <p>
+	 * Includes hidden properties and the <js>"_type"</js> property name.
+	 * <br>Allows parsers to resolve property names without creating a new string for every occurrence.
+	 *
+	 * @param buff The character buffer.
+	 * @param start The start position in the buffer.
+	 * @param len The number of characters.
+	 * @return The property name, or <jk>null</jk> if the characters don't match a property name on this bean.
+	 */
+	public String getPropertyName(char[] buff, int start, int len) {
+		return propertyNameTable.get(buff, start, len);
+	}
+
 	/**
 	 * Creates a new instance of this bean.
 	 *
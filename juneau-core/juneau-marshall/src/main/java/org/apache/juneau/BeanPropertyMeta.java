@@ -20,6 +20,7 @@ import static org.apache.juneau.internal.ObjectUtils.*;
 import static org.apache.juneau.internal.ExceptionUtils.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
@@ -55,6 +56,7 @@ public final class BeanPropertyMeta {
 	private final Field field;                                // The bean property field (if it has one).
 	private final Field innerField;                                // The bean property field (if it has one).
 	private final Method getter, setter, extraKeys;           // The bean property getter and setter.
+	private final MethodHandle getterHandle, setterHandle;    // Method handle accessors (if BeanContext.useMethodHandles is enabled).
 	private final boolean isUri;                              // True if this is a URL/URI or annotated with @URI.
 	private final boolean isDyna, isDynaGetterMap;            // This is a dyna property (i.e. name="*")
 
@@ -404,6 +406,47 @@ public final class BeanPropertyMeta {
 		this.readOnly = b.readOnly;
 		this.writeOnly = b.writeOnly;
 		this.hashCode = HashCode.of(beanMeta,name);
+
+		boolean useMethodHandles = beanContext != null && beanContext.isUseMethodHandles() && ! isDyna;
+		this.getterHandle = useMethodHandles ? findGetterHandle(getter, field) : null;
+		this.setterHandle = useMethodHandles ? findSetterHandle(setter, field) : null;
+	}
+
+	private static final MethodType
+		GETTER_TYPE = MethodType.methodType(Object.class, Object.class),
+		SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/*
+	 * Resolves the getter or field into a method handle of type (Object)Object.
+	 * Returns null if the member cannot be accessed through a method handle so that reflection is used instead.
+	 */
+	private static MethodHandle findGetterHandle(Method getter, Field field) {
+		try {
+			if (getter != null)
+				return getter.getParameterCount() == 0 ? MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE) : null;
+			if (field != null)
+				return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			// Fall back to reflection.
+		}
+		return null;
+	}
+
+	/*
+	 * Resolves the setter or field into a method handle of type (Object,Object)void.
+	 * Return values of fluent setters are discarded.
+	 * Returns null if the member cannot be accessed through a method handle so that reflection is used instead.
+	 */
+	private static MethodHandle findSetterHandle(Method setter, Field field) {
+		try {
+			if (setter != null)
+				return setter.getParameterCount() == 1 ? MethodHandles.lookup().unreflect(setter).asType(SETTER_TYPE) : null;
+			if (field != null && ! Modifier.isFinal(field.getModifiers()))
+				return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			// Fall back to reflection.
+		}
+		return null;
 	}
 
 	/**
@@ -852,6 +895,13 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (getterHandle != null) {
+			try {
+				return (Object)getterHandle.invokeExact(bean);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -872,6 +922,14 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		if (setterHandle != null) {
+			try {
+				setterHandle.invokeExact(bean, val);
+				return null;
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
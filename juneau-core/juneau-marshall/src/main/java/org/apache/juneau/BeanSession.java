@@ -1575,6 +1575,17 @@ public class BeanSession extends Session {
 		return ctx.isUseJavaBeanIntrospector();
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * @see BeanContextBuilder#useMethodHandles()
+	 * @return
+	 * 	<jk>true</jk> if bean properties are read and written through method handles instead of reflection.
+	 */
+	public final boolean isUseMethodHandles() {
+		return ctx.isUseMethodHandles();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -41,6 +41,24 @@ public class BeanSessionArgs extends SessionArgs {
 	 */
 	public BeanSessionArgs() {}
 
+	/**
+	 * Copy constructor.
+	 *
+	 * @param copyFrom The args to copy from.
+	 */
+	protected BeanSessionArgs(BeanSessionArgs copyFrom) {
+		super(copyFrom);
+		schema = copyFrom.schema;
+		timeZone = copyFrom.timeZone;
+		locale = copyFrom.locale;
+		mediaType = copyFrom.mediaType;
+	}
+
+	@Override /* SessionArgs */
+	public BeanSessionArgs copy() {
+		return new BeanSessionArgs(this);
+	}
+
 	/**
 	 * Static creator method.
 	 *
@@ -665,5 +665,11 @@ public abstract class BeanTraverseBuilder extends BeanContextableBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public BeanTraverseBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 }
\ No newline at end of file
@@ -41,8 +41,15 @@ import org.apache.juneau.collections.*;
 public class BeanTraverseSession extends BeanSession {
 
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private final boolean trackStack;                                               // If 'true', we keep track of the current branch of the model.
+
+	// The current branch of the model.
+	// Allocated on the first push and grown as needed, so each push/pop is a couple of array writes.
+	private Object[] stackObjects;
+	private String[] stackNames;
+	private ClassMeta<?>[] stackTypes;
+	private int stackSize;
+	private Object[] identitySet;                                                   // Open-addressing identity set of the objects in the stack.
 
 	// Writable properties
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
@@ -73,11 +80,22 @@ public class BeanTraverseSession extends BeanSession {
 		args = args == null ? BeanSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
-		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
-		} else {
-			set = Collections.emptyMap();
+		this.trackStack = isDetectRecursions() || isDebug();
+	}
+
+	@Override /* Session */
+	protected boolean reset() {
+		if (stackSize > 0) {
+			Arrays.fill(stackObjects, 0, stackSize, null);
+			Arrays.fill(identitySet, null);
+			stackSize = 0;
 		}
+		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+		indent = getInitialDepth();
+		depth = 0;
+		return super.reset();
 	}
 
 	/**
@@ -121,12 +139,12 @@ public class BeanTraverseSession extends BeanSession {
 			return cm;
 		if (depth > getMaxDepth())
 			return null;
-		if (isDetectRecursions() || isDebug()) {
+		if (trackStack) {
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
-			set.put(o, o);
+			stackPush(attrName, o, cm);
+			identityAdd(o);
 		}
 		return cm;
 	}
@@ -154,14 +172,14 @@ public class BeanTraverseSession extends BeanSession {
 	 * @throws BeanRecursionException If recursion occurred.
 	 */
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws BeanRecursionException {
-		if (! (isDetectRecursions() || isDebug()))
+		if (! trackStack)
 			return false;
-		if (! set.containsKey(o))
+		if (stackSize == 0 || identityIndex(o) == -1)
 			return false;
 		if (isIgnoreRecursions() && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		stackPush(attrName, o, cm);
 		throw new BeanRecursionException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -180,15 +198,76 @@ public class BeanTraverseSession extends BeanSession {
 	protected final void pop() {
 		indent--;
 		depth--;
-		if ((isDetectRecursions() || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
-				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.", className(o), stack);
+		if (trackStack && ! isBottom)  {
+			Object o = stackObjects[--stackSize];
+			stackObjects[stackSize] = null;
+			if (! identityRemove(o))
+				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.", className(o), getStack(false));
 		}
 		isBottom = false;
 	}
 
+	private void stackPush(String name, Object o, ClassMeta<?> cm) {
+		if (stackObjects == null || stackSize == stackObjects.length)
+			growStack();
+		stackObjects[stackSize] = o;
+		stackNames[stackSize] = name;
+		stackTypes[stackSize] = cm;
+		stackSize++;
+	}
+
+	private void growStack() {
+		int n = stackObjects == null ? Math.min(Math.max(getMaxDepth(), 0), 14) + 2 : stackObjects.length * 2;
+		stackObjects = stackObjects == null ? new Object[n] : Arrays.copyOf(stackObjects, n);
+		stackNames = stackNames == null ? new String[n] : Arrays.copyOf(stackNames, n);
+		stackTypes = stackTypes == null ? new ClassMeta<?>[n] : Arrays.copyOf(stackTypes, n);
+
+		// Keep the identity set at most half full.
+		identitySet = new Object[Integer.highestOneBit(n * 2 - 1) << 1];
+		for (int i = 0; i < stackSize; i++)
+			identityAdd(stackObjects[i]);
+	}
+
+	private int identityIndex(Object o) {
+		Object[] t = identitySet;
+		int m = t.length - 1;
+		for (int i = System.identityHashCode(o) & m; t[i] != null; i = (i + 1) & m)
+			if (t[i] == o)
+				return i;
+		return -1;
+	}
+
+	private void identityAdd(Object o) {
+		Object[] t = identitySet;
+		int m = t.length - 1, i = System.identityHashCode(o) & m;
+		while (t[i] != null) {
+			if (t[i] == o)
+				return;
+			i = (i + 1) & m;
+		}
+		t[i] = o;
+	}
+
+	private boolean identityRemove(Object o) {
+		int i = identityIndex(o);
+		if (i == -1)
+			return false;
+		Object[] t = identitySet;
+		int m = t.length - 1;
+		t[i] = null;
+
+		// Shift back any following entries that can no longer be reached from their home slot.
+		for (int j = (i + 1) & m; t[j] != null; j = (j + 1) & m) {
+			int k = System.identityHashCode(t[j]) & m;
+			if (i <= j ? (i >= k || k > j) : (i >= k && k > j)) {
+				t[i] = t[j];
+				t[j] = null;
+				i = j;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Same as {@link ClassMeta#isOptional()} but gracefully handles a null {@link ClassMeta}.
 	 *
@@ -268,7 +347,7 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (StackElement e : getStackElements()) {
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -292,7 +371,14 @@ public class BeanTraverseSession extends BeanSession {
 		return OMap.create()
 			.appendSkipNull("currentClass", currentClass)
 			.appendSkipNull("currentProperty", currentProperty)
-			.appendSkipEmpty("stack", stack);
+			.appendSkipEmpty("stack", getStackElements());
+	}
+
+	private List<StackElement> getStackElements() {
+		List<StackElement> l = new ArrayList<>(stackSize);
+		for (int i = 0; i < stackSize; i++)
+			l.add(new StackElement(i, stackNames[i], stackObjects[i], stackTypes[i]));
+		return l;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -115,6 +115,10 @@ public final class ClassMeta<T> implements Type {
 
 	private final ReadWriteLock lock = new ReentrantReadWriteLock(false);
 	private final Lock rLock = lock.readLock(), wLock = lock.writeLock();
+	private volatile Thread initThread;                     // The thread running the constructor, or null once initialized.
+
+	// Threads currently blocked in waitForInit() and the class meta they're waiting on.
+	private static final Map<Thread,ClassMeta<?>> WAITING = new IdentityHashMap<>();
 
 	/**
 	 * Construct a new {@code ClassMeta} based on the specified {@link Class}.
@@ -142,11 +146,12 @@ public final class ClassMeta<T> implements Type {
 		this.beanContext = beanContext;
 		String notABeanReason = null;
 
+		initThread = Thread.currentThread();
 		wLock.lock();
 		try {
 			// We always immediately add this class meta to the bean context cache so that we can resolve recursive references.
 			if (beanContext != null && beanContext.cmCache != null && isCacheable(innerClass))
-				beanContext.cmCache.put(innerClass, this);
+				beanContext.cacheClassMeta(innerClass, this);
 
 			ClassMetaBuilder<T> builder = new ClassMetaBuilder(innerClass, beanContext, swaps, childPojoSwaps);
 
@@ -187,6 +192,7 @@ public final class ClassMeta<T> implements Type {
 			throw e;
 		} finally {
 			this.notABeanReason = notABeanReason;
+			initThread = null;
 			wLock.unlock();
 		}
 	}
@@ -206,10 +212,39 @@ public final class ClassMeta<T> implements Type {
 
 	/**
 	 * Causes thread to wait until constructor has exited.
+	 *
+	 * <p>
+	 * Returns immediately if this class meta is being constructed by the current thread (i.e. a recursive reference),
+	 * or if waiting would deadlock because the constructing thread is itself (directly or indirectly) waiting on a
+	 * class meta being constructed by the current thread.
+	 * <br>In both cases, the partially-initialized class meta is returned the same way recursive references within a
+	 * single thread always have been.
 	 */
 	final void waitForInit() {
-		rLock.lock();
-		rLock.unlock();
+		Thread t = initThread;
+		if (t == null)
+			return;
+		Thread current = Thread.currentThread();
+		if (t == current)
+			return;
+		synchronized (WAITING) {
+			for (ClassMeta<?> cm = this; cm != null; cm = WAITING.get(t)) {
+				t = cm.initThread;
+				if (t == null)
+					break;
+				if (t == current)
+					return;
+			}
+			WAITING.put(current, this);
+		}
+		try {
+			rLock.lock();
+			rLock.unlock();
+		} finally {
+			synchronized (WAITING) {
+				WAITING.remove(current);
+			}
+		}
 	}
 
 	/**
@@ -49,7 +49,7 @@ public abstract class Session {
 	protected Session(Context ctx, SessionArgs args) {
 		this.ctx = ctx;
 		this.unmodifiable = args.unmodifiable;
-		SessionProperties sp = args.properties;
+		SessionProperties sp = args.properties == null ? SessionProperties.create() : args.properties;
 		if (args.unmodifiable)
 			sp = sp.unmodifiable();
 		properties = sp;
@@ -163,6 +163,22 @@ public abstract class Session {
 			throw new BeanRuntimeException("Warnings occurred in session: \n" + join(getWarnings(), "\n"));
 	}
 
+	/**
+	 * Clears the state left over from the previous call so that this session can be reused.
+	 *
+	 * <p>
+	 * Called on pooled serializer and parser sessions after each call.
+	 * <br>Subclasses that keep their own per-call state should override this method to clear it, or return
+	 * <jk>false</jk> if that state cannot be cleared.
+	 *
+	 * @return <jk>true</jk> if this session can be reused.
+	 */
+	protected boolean reset() {
+		cache = null;
+		warnings = null;
+		return true;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Configuration properties
 	//-----------------------------------------------------------------------------------------------------------------
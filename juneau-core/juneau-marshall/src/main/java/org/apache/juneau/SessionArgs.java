@@ -27,7 +27,7 @@ import org.apache.juneau.json.*;
 @FluentSetters
 public class SessionArgs {
 
-	SessionProperties properties = SessionProperties.create();
+	SessionProperties properties;
 	boolean unmodifiable;
 
 	/**
@@ -35,6 +35,30 @@ public class SessionArgs {
 	 */
 	public SessionArgs() {}
 
+	/**
+	 * Copy constructor.
+	 *
+	 * @param copyFrom The args to copy from.
+	 */
+	protected SessionArgs(SessionArgs copyFrom) {
+		// Properties are created on demand, so args that never had any are cheap to copy.
+		this.properties = copyFrom.properties == null ? null : SessionProperties.create(copyFrom.properties.asMap());
+		this.unmodifiable = copyFrom.unmodifiable;
+	}
+
+	/**
+	 * Creates a copy of these args.
+	 *
+	 * <p>
+	 * Allows the invariant arguments of sessions created for the same purpose to be set up once and reused, with only
+	 * the arguments that change being set on each copy.
+	 *
+	 * @return A new mutable copy of these args.
+	 */
+	public SessionArgs copy() {
+		return new SessionArgs(this);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -109,8 +133,11 @@ public class SessionArgs {
 	@FluentSetter
 	public SessionArgs property(String key, Object value) {
 		if (value == null) {
-			properties.remove(key);
+			if (properties != null)
+				properties.remove(key);
 		} else {
+			if (properties == null)
+				properties = SessionProperties.create();
 			properties.put(key, value);
 		}
 		return this;
@@ -133,7 +160,7 @@ public class SessionArgs {
 			.create()
 			.filtered()
 			.append("SessionArgs", OMap.create().filtered()
-				.append("properties", properties.asMap())
+				.append("properties", properties == null ? null : properties.asMap())
 			);
 	}
 
@@ -903,4 +903,28 @@ public @interface BeanConfig {
 	 * </ul>
 	 */
 	String useJavaBeanIntrospector() default "";
+
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <p>
+	 * Bean property getters, setters, and fields are invoked through method handles created when the bean metadata is
+	 * initialized instead of through reflection.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 *		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jm'>{@link BeanContextBuilder#useMethodHandles()}
+	 * </ul>
+	 */
+	String useMethodHandles() default "";
 }
@@ -66,6 +66,7 @@ public class BeanConfigAnnotation {
 			bool(a.useEnumNames()).ifPresent(x -> b.useEnumNames(x));
 			bool(a.disableInterfaceProxies()).ifPresent(x -> b.disableInterfaceProxies(x));
 			bool(a.useJavaBeanIntrospector()).ifPresent(x -> b.useJavaBeanIntrospector(x));
+			bool(a.useMethodHandles()).ifPresent(x -> b.useMethodHandles(x));
 			string(a.typePropertyName()).ifPresent(x -> b.typePropertyName(x));
 			string(a.locale()).map(Locale::forLanguageTag).ifPresent(x -> b.locale(x));
 			string(a.mediaType()).map(MediaType::of).ifPresent(x -> b.mediaType(x));
@@ -0,0 +1,463 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.collections;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An {@link OList} that stores its elements in an array instead of a chain of linked nodes.
+ *
+ * <p>
+ * All {@link List} and {@link Deque} methods inherited from {@link LinkedList} are reimplemented on top of the array,
+ * so the inherited linked storage is never used.
+ * <br>Removing from or inserting at the head of the list is <c>O(n)</c> instead of <c>O(1)</c>, which is an acceptable
+ * trade-off for lists produced by parsers.
+ *
+ * <p>
+ * Instances are created through {@link OList#createCompact()}.
+ * <br>The array storage is not part of the serialized form; instances are serialized as regular {@link OList} objects.
+ */
+final class CompactOList extends OList {
+	private static final long serialVersionUID = 1L;
+
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private transient Object[] elements = NO_ELEMENTS;
+	private transient int count;
+
+	CompactOList() {
+		super();
+	}
+
+	private void ensureCapacity(int min) {
+		if (min > elements.length) {
+			int n = Math.max(min, elements.length == 0 ? 8 : elements.length + (elements.length >> 1));
+			elements = Arrays.copyOf(elements, n);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= count)
+			throw new IndexOutOfBoundsException("Index: "+index+", Size: "+count);
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > count)
+			throw new IndexOutOfBoundsException("Index: "+index+", Size: "+count);
+	}
+
+	private Object removeAt(int index) {
+		Object o = elements[index];
+		int n = count - index - 1;
+		if (n > 0)
+			System.arraycopy(elements, index + 1, elements, index, n);
+		elements[--count] = null;
+		modCount++;
+		return o;
+	}
+
+	private Object first() {
+		if (count == 0)
+			throw new NoSuchElementException();
+		return elements[0];
+	}
+
+	private Object last() {
+		if (count == 0)
+			throw new NoSuchElementException();
+		return elements[count - 1];
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// List methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* List */
+	public int size() {
+		return count;
+	}
+
+	@Override /* List */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override /* List */
+	public Object get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	@Override /* List */
+	public Object set(int index, Object element) {
+		checkIndex(index);
+		Object o = elements[index];
+		elements[index] = element;
+		return o;
+	}
+
+	@Override /* List */
+	public boolean add(Object e) {
+		ensureCapacity(count + 1);
+		elements[count++] = e;
+		modCount++;
+		return true;
+	}
+
+	@Override /* List */
+	public void add(int index, Object element) {
+		checkPositionIndex(index);
+		ensureCapacity(count + 1);
+		System.arraycopy(elements, index, elements, index + 1, count - index);
+		elements[index] = element;
+		count++;
+		modCount++;
+	}
+
+	@Override /* List */
+	public boolean addAll(Collection<? extends Object> c) {
+		return addAll(count, c);
+	}
+
+	@Override /* List */
+	public boolean addAll(int index, Collection<? extends Object> c) {
+		checkPositionIndex(index);
+		Object[] a = c.toArray();
+		if (a.length == 0)
+			return false;
+		ensureCapacity(count + a.length);
+		System.arraycopy(elements, index, elements, index + a.length, count - index);
+		System.arraycopy(a, 0, elements, index, a.length);
+		count += a.length;
+		modCount++;
+		return true;
+	}
+
+	@Override /* List */
+	public Object remove(int index) {
+		checkIndex(index);
+		return removeAt(index);
+	}
+
+	@Override /* List */
+	public boolean remove(Object o) {
+		int i = indexOf(o);
+		if (i == -1)
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	@Override /* List */
+	public void clear() {
+		Arrays.fill(elements, 0, count, null);
+		count = 0;
+		modCount++;
+	}
+
+	@Override /* List */
+	public int indexOf(Object o) {
+		for (int i = 0; i < count; i++)
+			if (Objects.equals(o, elements[i]))
+				return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public int lastIndexOf(Object o) {
+		for (int i = count - 1; i >= 0; i--)
+			if (Objects.equals(o, elements[i]))
+				return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public boolean contains(Object o) {
+		return indexOf(o) != -1;
+	}
+
+	@Override /* List */
+	public Object[] toArray() {
+		return Arrays.copyOf(elements, count);
+	}
+
+	@Override /* List */
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if (a.length < count)
+			return (T[])Arrays.copyOf(elements, count, a.getClass());
+		System.arraycopy(elements, 0, a, 0, count);
+		if (a.length > count)
+			a[count] = null;
+		return a;
+	}
+
+	@Override /* List */
+	public Iterator<Object> iterator() {
+		return new Itr(0);
+	}
+
+	@Override /* List */
+	public ListIterator<Object> listIterator(int index) {
+		checkPositionIndex(index);
+		return new Itr(index);
+	}
+
+	@Override /* List */
+	public Spliterator<Object> spliterator() {
+		return Spliterators.spliterator(this, Spliterator.ORDERED);
+	}
+
+	@Override /* Iterable */
+	public void forEach(Consumer<? super Object> action) {
+		int m = modCount;
+		for (int i = 0; i < count; i++) {
+			action.accept(elements[i]);
+			if (m != modCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Deque methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Deque */
+	public Object getFirst() {
+		return first();
+	}
+
+	@Override /* Deque */
+	public Object getLast() {
+		return last();
+	}
+
+	@Override /* Deque */
+	public Object removeFirst() {
+		first();
+		return removeAt(0);
+	}
+
+	@Override /* Deque */
+	public Object removeLast() {
+		last();
+		return removeAt(count - 1);
+	}
+
+	@Override /* Deque */
+	public void addFirst(Object e) {
+		add(0, e);
+	}
+
+	@Override /* Deque */
+	public void addLast(Object e) {
+		add(e);
+	}
+
+	@Override /* Deque */
+	public Object peek() {
+		return peekFirst();
+	}
+
+	@Override /* Deque */
+	public Object element() {
+		return first();
+	}
+
+	@Override /* Deque */
+	public Object poll() {
+		return pollFirst();
+	}
+
+	@Override /* Deque */
+	public Object remove() {
+		return removeFirst();
+	}
+
+	@Override /* Deque */
+	public boolean offer(Object e) {
+		return add(e);
+	}
+
+	@Override /* Deque */
+	public boolean offerFirst(Object e) {
+		add(0, e);
+		return true;
+	}
+
+	@Override /* Deque */
+	public boolean offerLast(Object e) {
+		return add(e);
+	}
+
+	@Override /* Deque */
+	public Object peekFirst() {
+		return count == 0 ? null : elements[0];
+	}
+
+	@Override /* Deque */
+	public Object peekLast() {
+		return count == 0 ? null : elements[count - 1];
+	}
+
+	@Override /* Deque */
+	public Object pollFirst() {
+		return count == 0 ? null : removeAt(0);
+	}
+
+	@Override /* Deque */
+	public Object pollLast() {
+		return count == 0 ? null : removeAt(count - 1);
+	}
+
+	@Override /* Deque */
+	public void push(Object e) {
+		add(0, e);
+	}
+
+	@Override /* Deque */
+	public Object pop() {
+		return removeFirst();
+	}
+
+	@Override /* Deque */
+	public boolean removeFirstOccurrence(Object o) {
+		return remove(o);
+	}
+
+	@Override /* Deque */
+	public boolean removeLastOccurrence(Object o) {
+		int i = lastIndexOf(o);
+		if (i == -1)
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	@Override /* Deque */
+	public Iterator<Object> descendingIterator() {
+		final ListIterator<Object> i = listIterator(count);
+		return new Iterator<Object>() {
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return i.hasPrevious();
+			}
+
+			@Override /* Iterator */
+			public Object next() {
+				return i.previous();
+			}
+
+			@Override /* Iterator */
+			public void remove() {
+				i.remove();
+			}
+		};
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Object */
+	public Object clone() {
+		CompactOList l = (CompactOList)super.clone();
+		l.elements = Arrays.copyOf(elements, count);
+		l.modCount = 0;
+		return l;
+	}
+
+	private Object writeReplace() {
+		return new OList(this);
+	}
+
+	private final class Itr implements ListIterator<Object> {
+		int next, last = -1, expectedModCount = modCount;
+
+		Itr(int index) {
+			next = index;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+		@Override /* ListIterator */
+		public boolean hasNext() {
+			return next < count;
+		}
+
+		@Override /* ListIterator */
+		public Object next() {
+			checkForComodification();
+			if (next >= count)
+				throw new NoSuchElementException();
+			last = next++;
+			return elements[last];
+		}
+
+		@Override /* ListIterator */
+		public boolean hasPrevious() {
+			return next > 0;
+		}
+
+		@Override /* ListIterator */
+		public Object previous() {
+			checkForComodification();
+			if (next <= 0)
+				throw new NoSuchElementException();
+			last = --next;
+			return elements[last];
+		}
+
+		@Override /* ListIterator */
+		public int nextIndex() {
+			return next;
+		}
+
+		@Override /* ListIterator */
+		public int previousIndex() {
+			return next - 1;
+		}
+
+		@Override /* ListIterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkForComodification();
+			removeAt(last);
+			if (last < next)
+				next--;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		@Override /* ListIterator */
+		public void set(Object e) {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkForComodification();
+			elements[last] = e;
+		}
+
+		@Override /* ListIterator */
+		public void add(Object e) {
+			checkForComodification();
+			CompactOList.this.add(next++, e);
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,460 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.collections;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An {@link OMap} that stores up to {@value #MAX_COMPACT_SIZE} entries in a pair of arrays instead of a hash table.
+ *
+ * <p>
+ * Lookups on small maps are done by a linear scan of the key array, which is cheaper in both time and memory than
+ * hashing for the handful of properties found on typical JSON objects.
+ * <br>When the map grows past {@value #MAX_COMPACT_SIZE} entries, or when a method without a compact implementation
+ * is called, the entries are moved into the {@link LinkedHashMap} storage inherited from {@link OMap} and the map
+ * behaves exactly like a regular {@link OMap} from then on.
+ *
+ * <p>
+ * Instances are created through {@link OMap#createCompact()}.
+ */
+final class CompactOMap extends OMap {
+	private static final long serialVersionUID = 1L;
+
+	static final int MAX_COMPACT_SIZE = 16;
+
+	private static final String[] NO_KEYS = new String[0];
+	private static final Object[] NO_VALUES = new Object[0];
+
+	// When null, the entries live in the inherited LinkedHashMap.
+	private transient String[] keys = NO_KEYS;
+	private transient Object[] values = NO_VALUES;
+	private transient int count, mods;
+
+	CompactOMap() {
+		super();
+	}
+
+	private boolean isCompact() {
+		return keys != null;
+	}
+
+	private int indexOf(Object key) {
+		String[] k = keys;
+		if (key == null) {
+			for (int i = 0; i < count; i++)
+				if (k[i] == null)
+					return i;
+		} else {
+			for (int i = 0; i < count; i++)
+				if (key.equals(k[i]))
+					return i;
+		}
+		return -1;
+	}
+
+	private void removeAt(int i) {
+		int n = count - i - 1;
+		if (n > 0) {
+			System.arraycopy(keys, i + 1, keys, i, n);
+			System.arraycopy(values, i + 1, values, i, n);
+		}
+		count--;
+		keys[count] = null;
+		values[count] = null;
+		mods++;
+	}
+
+	/*
+	 * Moves the entries into the inherited hash table.
+	 */
+	private void inflate() {
+		if (! isCompact())
+			return;
+		String[] k = keys;
+		Object[] v = values;
+		int n = count;
+		keys = null;
+		values = null;
+		count = 0;
+		mods++;
+		for (int i = 0; i < n; i++)
+			super.outerPut(k[i], v[i]);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// OMap storage methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* OMap */
+	Object outerGet(Object key) {
+		if (! isCompact())
+			return super.outerGet(key);
+		int i = indexOf(key);
+		return i == -1 ? null : values[i];
+	}
+
+	@Override /* OMap */
+	boolean outerContainsKey(Object key) {
+		if (! isCompact())
+			return super.outerContainsKey(key);
+		return indexOf(key) != -1;
+	}
+
+	@Override /* OMap */
+	Object outerPut(String key, Object value) {
+		if (! isCompact())
+			return super.outerPut(key, value);
+		int i = indexOf(key);
+		if (i != -1) {
+			Object o = values[i];
+			values[i] = value;
+			return o;
+		}
+		if (count == MAX_COMPACT_SIZE) {
+			inflate();
+			return super.outerPut(key, value);
+		}
+		if (count == keys.length) {
+			int n = count == 0 ? 4 : Math.min(count * 2, MAX_COMPACT_SIZE);
+			keys = Arrays.copyOf(keys, n);
+			values = Arrays.copyOf(values, n);
+		}
+		keys[count] = key;
+		values[count] = value;
+		count++;
+		mods++;
+		return null;
+	}
+
+	@Override /* OMap */
+	void outerPutAll(Map<? extends String,? extends Object> m) {
+		if (isCompact() && count + m.size() > MAX_COMPACT_SIZE)
+			inflate();
+		if (! isCompact()) {
+			super.outerPutAll(m);
+			return;
+		}
+		for (Map.Entry<? extends String,? extends Object> e : m.entrySet())
+			outerPut(e.getKey(), e.getValue());
+	}
+
+	@Override /* OMap */
+	Set<String> outerKeySet() {
+		if (! isCompact())
+			return super.outerKeySet();
+		return new AbstractSet<String>() {
+			@Override /* Set */
+			public Iterator<String> iterator() {
+				if (! isCompact())
+					return CompactOMap.super.outerKeySet().iterator();
+				return new Itr<String>() {
+					@Override
+					String get(int i) {
+						return keys[i];
+					}
+				};
+			}
+
+			@Override /* Set */
+			public int size() {
+				return CompactOMap.this.size();
+			}
+
+			@Override /* Set */
+			public boolean contains(Object o) {
+				return outerContainsKey(o);
+			}
+		};
+	}
+
+	@Override /* OMap */
+	Set<Map.Entry<String,Object>> outerEntrySet() {
+		if (! isCompact())
+			return super.outerEntrySet();
+		return new AbstractSet<Map.Entry<String,Object>>() {
+			@Override /* Set */
+			public Iterator<Map.Entry<String,Object>> iterator() {
+				if (! isCompact())
+					return CompactOMap.super.outerEntrySet().iterator();
+				return new Itr<Map.Entry<String,Object>>() {
+					@Override
+					Map.Entry<String,Object> get(int i) {
+						return new Entry(i);
+					}
+				};
+			}
+
+			@Override /* Set */
+			public int size() {
+				return CompactOMap.this.size();
+			}
+		};
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Overridden methods.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Map */
+	public int size() {
+		return isCompact() ? count : super.size();
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		if (! isCompact())
+			return super.remove(key);
+		int i = indexOf(key);
+		if (i == -1)
+			return null;
+		Object o = values[i];
+		removeAt(i);
+		return o;
+	}
+
+	@Override /* Map */
+	public void clear() {
+		if (! isCompact()) {
+			super.clear();
+			return;
+		}
+		Arrays.fill(keys, 0, count, null);
+		Arrays.fill(values, 0, count, null);
+		count = 0;
+		mods++;
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		if (! isCompact())
+			return super.containsValue(value);
+		for (int i = 0; i < count; i++)
+			if (Objects.equals(value, values[i]))
+				return true;
+		return false;
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		if (! isCompact())
+			return super.values();
+		return new AbstractCollection<Object>() {
+			@Override /* Collection */
+			public Iterator<Object> iterator() {
+				if (! isCompact())
+					return CompactOMap.super.values().iterator();
+				return new Itr<Object>() {
+					@Override
+					Object get(int i) {
+						return values[i];
+					}
+				};
+			}
+
+			@Override /* Collection */
+			public int size() {
+				return CompactOMap.this.size();
+			}
+		};
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super Object> action) {
+		if (! isCompact()) {
+			super.forEach(action);
+			return;
+		}
+		int m = mods;
+		for (int i = 0; i < count; i++) {
+			action.accept(keys[i], values[i]);
+			if (m != mods)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends Object> m) {
+		outerPutAll(m);
+	}
+
+	@Override /* Map */
+	public Object getOrDefault(Object key, Object defaultValue) {
+		if (! isCompact())
+			return super.getOrDefault(key, defaultValue);
+		int i = indexOf(key);
+		return i == -1 ? defaultValue : values[i];
+	}
+
+	// The following methods have no compact implementation.
+
+	@Override /* Map */
+	public Object putIfAbsent(String key, Object value) {
+		inflate();
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override /* Map */
+	public boolean remove(Object key, Object value) {
+		inflate();
+		return super.remove(key, value);
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		inflate();
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override /* Map */
+	public Object replace(String key, Object value) {
+		inflate();
+		return super.replace(key, value);
+	}
+
+	@Override /* Map */
+	public Object computeIfAbsent(String key, Function<? super String,? extends Object> mappingFunction) {
+		inflate();
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override /* Map */
+	public Object computeIfPresent(String key, BiFunction<? super String,? super Object,? extends Object> remappingFunction) {
+		inflate();
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public Object compute(String key, BiFunction<? super String,? super Object,? extends Object> remappingFunction) {
+		inflate();
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public Object merge(String key, Object value, BiFunction<? super Object,? super Object,? extends Object> remappingFunction) {
+		inflate();
+		return super.merge(key, value, remappingFunction);
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super Object,? extends Object> function) {
+		inflate();
+		super.replaceAll(function);
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		inflate();
+		return super.clone();
+	}
+
+	private Object writeReplace() {
+		inflate();
+		return this;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Views
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private abstract class Itr<T> implements Iterator<T> {
+		int next, last = -1, expectedMods = mods;
+
+		abstract T get(int i);
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			return next < count;
+		}
+
+		@Override /* Iterator */
+		public T next() {
+			if (expectedMods != mods)
+				throw new ConcurrentModificationException();
+			if (next >= count)
+				throw new NoSuchElementException();
+			last = next++;
+			return get(last);
+		}
+
+		@Override /* Iterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			if (expectedMods != mods)
+				throw new ConcurrentModificationException();
+			removeAt(last);
+			next = last;
+			last = -1;
+			expectedMods = mods;
+		}
+	}
+
+	private final class Entry implements Map.Entry<String,Object> {
+		private final String key;
+		private final int index, expectedMods = mods;
+
+		Entry(int index) {
+			this.index = index;
+			this.key = keys[index];
+		}
+
+		@Override /* Map.Entry */
+		public String getKey() {
+			return key;
+		}
+
+		@Override /* Map.Entry */
+		public Object getValue() {
+			return isCurrent() ? values[index] : outerGet(key);
+		}
+
+		@Override /* Map.Entry */
+		public Object setValue(Object value) {
+			if (isCurrent()) {
+				Object o = values[index];
+				values[index] = value;
+				return o;
+			}
+			return outerPut(key, value);
+		}
+
+		// The entry index is valid as long as no entries have been added or removed.
+		private boolean isCurrent() {
+			return expectedMods == mods && isCompact();
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof Map.Entry))
+				return false;
+			Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+			return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
@@ -248,6 +248,22 @@ public class OList extends LinkedList<Object> {
 		return new OList();
 	}
 
+	/**
+	 * Construct an empty list that stores its elements in an array instead of linked nodes.
+	 *
+	 * <p>
+	 * The returned list supports all the methods of this class, but uses significantly less memory per element.
+	 * <br>Inserting or removing elements at the head of the list is slower than on a regular list.
+	 *
+	 * <p>
+	 * Used by parsers when {@link org.apache.juneau.parser.Parser#PARSER_compactCollections} is enabled.
+	 *
+	 * @return An empty list.
+	 */
+	public static OList createCompact() {
+		return new CompactOList();
+	}
+
 	/**
 	 * Construct a list initialized with the specified list.
 	 *
@@ -257,6 +257,23 @@ public class OMap extends LinkedHashMap<String,Object> {
 		return new OMap();
 	}
 
+	/**
+	 * Construct an empty map that uses a compact array-backed representation while it's small.
+	 *
+	 * <p>
+	 * Maps with a handful of entries (such as typical JSON objects) are stored as arrays of keys and values instead of
+	 * a hash table, which significantly reduces their memory footprint.
+	 * <br>The map switches to the regular {@link LinkedHashMap} storage once it grows larger.
+	 *
+	 * <p>
+	 * Used by parsers when {@link org.apache.juneau.parser.Parser#PARSER_compactCollections} is enabled.
+	 *
+	 * @return An empty map.
+	 */
+	public static OMap createCompact() {
+		return new CompactOMap();
+	}
+
 	/**
 	 * Construct a map initialized with the specified map.
 	 *
@@ -415,7 +432,7 @@ public class OMap extends LinkedHashMap<String,Object> {
 	 * @return This object (for method chaining).
 	 */
 	public OMap append(Map<String,Object> values) {
-		super.putAll(values);
+		outerPutAll(values);
 		return this;
 	}
 
@@ -785,7 +802,7 @@ public class OMap extends LinkedHashMap<String,Object> {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public <T> T getSwapped(String key, PojoSwap<T,?> pojoSwap) throws ParseException {
 		try {
-			Object o = super.get(key);
+			Object o = outerGet(key);
 			if (o == null)
 				return null;
 			PojoSwap swap = pojoSwap;
@@ -1376,7 +1393,7 @@ public class OMap extends LinkedHashMap<String,Object> {
 	 * @return <jk>true</jk> if this map contains the specified key.
 	 */
 	public boolean containsOuterKey(Object key) {
-		return super.containsKey(key);
+		return outerContainsKey(key);
 	}
 
 	/**
@@ -1599,7 +1616,7 @@ public class OMap extends LinkedHashMap<String,Object> {
 	@Override
 	public Object put(String key, Object value) {
 		if (valueFilter.test(value))
-			super.put(key, value);
+			outerPut(key, value);
 		return null;
 	}
 
@@ -1822,6 +1839,36 @@ public class OMap extends LinkedHashMap<String,Object> {
 		p.parseIntoMap(r, this, bs().string(), bs().object());
 	}
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Storage methods.
+	// Access to the entries of this map (ignoring the inner map) goes through these methods so that subclasses can
+	// provide their own storage.
+	//------------------------------------------------------------------------------------------------------------------
+
+	Object outerGet(Object key) {
+		return super.get(key);
+	}
+
+	boolean outerContainsKey(Object key) {
+		return super.containsKey(key);
+	}
+
+	Object outerPut(String key, Object value) {
+		return super.put(key, value);
+	}
+
+	void outerPutAll(Map<? extends String,? extends Object> m) {
+		super.putAll(m);
+	}
+
+	Set<String> outerKeySet() {
+		return super.keySet();
+	}
+
+	Set<Map.Entry<String,Object>> outerEntrySet() {
+		return super.entrySet();
+	}
+
 	private static final class UnmodifiableOMap extends OMap {
 		private static final long serialVersionUID = 1L;
 
@@ -1856,7 +1903,7 @@ public class OMap extends LinkedHashMap<String,Object> {
 
 	@Override /* Map */
 	public Object get(Object key) {
-		Object o = super.get(key);
+		Object o = outerGet(key);
 		if (o == null && inner != null)
 			o = inner.get(key);
 		return o;
@@ -1864,7 +1911,7 @@ public class OMap extends LinkedHashMap<String,Object> {
 
 	@Override /* Map */
 	public boolean containsKey(Object key) {
-		if (super.containsKey(key))
+		if (outerContainsKey(key))
 			return true;
 		if (inner != null)
 			return inner.containsKey(key);
@@ -1874,17 +1921,17 @@ public class OMap extends LinkedHashMap<String,Object> {
 	@Override /* Map */
 	public Set<String> keySet() {
 		if (inner == null)
-			return super.keySet();
+			return outerKeySet();
 		LinkedHashSet<String> s = new LinkedHashSet<>();
 		s.addAll(inner.keySet());
-		s.addAll(super.keySet());
+		s.addAll(outerKeySet());
 		return s;
 	}
 
 	@Override /* Map */
 	public Set<Map.Entry<String,Object>> entrySet() {
 		if (inner == null)
-			return super.entrySet();
+			return outerEntrySet();
 
 		final Set<String> keySet = keySet();
 		final Iterator<String> keys = keySet.iterator();
@@ -128,6 +128,28 @@ public class BasicFileFinder implements FileFinder {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	protected Optional<InputStream> find(String name, Locale locale) throws IOException {
+		LocalFile lf = getLocalFile(name, locale).orElse(null);
+		if (lf == null)
+			return Optional.empty();
+		return Optional.of(lf.read());
+	}
+
+	/**
+	 * Finds the file with the specified name.
+	 *
+	 * <p>
+	 * Same as {@link #getStream(String, Locale)} but returns the file itself so that callers can get at its size
+	 * and modification time.
+	 *
+	 * @param name The resource name.
+	 * 	See {@link Class#getResource(String)} for format.
+	 * @param locale
+	 * 	The locale of the resource to retrieve.
+	 * 	<br>If <jk>null</jk>, won't look for localized file names.
+	 * @return The resolved file, or {@link Optional#empty()} if the file was not found.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public Optional<LocalFile> getLocalFile(String name, Locale locale) throws IOException {
 		name = StringUtils.trimSlashesAndSpaces(name);
 
 		if (isInvalidPath(name))
@@ -164,10 +186,7 @@ public class BasicFileFinder implements FileFinder {
 			}
 		}
 
-		if (lf == null)
-			return Optional.empty();
-
-		return Optional.of(lf.read());
+		return Optional.ofNullable(lf);
 	}
 
 	/**
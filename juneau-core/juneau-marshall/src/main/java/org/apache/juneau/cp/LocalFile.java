@@ -73,6 +73,25 @@ public class LocalFile {
 		return Files.newInputStream(path);
 	}
 
+	/**
+	 * Returns the time this file was last modified.
+	 *
+	 * @return The time this file was last modified in milliseconds since the epoch, or <c>-1</c> if not known.
+	 * @throws IOException If the modification time could not be determined.
+	 */
+	public long lastModified() throws IOException {
+		return (path == null ? -1 : Files.getLastModifiedTime(path).toMillis());
+	}
+
+	/**
+	 * Returns the path of this file on the file system.
+	 *
+	 * @return The path of this file, or <jk>null</jk> if this is a classpath resource.
+	 */
+	public Path getPath() {
+		return path;
+	}
+
 	/**
 	 * Returns the size of this file.
 	 *
@@ -21,7 +21,31 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses CSV documents into collections and arrays of beans or maps.
+ *
+ * <p>
+ * The first row is the header row containing the bean property names or map keys.
+ * <br>Each remaining row is parsed into a single bean or map.
+ * <br>Cells can be enclosed in double quotes, in which case they can contain commas, line breaks, and doubled
+ * (<js>"\"\""</js>) quote characters.
+ * <br>Unquoted <js>"null"</js> cells are parsed as <jk>null</jk> values.
+ * <br>Columns of collection or array types (e.g. <c>List</c> bean properties) are not supported unless the type has a
+ * swap, and cause a {@link ParseException} to be thrown.
+ *
+ * <p>
+ * Large documents can be read one row at a time using {@link #parseStream(Object, Class)}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Parse all rows into a list.</jc>
+ * 	List&lt;MyBean&gt; <jv>l</jv> = CsvParser.<jsf>DEFAULT</jsf>.parse(<jv>csv</jv>, List.<jk>class</jk>, MyBean.<jk>class</jk>);
+ *
+ * 	<jc>// Process rows one at a time.</jc>
+ * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; <jv>i</jv> = CsvParser.<jsf>DEFAULT</jsf>.parseStream(<jv>reader</jv>, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (<jv>i</jv>.hasNext())
+ * 			process(<jv>i</jv>.next());
+ * 	}
+ * </p>
  */
 @ConfigurableContext
 public class CsvParser extends ReaderParser implements CsvMetaProvider, CsvCommon {
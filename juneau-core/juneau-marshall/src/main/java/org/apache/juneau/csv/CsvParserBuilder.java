@@ -503,12 +503,24 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public CsvParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public CsvParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public CsvParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public CsvParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -521,6 +533,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public CsvParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public CsvParserBuilder strict() {
 		super.strict();
@@ -13,10 +13,13 @@
 package org.apache.juneau.csv;
 
 import java.io.IOException;
+import java.lang.reflect.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
 
 /**
  * Session object that lives for the duration of a single use of {@link CsvParser}.
@@ -25,6 +28,7 @@ import org.apache.juneau.parser.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
 	/**
@@ -41,7 +45,7 @@ public final class CsvParserSession extends ReaderParserSession {
 	}
 
 	@Override /* ParserSession */
-	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException {
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
@@ -49,9 +53,324 @@ public final class CsvParserSession extends ReaderParserSession {
 		}
 	}
 
-	@SuppressWarnings({})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws ParseException {
-		throw new ParseException("Not implemented.");
+	@Override /* ParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws IOException, ParseException, ExecutableException {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r != null)
+				parseIntoCollection(r, c, (ClassMeta<E>)getClassMeta(elementType), getOuter());
+			return c;
+		}
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseStream(ParserPipe pipe, ClassMeta<E> elementType) throws IOException, ParseException, ExecutableException {
+		ParserReader r = pipe.getParserReader();
+		return new CsvParserIterator<>(pipe, r == null ? null : new RowReader<>(r, elementType, getOuter()));
+	}
+
+	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+
+		if (eType == null)
+			eType = (ClassMeta<T>)object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getSwap(this);
+		ClassMeta<?> sType = swap == null ? eType : swap.getSwapClassMeta(this);
+		setCurrentClass(sType);
+
+		Object o = null;
+
+		if (sType.isObject()) {
+			o = parseIntoCollection(r, newOList(), object(), outer);
+		} else if (sType.isCollection()) {
+			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : newOList());
+			o = parseIntoCollection(r, l, sType.getElementType(), outer);
+		} else if (sType.isArray()) {
+			o = toArray(sType, parseIntoCollection(r, new ArrayList(), sType.getElementType(), outer));
+		} else {
+			throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+				sType.getInnerClass().getName(), "CSV can only be parsed into collections and arrays.");
+		}
+
+		if (swap != null && o != null)
+			o = unswap(swap, o, eType);
+
+		return (T)o;
+	}
+
+	private <E> Collection<E> parseIntoCollection(ParserReader r, Collection<E> l, ClassMeta<E> type, Object outer) throws IOException, ParseException, ExecutableException {
+		RowReader<E> rr = new RowReader<>(r, type, outer);
+		while (rr.hasRow())
+			l.add(rr.readRow());
+		return l;
+	}
+
+	/*
+	 * Iterates over the rows of a CSV document.
+	 */
+	private class CsvParserIterator<E> extends ParserIterator<E> {
+		private final RowReader<E> rows;
+
+		CsvParserIterator(ParserPipe pipe, RowReader<E> rows) {
+			super(CsvParserSession.this, pipe);
+			this.rows = rows;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean readNext() throws IOException, ParseException, ExecutableException {
+			if (rows == null || ! rows.hasRow())
+				return false;
+			setNext(rows.readRow());
+			return true;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Row reader
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static final int
+		CELL_OTHER = 0,  // Converted using convertAttrToType().
+		CELL_STRING = 1, // Plain string, no conversion.
+		CELL_INT = 2,    // int or Integer, parsed directly from the buffer.
+		CELL_LONG = 3;   // long or Long, parsed directly from the buffer.
+
+	/*
+	 * Reads the header row of a CSV document, then reads the remaining rows one at a time.
+	 *
+	 * The header columns are resolved to bean properties (or map keys) once.
+	 * Cells are read into a single reusable buffer, and integer cells are parsed directly from that buffer.
+	 */
+	private class RowReader<E> {
+		private final ParserReader r;
+		private final ClassMeta<E> type;
+		private final ClassMeta<?> sType;
+		private final PojoSwap<E,Object> swap;
+		private final Object outer;
+		private final StringBuilder sb = new StringBuilder();
+		private boolean quoted;
+
+		private String[] names = new String[0];
+		private Object[] keys;
+		private BeanPropertyMeta[] pMetas;
+		private ClassMeta<?>[] cellTypes;
+		private int[] cellKinds;
+
+		RowReader(ParserReader r, ClassMeta<E> type, Object outer) throws IOException, ParseException, ExecutableException {
+			this.r = r;
+			this.type = type == null ? (ClassMeta<E>)object() : type;
+			this.swap = (PojoSwap<E,Object>)this.type.getSwap(CsvParserSession.this);
+			this.sType = swap == null ? this.type : swap.getSwapClassMeta(CsvParserSession.this);
+			this.outer = outer;
+
+			if (! (sType.isObject() || sType.isMap() || sType.canCreateNewBean(outer)))
+				throw new ParseException(CsvParserSession.this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+					sType.getInnerClass().getName(), "CSV rows can only be parsed into beans and maps.");
+
+			if (hasRow()) {
+				List<String> l = new ArrayList<>();
+				int c;
+				do {
+					c = readCell();
+					l.add(sb.toString());
+				} while (c == ',');
+				names = l.toArray(new String[l.size()]);
+			}
+
+			int n = names.length;
+			cellTypes = new ClassMeta<?>[n];
+			cellKinds = new int[n];
+			if (sType.isBean()) {
+				BeanMeta<?> bm = sType.getBeanMeta();
+				pMetas = new BeanPropertyMeta[n];
+				for (int i = 0; i < n; i++) {
+					pMetas[i] = bm.getPropertyMeta(names[i]);
+					cellTypes[i] = pMetas[i] == null ? object() : pMetas[i].getClassMeta();
+				}
+			} else {
+				ClassMeta<?> kType = sType.isMap() ? sType.getKeyType() : string();
+				ClassMeta<?> vType = sType.isMap() ? sType.getValueType() : object();
+				keys = new Object[n];
+				for (int i = 0; i < n; i++) {
+					keys[i] = convertKey(names[i], kType);
+					cellTypes[i] = vType;
+				}
+			}
+			for (int i = 0; i < n; i++) {
+				ClassMeta<?> cm = cellTypes[i];
+				if ((cm.isCollection() || cm.isArray()) && cm.getSwap(CsvParserSession.this) == null)
+					throw new ParseException(CsvParserSession.this, "Column ''{0}'' cannot be parsed into type ''{1}''.  Reason: ''{2}''",
+						names[i], cm.getInnerClass().getName(), "CSV cells cannot be parsed into collections and arrays.");
+				cellKinds[i] = getCellKind(cm);
+			}
+		}
+
+		/*
+		 * Returns true if there's another row to read, skipping over blank lines.
+		 */
+		boolean hasRow() throws IOException {
+			while (true) {
+				int c = r.peek();
+				if (c == -1)
+					return false;
+				if (c != '\n' && c != '\r')
+					return true;
+				r.read();
+			}
+		}
+
+		E readRow() throws IOException, ParseException, ExecutableException {
+			Object o;
+			if (sType.isBean()) {
+				BeanMap m = newBeanMap(outer, sType.getInnerClass());
+				int c = ',';
+				for (int i = 0; c == ','; i++) {
+					c = readCell();
+					if (i >= names.length) {
+						onExtraCell(i);
+						continue;
+					}
+					BeanPropertyMeta pMeta = pMetas[i];
+					setCurrentProperty(pMeta);
+					Object value = getCellValue(i, m.getBean(false));
+					if (pMeta == null) {
+						onUnknownProperty(names[i], m, value);
+					} else {
+						try {
+							pMeta.set(m, names[i], value);
+						} catch (BeanRuntimeException e) {
+							onBeanSetterException(pMeta, e);
+							throw e;
+						}
+					}
+					setCurrentProperty(null);
+				}
+				o = m.getBean();
+			} else {
+				Map m;
+				if (sType.isMap())
+					m = sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newGenericMap(sType);
+				else
+					m = newOMap();
+				int c = ',';
+				for (int i = 0; c == ','; i++) {
+					c = readCell();
+					if (i >= names.length)
+						onExtraCell(i);
+					else
+						m.put(keys[i], getCellValue(i, m));
+				}
+				o = m;
+			}
+			if (swap != null)
+				o = unswap(swap, o, type);
+			return (E)o;
+		}
+
+		private void onExtraCell(int i) throws ParseException {
+			if (isStrict())
+				throw new ParseException(CsvParserSession.this, "Row has more cells than the header.  Found cell {0}, expected {1} cells.", i+1, names.length);
+		}
+
+		/*
+		 * Reads a single cell into the buffer.
+		 * Returns the character that ended the cell (',', '\n', or -1).
+		 */
+		private int readCell() throws IOException, ParseException {
+			sb.setLength(0);
+			quoted = false;
+			int c = r.read();
+			if (c == '"') {
+				quoted = true;
+				while (true) {
+					c = r.read();
+					if (c == -1)
+						throw new ParseException(CsvParserSession.this, "Unterminated quoted cell.");
+					if (c == '"') {
+						c = r.read();
+						if (c != '"')
+							break;
+					}
+					sb.append((char)c);
+				}
+			}
+			while (c != ',' && c != '\n' && c != -1) {
+				if (c == '\r') {
+					if (r.peek() == '\n')
+						r.read();
+					return '\n';
+				}
+				sb.append((char)c);
+				c = r.read();
+			}
+			return c;
+		}
+
+		private Object getCellValue(int i, Object outer) throws IOException, ParseException, ExecutableException {
+			int kind = cellKinds[i];
+			if (! quoted) {
+				int len = sb.length();
+				if (len == 4 && sb.charAt(0) == 'n' && sb.charAt(1) == 'u' && sb.charAt(2) == 'l' && sb.charAt(3) == 'l')
+					return null;
+				if (len == 0 && kind != CELL_STRING && ! cellTypes[i].isCharSequence())
+					return null;
+				if (kind == CELL_INT || kind == CELL_LONG) {
+					long l = parseLong(sb);
+					// Separate returns since a conditional expression would promote the Integer to a Long.
+					if (l != Long.MIN_VALUE && kind == CELL_LONG)
+						return Long.valueOf(l);
+					if (l != Long.MIN_VALUE && l == (int)l)
+						return Integer.valueOf((int)l);
+				}
+			}
+			String s = trim(sb.toString());
+			if (kind == CELL_STRING)
+				return s;
+			return convertAttrToType(outer, s, cellTypes[i]);
+		}
+
+		private Object convertKey(String name, ClassMeta<?> kType) throws IOException, ParseException, ExecutableException {
+			if (kType == null || kType.isString() || kType.isObject())
+				return name;
+			return convertAttrToType(null, name, kType);
+		}
+	}
+
+	private int getCellKind(ClassMeta<?> cm) {
+		if (cm.getSwap(this) != null)
+			return CELL_OTHER;
+		if (cm.isString() || cm.isObject())
+			return CELL_STRING;
+		if (cm.is(int.class) || cm.is(Integer.class))
+			return CELL_INT;
+		if (cm.is(long.class) || cm.is(Long.class))
+			return CELL_LONG;
+		return CELL_OTHER;
+	}
+
+	/*
+	 * Parses a plain decimal integer of up to 18 digits.
+	 * Returns Long.MIN_VALUE if the buffer contains anything else (e.g. hex or decimal points), in which case the
+	 * value is parsed the normal way.
+	 */
+	private static long parseLong(CharSequence cs) {
+		int len = cs.length(), i = 0;
+		if (len == 0)
+			return Long.MIN_VALUE;
+		boolean neg = false;
+		char c = cs.charAt(0);
+		if (c == '-' || c == '+') {
+			neg = c == '-';
+			i++;
+		}
+		if (i == len || len - i > 18)
+			return Long.MIN_VALUE;
+		long l = 0;
+		for (; i < len; i++) {
+			c = cs.charAt(i);
+			if (c < '0' || c > '9')
+				return Long.MIN_VALUE;
+			l = l * 10 + (c - '0');
+		}
+		return neg ? -l : l;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
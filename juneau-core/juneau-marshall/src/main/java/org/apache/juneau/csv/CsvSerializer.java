@@ -21,7 +21,16 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.serializer.*;
 
 /**
- * TODO - Work in progress.  CSV serializer.
+ * Serializes collections, arrays, iterators, and streams of beans or maps as CSV documents.
+ *
+ * <p>
+ * The first row is a header row containing the bean property names or map keys of the first entry.
+ * <br>Rows are written as they are pulled from the input, so iterators and streams (e.g. over database cursors) can be
+ * serialized without loading all rows into memory.
+ *
+ * <p>
+ * Entries that are collections or arrays are written as rows of cells without a header row.
+ * <br>Other entries are written as single-cell rows.
  */
 @ConfigurableContext
 public final class CsvSerializer extends WriterSerializer implements CsvMetaProvider,CsvCommon {
@@ -46,6 +55,7 @@ public final class CsvSerializer extends WriterSerializer implements CsvMetaProv
 
 	private final Map<ClassMeta<?>,CsvClassMeta> csvClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,CsvBeanPropertyMeta> csvBeanPropertyMetas = new ConcurrentHashMap<>();
+	private final Map<BeanMeta<?>,BeanPropertyMeta[]> columns = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -113,6 +123,28 @@ public final class CsvSerializer extends WriterSerializer implements CsvMetaProv
 		return m;
 	}
 
+	/**
+	 * Returns the readable properties of the specified bean in column order.
+	 *
+	 * <p>
+	 * Does not include the dynamic property of DynaBeans.
+	 *
+	 * @param bm The bean metadata.
+	 * @return The readable properties of the bean.
+	 */
+	BeanPropertyMeta[] getColumns(BeanMeta<?> bm) {
+		BeanPropertyMeta[] a = columns.get(bm);
+		if (a == null) {
+			List<BeanPropertyMeta> l = new ArrayList<>();
+			for (BeanPropertyMeta pm : bm.getPropertyMetas())
+				if (pm.canRead() && ! pm.isDyna())
+					l.add(pm);
+			a = l.toArray(new BeanPropertyMeta[l.size()]);
+			columns.put(bm, a);
+		}
+		return a;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -12,8 +12,12 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.internal.StringUtils.*;
+
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -26,8 +30,16 @@ import org.apache.juneau.serializer.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused within the same thread.
  */
+@SuppressWarnings({ "rawtypes" })
 public final class CsvSerializerSession extends WriterSerializerSession {
 
+	/*
+	 * The writer is flushed after this many rows so that large outputs are passed on in chunks.
+	 */
+	private static final int FLUSH_INTERVAL = 1000;
+
+	private final CsvSerializer ctx;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -42,64 +54,218 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 	 */
 	protected CsvSerializerSession(CsvSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
 	}
 
 	@Override /* SerializerSession */
 	protected final void doSerialize(SerializerPipe pipe, Object o) throws IOException, SerializeException {
 		try (Writer w = pipe.getWriter()) {
-			ClassMeta<?> cm = getClassMetaForObject(o);
-			Collection<?> l = null;
-			if (cm.isArray()) {
-				l = Arrays.asList((Object[])o);
-			} else {
-				l = (Collection<?>)o;
+			Iterator<?> i = iterator(o);
+
+			// Use the first non-null row to determine the columns.
+			int nulls = 0;
+			Object first = null;
+			while (i.hasNext() && (first = i.next()) == null)
+				nulls++;
+			if (first == null && nulls == 0)
+				return;
+
+			RowWriter rw = new RowWriter(first);
+			rw.writeHeader(w);
+			for (int j = 0; j < nulls; j++)
+				rw.writeRow(w, null);
+			if (first != null)
+				rw.writeRow(w, first);
+
+			int rows = nulls + 1;
+			while (i.hasNext()) {
+				rw.writeRow(w, i.next());
+				if (++rows % FLUSH_INTERVAL == 0)
+					w.flush();
 			}
-			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
-				if (entryType.isBean()) {
-					BeanMeta<?> bm = entryType.getBeanMeta();
-					int i = 0;
-					for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-						if (pm.canRead()) {
-							if (i++ > 0)
-								w.append(',');
-							append(w, pm.getName());
-						}
-					}
-					w.append('\n');
-					for (Object o2 : l) {
-						i = 0;
-						BeanMap<?> bean = toBeanMap(o2);
-						for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-							if (pm.canRead()) {
-								if (i++ > 0)
-									w.append(',');
-								append(w, pm.get(bean, pm.getName()));
+		}
+	}
+
+	/*
+	 * Returns an iterator over the rows of the specified input.
+	 * Iterators and streams are read lazily.
+	 */
+	private static Iterator<?> iterator(Object o) {
+		if (o == null)
+			return Collections.emptyIterator();
+		if (o instanceof Iterator)
+			return (Iterator<?>)o;
+		if (o instanceof Iterable)
+			return ((Iterable<?>)o).iterator();
+		if (o instanceof Stream)
+			return ((Stream<?>)o).iterator();
+		if (o instanceof Enumeration)
+			return Collections.list((Enumeration<?>)o).iterator();
+		if (o.getClass().isArray()) {
+			final Object array = o;
+			return new Iterator<Object>() {
+				int i = 0, len = Array.getLength(array);
+
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return i < len;
+				}
+
+				@Override /* Iterator */
+				public Object next() {
+					if (i >= len)
+						throw new NoSuchElementException();
+					return Array.get(array, i++);
+				}
+			};
+		}
+		return Collections.singleton(o).iterator();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Row writer
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Writes rows using the columns determined from the first row.
+	 *
+	 * Bean columns are looked up once per bean class, so each row only invokes the property getters.
+	 * Rows of a different type than the first row are written by looking up the column names.
+	 */
+	private class RowWriter {
+		private final ClassMeta<?> type;
+		private final BeanPropertyMeta[] pMetas;
+		private final String[] names;
+		private final Object[] keys;
+
+		RowWriter(Object first) throws SerializeException {
+			type = first == null ? object() : getClassMetaForObject(first);
+			if (type.isBean()) {
+				BeanPropertyMeta[] a = ctx.getColumns(type.getBeanMeta());
+				List<BeanPropertyMeta> pl = new ArrayList<>(Arrays.asList(a));
+				List<String> nl = new ArrayList<>();
+				for (BeanPropertyMeta pm : a)
+					nl.add(pm.getName());
+				BeanPropertyMeta dyna = null;
+				for (BeanPropertyMeta pm : type.getBeanMeta().getPropertyMetas())
+					if (pm.isDyna() && pm.canRead())
+						dyna = pm;
+				if (dyna != null) {
+					try {
+						Map<String,Object> m = dyna.getDynaMap(first);
+						if (m != null) {
+							for (String k : m.keySet()) {
+								pl.add(dyna);
+								nl.add(k);
 							}
 						}
-						w.append('\n');
+					} catch (Exception e) {
+						throw new SerializeException(CsvSerializerSession.this, e);
 					}
 				}
+				pMetas = pl.toArray(new BeanPropertyMeta[pl.size()]);
+				names = nl.toArray(new String[nl.size()]);
+				keys = null;
+			} else if (type.isMap()) {
+				Map m = (Map)first;
+				pMetas = null;
+				keys = m.keySet().toArray();
+				names = new String[keys.length];
+				for (int i = 0; i < keys.length; i++)
+					names[i] = stringify(keys[i]);
+			} else {
+				pMetas = null;
+				names = null;
+				keys = null;
+			}
+		}
+
+		void writeHeader(Writer w) throws IOException {
+			if (names == null)
+				return;
+			for (int i = 0; i < names.length; i++) {
+				if (i > 0)
+					w.append(',');
+				append(w, names[i]);
 			}
+			w.append('\n');
+		}
+
+		void writeRow(Writer w, Object o) throws IOException {
+			if (names != null) {
+				ClassMeta<?> cm = o == null ? null : getClassMetaForObject(o);
+				if (cm == null) {
+					for (int i = 0; i < names.length; i++) {
+						if (i > 0)
+							w.append(',');
+						append(w, null);
+					}
+				} else if (cm == type && pMetas != null) {
+					BeanMap<?> bean = toBeanMap(o);
+					for (int i = 0; i < pMetas.length; i++) {
+						if (i > 0)
+							w.append(',');
+						append(w, pMetas[i].get(bean, names[i]));
+					}
+				} else if (cm == type) {
+					Map m = (Map)o;
+					for (int i = 0; i < keys.length; i++) {
+						if (i > 0)
+							w.append(',');
+						append(w, m.get(keys[i]));
+					}
+				} else {
+					Map m = cm.isBean() ? toBeanMap(o) : cm.isMap() ? (Map)o : null;
+					for (int i = 0; i < names.length; i++) {
+						if (i > 0)
+							w.append(',');
+						append(w, m == null ? null : m.get(names[i]));
+					}
+				}
+			} else {
+				Iterator<?> i = o instanceof Iterable || (o != null && o.getClass().isArray()) ? iterator(o) : Collections.singleton(o).iterator();
+				for (int j = 0; i.hasNext(); j++) {
+					if (j > 0)
+						w.append(',');
+					append(w, i.next());
+				}
+			}
+			w.append('\n');
 		}
 	}
 
+	/*
+	 * Writes a single cell.
+	 * Values containing whitespace, commas, or quotes are quoted, with embedded quotes doubled.
+	 * Strings equal to "null" are quoted so that they can be distinguished from null values.
+	 */
 	private static void append(Writer w, Object o) throws IOException {
 		if (o == null)
 			w.append("null");
 		else {
 			String s = o.toString();
-			boolean mustQuote = false;
-			for (int i = 0; i < s.length() && ! mustQuote; i++) {
+			boolean mustQuote = "null".equals(s), hasQuote = false;
+			for (int i = 0; i < s.length(); i++) {
 				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
+				if (c == '"')
+					hasQuote = mustQuote = true;
+				else if (Character.isWhitespace(c) || c == ',')
 					mustQuote = true;
 			}
-			if (mustQuote)
-				w.append('"').append(s).append('"');
-			else
+			if (! mustQuote)
 				w.append(s);
+			else if (! hasQuote)
+				w.append('"').append(s).append('"');
+			else {
+				w.append('"');
+				for (int i = 0; i < s.length(); i++) {
+					char c = s.charAt(i);
+					if (c == '"')
+						w.append('"');
+					w.append(c);
+				}
+				w.append('"');
+			}
 		}
 	}
 
@@ -506,12 +506,24 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public HtmlParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public HtmlParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public HtmlParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -524,6 +536,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public HtmlParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public HtmlParserBuilder strict() {
 		super.strict();
@@ -234,10 +234,10 @@ public final class HtmlParserSession extends XmlParserSession {
 
 			} else if (typeName.equals("array")) {
 				if (sType.isObject())
-					o = parseTableIntoCollection(r, (Collection)new OList(this), sType, pMeta);
+					o = parseTableIntoCollection(r, (Collection)newOList(), sType, pMeta);
 				else if (sType.isCollection())
 					o = parseTableIntoCollection(r, (Collection)(sType.canCreateNewInstance(outer)
-						? sType.newInstance(outer) : new OList(this)), sType, pMeta);
+						? sType.newInstance(outer) : newOList()), sType, pMeta);
 				else if (sType.isArray() || sType.isArgs()) {
 					ArrayList l = (ArrayList)parseTableIntoCollection(r, new ArrayList(), sType, pMeta);
 					o = toArray(sType, l);
@@ -257,10 +257,10 @@ public final class HtmlParserSession extends XmlParserSession {
 				sType = eType = cm;
 
 			if (sType.isObject())
-				o = parseIntoCollection(r, new OList(this), sType, pMeta);
+				o = parseIntoCollection(r, newOList(), sType, pMeta);
 			else if (sType.isCollection() || sType.isObject())
 				o = parseIntoCollection(r, (Collection)(sType.canCreateNewInstance(outer)
-					? sType.newInstance(outer) : new OList(this)), sType, pMeta);
+					? sType.newInstance(outer) : newOList()), sType, pMeta);
 			else if (sType.isArray() || sType.isArgs())
 				o = toArray(sType, parseIntoCollection(r, new ArrayList(), sType, pMeta));
 			else
@@ -43,6 +43,12 @@ public class HtmlSchemaSerializerSession extends HtmlSerializerSession {
 		this.genSession = ctx.getGenerator().createSession(args);
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		// The generator session collects bean definitions across calls.
+		return false;
+	}
+
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
 		try {
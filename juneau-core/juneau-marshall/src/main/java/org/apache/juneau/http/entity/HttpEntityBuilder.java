@@ -62,6 +62,7 @@ public class HttpEntityBuilder<T extends BasicHttpEntity> {
 	public HttpEntityBuilder(T impl) {
 		implClass = impl.getClass();
 		cached = impl.cached;
+		chunked = impl.chunked;
 		content = impl.content;
 		contentSupplier = impl.contentSupplier;
 		contentType = impl.contentType;
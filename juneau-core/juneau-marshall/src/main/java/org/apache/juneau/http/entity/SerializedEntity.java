@@ -25,10 +25,28 @@ import org.apache.juneau.serializer.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ *
+ * <p>
+ * The content is serialized directly to the connection output stream, so sending it doesn't require holding the
+ * serialized form in memory.
+ * <br>Since the content length is unknown, HTTP/1.1 requests are sent using chunked transfer encoding.
+ * <br>The entity is repeatable because the content is serialized again each time it's written (e.g. when a request
+ * is retried).
+ *
+ * <p>
+ * When the content is read as a stream through {@link #getContent()} instead, it's buffered in memory up to
+ * {@link SerializedEntityBuilder#maxBufferSize(int)} bytes and in a temporary file beyond that.
  */
 public class SerializedEntity extends BasicHttpEntity {
+
+	/**
+	 * The default maximum number of bytes to keep in memory when the content is read through {@link #getContent()}.
+	 */
+	public static final int DEFAULT_MAX_BUFFER_SIZE = 1024 * 1024;
+
 	final Serializer serializer;
 	HttpPartSchema schema;
+	final int maxBufferSize;
 
 	/**
 	 * Creates a new {@link SerializedEntity} builder.
@@ -48,6 +66,7 @@ public class SerializedEntity extends BasicHttpEntity {
 		super(builder);
 		serializer = builder.serializer;
 		schema = builder.schema;
+		maxBufferSize = builder.maxBufferSize;
 	}
 
 	/**
@@ -121,12 +140,18 @@ public class SerializedEntity extends BasicHttpEntity {
 
 	@Override /* BasicHttpEntity */
 	public InputStream getContent() {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		SpillOutputStream sos = new SpillOutputStream(maxBufferSize);
+		boolean success = false;
 		try {
-			writeTo(baos);
-			return new ByteArrayInputStream(baos.toByteArray());
+			writeTo(sos);
+			InputStream is = sos.getInputStream();
+			success = true;
+			return is;
 		} catch (IOException e) {
 			throw runtimeException(e);
+		} finally {
+			if (! success)
+				sos.discard();
 		}
 	}
 }
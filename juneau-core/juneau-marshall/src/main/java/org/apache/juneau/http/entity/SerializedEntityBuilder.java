@@ -34,6 +34,7 @@ public class SerializedEntityBuilder<T extends SerializedEntity> extends HttpEnt
 
 	Serializer serializer;
 	HttpPartSchema schema;
+	int maxBufferSize = SerializedEntity.DEFAULT_MAX_BUFFER_SIZE;
 
 	/**
 	 * Constructor.
@@ -57,6 +58,7 @@ public class SerializedEntityBuilder<T extends SerializedEntity> extends HttpEnt
 		super(impl);
 		this.serializer = impl.serializer;
 		this.schema = impl.schema;
+		this.maxBufferSize = impl.maxBufferSize;
 	}
 
 	/**
@@ -101,6 +103,25 @@ public class SerializedEntityBuilder<T extends SerializedEntity> extends HttpEnt
 		return this;
 	}
 
+	/**
+	 * Sets the maximum number of bytes to keep in memory when the contents are read through {@link SerializedEntity#getContent()}.
+	 *
+	 * <p>
+	 * Larger contents are written to a temporary file that is deleted when the returned stream is closed.
+	 * <br>Does not affect {@link SerializedEntity#writeTo(OutputStream)} which always serializes directly to the output stream.
+	 *
+	 * <p>
+	 * The default value is {@link SerializedEntity#DEFAULT_MAX_BUFFER_SIZE}.
+	 *
+	 * @param value The maximum number of bytes to keep in memory.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializedEntityBuilder<T> maxBufferSize(int value) {
+		this.maxBufferSize = value;
+		return this;
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - HttpEntityBuilder */
@@ -78,7 +78,7 @@ public class AcceptCharset extends BasicStringRangeArrayHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Accept-Charset";
 
-	private static final Cache<String,AcceptCharset> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,AcceptCharset> CACHE = new Cache<>("http.header.AcceptCharset", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
@@ -98,7 +98,7 @@ public class AcceptEncoding extends BasicStringRangeArrayHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Accept-Encoding";
 
-	private static final Cache<String,AcceptEncoding> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,AcceptEncoding> CACHE = new Cache<>("http.header.AcceptEncoding", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
@@ -110,7 +110,7 @@ public class AcceptLanguage extends BasicStringRangeArrayHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Accept-Language";
 
-	private static final Cache<String,AcceptLanguage> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,AcceptLanguage> CACHE = new Cache<>("http.header.AcceptLanguage", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
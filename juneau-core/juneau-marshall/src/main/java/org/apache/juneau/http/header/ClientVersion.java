@@ -45,7 +45,7 @@ public class ClientVersion extends BasicStringHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Client-Version";
 
-	private static final Cache<String,ClientVersion> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,ClientVersion> CACHE = new Cache<>("http.header.ClientVersion", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
@@ -85,7 +85,7 @@ public class Connection extends BasicStringHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Connection";
 
-	private static final Cache<String,Connection> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,Connection> CACHE = new Cache<>("http.header.Connection", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
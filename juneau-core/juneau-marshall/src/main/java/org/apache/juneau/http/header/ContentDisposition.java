@@ -55,7 +55,7 @@ public class ContentDisposition extends BasicStringRangeArrayHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Content-Disposition";
 
-	private static final Cache<String,ContentDisposition> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,ContentDisposition> CACHE = new Cache<>("http.header.ContentDisposition", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
@@ -55,7 +55,7 @@ public class ContentType extends BasicMediaTypeHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "Content-Type";
 
-	private static Cache<String,ContentType> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static Cache<String,ContentType> CACHE = new Cache<>("http.header.ContentType", NOCACHE, CACHE_MAX_SIZE);
 
 	// Constants
 	@SuppressWarnings("javadoc")
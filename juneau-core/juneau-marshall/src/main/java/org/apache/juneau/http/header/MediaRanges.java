@@ -51,7 +51,7 @@ public class MediaRanges {
 	/** Represents an empty media ranges object. */
 	public static final MediaRanges EMPTY = new MediaRanges("");
 
-	private static final Cache<String,MediaRanges> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,MediaRanges> CACHE = new Cache<>("http.header.MediaRanges", NOCACHE, CACHE_MAX_SIZE);
 
 	private final MediaRange[] ranges;
 	private final String string;
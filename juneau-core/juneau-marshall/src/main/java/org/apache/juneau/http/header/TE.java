@@ -95,7 +95,7 @@ public class TE extends BasicStringRangeArrayHeader {
 	private static final long serialVersionUID = 1L;
 	private static final String NAME = "TE";
 
-	private static final Cache<String,TE> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,TE> CACHE = new Cache<>("http.header.TE", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Static creator.
@@ -15,6 +15,7 @@ package org.apache.juneau.httppart.bean;
 import static java.util.Optional.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -33,6 +34,8 @@ public class RequestBeanPropertyMeta {
 		HttpPartSchemaBuilder sb = HttpPartSchema.create().name(m.getPropertyName());
 		for (Annotation a : m.getAnnotations(c))
 			sb.apply(a);
+		// Done once here so that callers can invoke the getter without access checks.
+		m.setAccessible();
 		return new Builder().partType(partType).schema(sb.build()).getter(m.inner());
 	}
 
@@ -41,6 +44,7 @@ public class RequestBeanPropertyMeta {
 	//-----------------------------------------------------------------------------------------------------------------
 
 	private final Method getter;
+	private final MethodHandle getterHandle;
 	private final HttpPartType partType;
 	private final Optional<HttpPartSerializer> serializer;
 	private final HttpPartParser parser;
@@ -50,10 +54,27 @@ public class RequestBeanPropertyMeta {
 		this.partType = b.partType;
 		this.schema = b.schema;
 		this.getter = b.getter;
+		this.getterHandle = findGetterHandle(getter);
 		this.serializer = ofNullable(schema.getSerializer() == null ? serializer : BeanCreator.of(HttpPartSerializer.class).type(schema.getSerializer()).run());
 		this.parser = schema.getParser() == null ? parser : BeanCreator.of(HttpPartParser.class).type(schema.getParser()).run();
 	}
 
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/*
+	 * Resolves the getter into a method handle of type (Object)Object.
+	 * Returns null if the getter cannot be accessed through a method handle so that reflection is used instead.
+	 */
+	private static MethodHandle findGetterHandle(Method getter) {
+		try {
+			if (getter != null)
+				return MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			// Fall back to reflection.
+		}
+		return null;
+	}
+
 	static class Builder {
 		HttpPartType partType;
 		HttpPartSchema schema;
@@ -92,6 +113,9 @@ public class RequestBeanPropertyMeta {
 	/**
 	 * Returns the name of the Java method getter that defines this property.
 	 *
+	 * <p>
+	 * The method has already been made accessible if the security manager allows it.
+	 *
 	 * @return
 	 * 	The name of the Java method getter that defines this property.
 	 * 	<br>Never <jk>null</jk>.
@@ -100,6 +124,29 @@ public class RequestBeanPropertyMeta {
 		return getter;
 	}
 
+	/**
+	 * Invokes the getter of this property on the specified bean.
+	 *
+	 * <p>
+	 * Uses a method handle resolved when this object was created, and only falls back to reflection if the getter
+	 * couldn't be resolved to one.
+	 *
+	 * @param bean The request bean.
+	 * @return The property value.
+	 * @throws IllegalAccessException If the getter isn't accessible.
+	 * @throws InvocationTargetException If the getter threw an exception.
+	 */
+	public Object getValue(Object bean) throws IllegalAccessException, InvocationTargetException {
+		if (getterHandle != null) {
+			try {
+				return (Object)getterHandle.invokeExact(bean);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+		return getter.invoke(bean);
+	}
+
 	/**
 	 * Returns the HTTP part type for this property (query parameter for example).
 	 *
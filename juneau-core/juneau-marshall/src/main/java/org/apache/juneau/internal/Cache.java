@@ -12,35 +12,88 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.mstat.*;
 
 /**
- * Simple in-memory cache of objects.
+ * Simple bounded in-memory cache of objects.
+ *
+ * <p>
+ * The cache is split into lock-striped segments, each of which is an access-ordered map holding its share of the
+ * maximum size.
+ * <br>When a segment is full, its least-recently-used entry is evicted so that frequently-used entries stay cached
+ * even when the cache is flooded with one-off keys.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Caches created with a name are registered globally so that their hit/miss/eviction counters can be retrieved
+ * through {@link #getRegistered()}.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private static final Map<String,Cache<?,?>> REGISTRY = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Returns all the named caches created in this JVM ordered by name.
+	 *
+	 * @return An unmodifiable snapshot of all the named caches.
+	 */
+	public static List<Cache<?,?>> getRegistered() {
+		return Collections.unmodifiableList(new ArrayList<>(REGISTRY.values()));
+	}
+
+	private final String name;
 	private final boolean nocache;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final Segment[] segments;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
 
 	/**
 	 * Constructor.
 	 *
+	 * <p>
+	 * Creates an unnamed cache that is not registered.
+	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize The maximum size of the cache.  If this threshold is reached, least-recently-used entries are evicted.
 	 */
 	public Cache(boolean disabled, int maxSize) {
+		this(null, disabled, maxSize);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name
+	 * 	The cache name.
+	 * 	<br>If not <jk>null</jk>, the cache is registered so that it's returned by {@link #getRegistered()}.
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum size of the cache.  If this threshold is reached, least-recently-used entries are evicted.
+	 */
+	@SuppressWarnings("unchecked")
+	public Cache(String name, boolean disabled, int maxSize) {
+		this.name = name;
 		this.nocache = disabled;
-		this.maxSize = maxSize;
-		if (! nocache)
-			cache = new ConcurrentHashMap<>();
-		else
-			cache = null;
+		this.maxSize = Math.max(maxSize, 1);
+		if (! nocache) {
+			int n = 1;
+			while (n < MAX_SEGMENTS && n * 32 <= this.maxSize)
+				n <<= 1;
+			segments = new Cache.Segment[n];
+			for (int i = 0; i < n; i++)
+				segments[i] = new Segment(this.maxSize / n + (i < this.maxSize % n ? 1 : 0));
+		} else {
+			segments = null;
+		}
+		if (name != null)
+			REGISTRY.put(name, this);
 	}
 
 	/**
@@ -52,7 +105,12 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache || key == null)
 			return null;
-		return cache.get(key);
+		V v = segment(key).getValue(key);
+		if (v == null)
+			misses.increment();
+		else
+			hits.increment();
+		return v;
 	}
 
 	/**
@@ -67,17 +125,116 @@ public class Cache<K,V> {
 	public V put(K key, V value) {
 		if (nocache || key == null)
 			return value;
+		return segment(key).putValue(key, value);
+	}
 
-		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
-			cache.clear();
+	/**
+	 * Returns the name of this cache.
+	 *
+	 * @return The name of this cache, or <jk>null</jk> if it's unnamed.
+	 */
+	public String getName() {
+		return name;
+	}
 
-		while (true) {
-			V v = cache.get(key);
+	/**
+	 * Returns the maximum number of entries in this cache.
+	 *
+	 * @return The maximum number of entries in this cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the current number of entries in this cache.
+	 *
+	 * @return The current number of entries in this cache, or <c>0</c> if the cache is disabled.
+	 */
+	public int size() {
+		int n = 0;
+		if (segments != null)
+			for (Segment s : segments)
+				n += s.getSize();
+		return n;
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} found a cached value.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} did not find a cached value.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed from this cache to make room for new entries.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of this cache.
+	 *
+	 * @return A snapshot of the statistics of this cache.
+	 */
+	public CacheStats getStats() {
+		return new CacheStats(name, size(), maxSize, getHits(), getMisses(), getEvictions());
+	}
+
+	private Segment segment(K key) {
+		int h = key.hashCode();
+		return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+	}
+
+	/*
+	 * A bounded LRU map guarded by its own monitor.
+	 */
+	@SuppressWarnings("serial")
+	private final class Segment extends LinkedHashMap<K,V> {
+		private final int capacity;
+
+		Segment(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		synchronized V getValue(K key) {
+			return get(key);
+		}
+
+		synchronized V putValue(K key, V value) {
+			V v = get(key);
 			if (v != null)
 				return v;
-			cache.putIfAbsent(key, value);
+			put(key, value);
 			return value;
 		}
+
+		synchronized int getSize() {
+			return size();
+		}
+
+		@Override /* LinkedHashMap */
+		protected boolean removeEldestEntry(Map.Entry<K,V> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
 	}
 }
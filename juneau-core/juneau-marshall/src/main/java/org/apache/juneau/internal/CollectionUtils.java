@@ -240,4 +240,55 @@ public final class CollectionUtils {
 			return null;
 		return l.get(l.size()-1);
 	}
+
+	/**
+	 * Returns the first entries of a list in sorted order.
+	 *
+	 * <p>
+	 * When only a small number of entries are needed, they're selected using a bounded heap instead of sorting the
+	 * whole list.
+	 * <br>The sort is stable, so entries that compare equal keep their original order.
+	 *
+	 * @param <T> The element type.
+	 * @param l The list to sort.  Not modified.  Should support fast random access.
+	 * @param c The comparator.
+	 * @param k The maximum number of entries to return, or <c>-1</c> to return all entries.
+	 * @return A new list containing the first <c>k</c> entries in sorted order.
+	 */
+	public static <T> List<T> sortTopK(final List<T> l, final Comparator<? super T> c, int k) {
+		int n = l.size();
+		if (k < 0 || (long)k * 4 >= n) {
+			List<T> l2 = new ArrayList<>(l);
+			Collections.sort(l2, c);
+			return k < 0 || k >= n ? l2 : new ArrayList<>(l2.subList(0, k));
+		}
+		if (k == 0)
+			return new ArrayList<>(0);
+
+		Comparator<Integer> ci = new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				int r = c.compare(l.get(i), l.get(j));
+				return r != 0 ? r : Integer.compare(i, j);
+			}
+		};
+
+		// Max-heap of the k smallest entries seen so far.
+		PriorityQueue<Integer> pq = new PriorityQueue<>(k + 1, Collections.reverseOrder(ci));
+		for (int i = 0; i < n; i++) {
+			if (pq.size() < k) {
+				pq.add(i);
+			} else if (ci.compare(i, pq.peek()) < 0) {
+				pq.poll();
+				pq.add(i);
+			}
+		}
+
+		Integer[] a = pq.toArray(new Integer[pq.size()]);
+		Arrays.sort(a, ci);
+		List<T> l2 = new ArrayList<>(a.length);
+		for (Integer i : a)
+			l2.add(l.get(i));
+		return l2;
+	}
 }
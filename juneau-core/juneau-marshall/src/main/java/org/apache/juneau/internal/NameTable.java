@@ -0,0 +1,129 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * An immutable set of names that can be looked up directly from a character buffer.
+ *
+ * <p>
+ * Used by parsers to resolve bean property names without creating a new string for every occurrence of the same name.
+ * <br>Lookups return the same string instance that was passed in to the constructor.
+ *
+ * <p>
+ * The table size is chosen so that, when possible, every name hashes to its own slot so that a lookup is a single
+ * hash computation and character comparison.
+ */
+public final class NameTable {
+
+	private static final int MAX_GROWTH = 16;
+
+	private final String[] names;
+	private final int mask;
+	private final boolean perfect;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param names The names in this table.
+	 */
+	public NameTable(Collection<String> names) {
+		Set<String> s = new LinkedHashSet<>(names);
+		s.remove(null);
+		int min = Integer.highestOneBit(Math.max(s.size(), 1) * 2 - 1) << 1;
+		String[] t = null;
+		boolean p = false;
+		for (int size = min; size <= min * MAX_GROWTH && ! p; size <<= 1) {
+			t = new String[size];
+			p = true;
+			for (String n : s) {
+				int i = hash(n) & (size-1);
+				if (t[i] != null)
+					p = false;
+				while (t[i] != null)
+					i = (i+1) & (size-1);
+				t[i] = n;
+			}
+		}
+		this.names = t;
+		this.mask = t.length-1;
+		this.perfect = p;
+	}
+
+	/**
+	 * Returns the name matching the specified characters.
+	 *
+	 * @param buff The character buffer.
+	 * @param start The start position in the buffer.
+	 * @param len The number of characters.
+	 * @return The name in this table matching the characters, or <jk>null</jk> if there isn't one.
+	 */
+	public String get(char[] buff, int start, int len) {
+		int h = 0;
+		for (int j = start, end = start + len; j < end; j++)
+			h = 31*h + buff[j];
+		int i = spread(h) & mask;
+		while (true) {
+			String n = names[i];
+			if (n == null)
+				return null;
+			if (matches(n, buff, start, len))
+				return n;
+			if (perfect)
+				return null;
+			i = (i+1) & mask;
+		}
+	}
+
+	/**
+	 * Returns the name matching the specified characters.
+	 *
+	 * @param cs The characters to look up.
+	 * @return The name in this table matching the characters, or <jk>null</jk> if there isn't one.
+	 */
+	public String get(CharSequence cs) {
+		int h = 0, len = cs.length();
+		for (int j = 0; j < len; j++)
+			h = 31*h + cs.charAt(j);
+		int i = spread(h) & mask;
+		while (true) {
+			String n = names[i];
+			if (n == null)
+				return null;
+			if (n.contentEquals(cs))
+				return n;
+			if (perfect)
+				return null;
+			i = (i+1) & mask;
+		}
+	}
+
+	private static boolean matches(String n, char[] buff, int start, int len) {
+		if (n.length() != len)
+			return false;
+		for (int j = 0; j < len; j++)
+			if (n.charAt(j) != buff[start+j])
+				return false;
+		return true;
+	}
+
+	// Same as String.hashCode() so that names can be hashed without creating strings.
+	private static int hash(String s) {
+		return spread(s.hashCode());
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,79 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A small, bounded pool of reusable objects shared by all threads.
+ *
+ * <p>
+ * Objects are kept in a fixed number of slots.
+ * <br>Each thread starts looking at a different slot so that threads rarely compete for the same object.
+ * <br>Nothing is associated with the calling threads, so pooled objects don't outlive the pool because of long-lived
+ * threads (such as the request threads of a servlet container).
+ *
+ * @param <T> The pooled object type.
+ */
+public final class ObjectPool<T> {
+
+	/** The default number of slots:  twice the number of processors, but at least 4. */
+	public static final int DEFAULT_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+	private final AtomicReferenceArray<T> slots;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param size The maximum number of idle objects kept in this pool.
+	 */
+	public ObjectPool(int size) {
+		slots = new AtomicReferenceArray<>(Math.max(1, size));
+	}
+
+	/**
+	 * Removes an idle object from this pool.
+	 *
+	 * @return An idle object, or <jk>null</jk> if none are available.
+	 */
+	public T poll() {
+		int n = slots.length(), start = start(n);
+		for (int i = 0; i < n; i++) {
+			int j = (start + i) % n;
+			if (slots.get(j) != null) {
+				T t = slots.getAndSet(j, null);
+				if (t != null)
+					return t;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds an idle object to this pool.
+	 *
+	 * @param t The object to add.
+	 * @return <jk>true</jk> if the object was added, <jk>false</jk> if the pool is full.
+	 */
+	public boolean offer(T t) {
+		int n = slots.length(), start = start(n);
+		for (int i = 0; i < n; i++)
+			if (slots.compareAndSet((start + i) % n, null, t))
+				return true;
+		return false;
+	}
+
+	private static int start(int n) {
+		return (int)(Thread.currentThread().getId() % n);
+	}
+}
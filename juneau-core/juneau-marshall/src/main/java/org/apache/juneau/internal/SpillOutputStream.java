@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.file.*;
+
+/**
+ * An output stream that keeps its contents in memory up to a maximum size and writes them to a temporary file beyond that.
+ *
+ * <p>
+ * The contents are read back using {@link #getInputStream()}.
+ * <br>The temporary file is deleted as soon as that stream is opened, or by {@link #discard()} if the contents are
+ * never read.
+ */
+public final class SpillOutputStream extends OutputStream {
+
+	private final int maxMemorySize;
+	private ByteArrayInOutStream memory = new ByteArrayInOutStream();
+	private Path file;
+	private OutputStream out = memory;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxMemorySize The maximum number of bytes to keep in memory before switching to a temporary file.
+	 */
+	public SpillOutputStream(int maxMemorySize) {
+		this.maxMemorySize = maxMemorySize;
+	}
+
+	private void reserve(int len) throws IOException {
+		if (file == null && memory.size() + len > maxMemorySize) {
+			file = Files.createTempFile("juneau", ".tmp");
+			out = new BufferedOutputStream(Files.newOutputStream(file));
+			memory.writeTo(out);
+			memory = null;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		reserve(1);
+		out.write(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		reserve(len);
+		out.write(b, off, len);
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		out.close();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the contents were written to a temporary file.
+	 *
+	 * @return <jk>true</jk> if the contents were written to a temporary file.
+	 */
+	public boolean isSpilled() {
+		return file != null;
+	}
+
+	/**
+	 * Closes this stream and returns a stream for reading back its contents.
+	 *
+	 * @return A new input stream.
+	 * @throws IOException If the temporary file could not be opened.
+	 */
+	public InputStream getInputStream() throws IOException {
+		close();
+		if (file == null)
+			return memory.getInputStream();
+		InputStream is = Files.newInputStream(file, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+		try {
+			// The open stream can still be read, so the file doesn't outlive a stream that's never closed.
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// Platforms that don't allow deleting open files delete it when the stream is closed.
+		}
+		return is;
+	}
+
+	/**
+	 * Closes this stream and deletes the temporary file if there is one.
+	 */
+	public void discard() {
+		try {
+			close();
+			if (file != null)
+				Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// Best effort.
+		}
+	}
+}
@@ -502,12 +502,24 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsoParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsoParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public JsoParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsoParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -520,6 +532,12 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public JsoParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsoParserBuilder strict() {
 		super.strict();
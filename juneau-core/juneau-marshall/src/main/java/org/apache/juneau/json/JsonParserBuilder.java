@@ -543,12 +543,24 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsonParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsonParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public JsonParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsonParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -561,6 +573,12 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public JsonParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsonParserBuilder strict() {
 		super.strict();
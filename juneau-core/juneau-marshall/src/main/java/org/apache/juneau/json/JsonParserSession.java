@@ -115,6 +115,68 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseStream(ParserPipe pipe, ClassMeta<E> elementType) throws IOException, ParseException {
+		ParserReader r = pipe.getParserReader();
+		boolean isArray = false;
+		if (r != null) {
+			skipCommentsAndSpace(r);
+			int c = r.read();
+			if (c == '[')
+				isArray = true;
+			else if (c == 'n') {
+				parseKeyword("null", r.unread());
+				validateEnd(r);
+			} else if (c != -1)
+				throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+		}
+		return new JsonParserIterator<>(pipe, r, elementType, isArray);
+	}
+
+	/*
+	 * Reads the entries of a JSON array one at a time.
+	 */
+	private class JsonParserIterator<E> extends ParserIterator<E> {
+		private final ParserReader r;
+		private final ClassMeta<E> elementType;
+		private boolean first = true, done;
+
+		JsonParserIterator(ParserPipe pipe, ParserReader r, ClassMeta<E> elementType, boolean isArray) {
+			super(JsonParserSession.this, pipe);
+			this.r = r;
+			this.elementType = elementType;
+			this.done = ! isArray;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean readNext() throws IOException, ParseException, ExecutableException {
+			if (done)
+				return false;
+			skipCommentsAndSpace(r);
+			int c = r.read();
+			if (! first) {
+				if (c == ',') {
+					skipCommentsAndSpace(r);
+					c = r.read();
+					if (c == ']')
+						throw new ParseException(JsonParserSession.this, "Unexpected trailing comma in array.");
+				} else if (c != ']') {
+					throw new ParseException(JsonParserSession.this, "Expected ',' or ']'.");
+				}
+			}
+			if (c == ']') {
+				done = true;
+				validateEnd(r);
+				return false;
+			}
+			if (c == -1)
+				throw new ParseException(JsonParserSession.this, "Expected one of the following characters: {,[,',\",LITERAL.");
+			first = false;
+			setNext(parseAnything(elementType, r.unread(), getOuter(), null));
+			return true;
+		}
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		if (eType == null)
@@ -154,11 +216,11 @@ public final class JsonParserSession extends ReaderParserSession {
 			parseKeyword("null", r);
 		} else if (sType.isObject()) {
 			if (c == '{') {
-				OMap m2 = new OMap(this);
+				OMap m2 = newOMap();
 				parseIntoMap2(r, m2, string(), object(), pMeta);
 				o = cast(m2, pMeta, eType);
 			} else if (c == '[') {
-				o = parseIntoCollection2(r, new OList(this), object(), pMeta);
+				o = parseIntoCollection2(r, newOList(), object(), pMeta);
 			} else if (c == '\'' || c == '"') {
 				o = parseString(r);
 				if (sType.isChar())
@@ -185,11 +247,11 @@ public final class JsonParserSession extends ReaderParserSession {
 			o = parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (c == '{') {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else {
-				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new OList(this));
+				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : newOList());
 				o = parseIntoCollection2(r, l, sType, pMeta);
 			}
 		} else if (builder != null) {
@@ -202,7 +264,7 @@ public final class JsonParserSession extends ReaderParserSession {
 			o = sType.newInstanceFromString(outer, parseString(r));
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '{') {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else {
@@ -210,7 +272,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				o = toArray(sType, l);
 			}
 		} else if (c == '{') {
-			Map m = new OMap(this);
+			Map m = newOMap();
 			parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast((OMap)m, pMeta, eType);
@@ -388,9 +450,17 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * set the position marker to the last character in the field name.
 	 */
 	private String parseFieldName(ParserReader r) throws IOException, ParseException {
+		return parseFieldName(r, null);
+	}
+
+	/*
+	 * Same as parseFieldName(ParserReader) but returns the property name string of the specified bean if the field name
+	 * is one of its properties.
+	 */
+	private String parseFieldName(ParserReader r, BeanMeta<?> bm) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, bm);
 		if (isStrict())
 			throw new ParseException(this, "Unquoted attribute detected.");
 		if (! VALID_BARE_CHARS.contains(c))
@@ -401,7 +471,10 @@ public final class JsonParserSession extends ReaderParserSession {
 			c = r.read();
 			if (! VALID_BARE_CHARS.contains(c)) {
 				r.unread();
-				String s = r.getMarked().intern();
+				String s = r.getMarked(0, 0, bm);
+				// Field names are only interned when used as map keys.  Bean property names are already shared.
+				if (bm == null)
+					s = s.intern();
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -504,7 +577,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currAttr = parseFieldName(r, m.getMeta());
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -570,6 +643,14 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * will automatically concatenate the strings and return the result.
 	 */
 	private String parseString(ParserReader r) throws IOException, ParseException {
+		return parseString(r, null);
+	}
+
+	/*
+	 * Same as parseString(ParserReader) but returns the property name string of the specified bean if the unescaped
+	 * contents of the string are one of its properties.
+	 */
+	private String parseString(ParserReader r, BeanMeta<?> bm) throws IOException, ParseException {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -619,16 +700,16 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = r.getMarked(1, -1, bm);
 						break;
 					}
 				} else {
 					if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
-						s = r.getMarked(0, -1);
+						s = r.getMarked(0, -1, bm);
 						r.unread();
 						break;
 					} else if (c == -1) {
-						s = r.getMarked(0, 0);
+						s = r.getMarked(0, 0, bm);
 						break;
 					}
 				}
@@ -49,6 +49,12 @@ public class JsonSchemaSerializerSession extends JsonSerializerSession {
 		this.ctx = ctx;
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		// The generator session collects bean definitions across calls.
+		return false;
+	}
+
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
 		try {
@@ -52,6 +52,43 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseStream(ParserPipe pipe, ClassMeta<E> elementType) throws IOException, ParseException {
+		MsgPackInputStream is = new MsgPackInputStream(pipe);
+		DataType dt = is.readDataType();
+		long length = is.readLength();
+		if (dt == DataType.NULL)
+			length = 0;
+		else if (dt != ARRAY)
+			throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, "array");
+		return new MsgPackParserIterator<>(pipe, is, elementType, length);
+	}
+
+	/*
+	 * Reads the entries of a MessagePack array one at a time.
+	 */
+	private class MsgPackParserIterator<E> extends ParserIterator<E> {
+		private final MsgPackInputStream is;
+		private final ClassMeta<E> elementType;
+		private long remaining;
+
+		MsgPackParserIterator(ParserPipe pipe, MsgPackInputStream is, ClassMeta<E> elementType, long length) {
+			super(MsgPackParserSession.this, pipe);
+			this.is = is;
+			this.elementType = elementType;
+			this.remaining = length;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean readNext() throws IOException, ParseException, ExecutableException {
+			if (remaining == 0)
+				return false;
+			remaining--;
+			setNext(parseAnything(elementType, is, getOuter(), null));
+			return true;
+		}
+	}
+
 	/*
 	 * Workhorse method.
 	 */
@@ -94,12 +131,12 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			else if (dt == BIN)
 				o = is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
-				OList ol = new OList(this);
+				OList ol = newOList();
 				for (int i = 0; i < length; i++)
 					ol.add(parseAnything(object(), is, outer, pMeta));
 				o = ol;
 			} else if (dt == MAP && sType.isObject()) {
-				OMap om = new OMap(this);
+				OMap om = newOMap();
 				for (int i = 0; i < length; i++)
 					om.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
 				o = cast(om, pMeta, eType);
@@ -154,7 +191,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = sType.newInstanceFromString(outer, o == null ? "" : o.toString());
 			} else if (sType.isCollection()) {
 				if (dt == MAP) {
-					OMap m = new OMap(this);
+					OMap m = newOMap();
 					for (int i = 0; i < length; i++)
 						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
@@ -162,7 +199,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					Collection l = (
 						sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance()
-						: new OList(this)
+						: newOList()
 					);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
@@ -172,7 +209,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				}
 			} else if (sType.isArray() || sType.isArgs()) {
 				if (dt == MAP) {
-					OMap m = new OMap(this);
+					OMap m = newOMap();
 					for (int i = 0; i < length; i++)
 						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
@@ -180,7 +217,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					Collection l = (
 						sType.isCollection() && sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance()
-						: new OList(this)
+						: newOList()
 					);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
@@ -189,7 +226,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
 				}
 			} else if (dt == MAP) {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				for (int i = 0; i < length; i++)
 					m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 				if (m.containsKey(getBeanTypePropertyName(eType)))
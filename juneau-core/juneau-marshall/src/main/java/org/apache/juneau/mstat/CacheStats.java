@@ -0,0 +1,123 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.mstat;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
+
+/**
+ * A snapshot of the hit/miss/eviction counters of a named cache.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jm'>{@link Cache#getStats()}
+ * </ul>
+ */
+@Bean(properties="name,size,maxSize,hits,misses,evictions")
+public class CacheStats {
+
+	/**
+	 * Returns a snapshot of the statistics of all the named caches in this JVM.
+	 *
+	 * @return A snapshot of the statistics of all the named caches ordered by name.
+	 */
+	public static List<CacheStats> getAll() {
+		return Cache.getRegistered().stream().map(Cache::getStats).collect(Collectors.toList());
+	}
+
+	private final String name;
+	private final int size, maxSize;
+	private final long hits, misses, evictions;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name The cache name.
+	 * @param size The current number of entries in the cache.
+	 * @param maxSize The maximum number of entries in the cache.
+	 * @param hits The number of cache hits.
+	 * @param misses The number of cache misses.
+	 * @param evictions The number of evicted entries.
+	 */
+	public CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions) {
+		this.name = name;
+		this.size = size;
+		this.maxSize = maxSize;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	/**
+	 * Returns the cache name.
+	 *
+	 * @return The cache name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of entries in the cache when this snapshot was taken.
+	 *
+	 * @return The number of entries in the cache.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of entries in the cache.
+	 *
+	 * @return The maximum number of entries in the cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached value.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a cached value.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of entries removed from the cache to make room for new entries.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return json(this);
+	}
+}
@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.mstat;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A concurrent, log-bucketed histogram of execution times.
+ *
+ * <p>
+ * Times are recorded with microsecond resolution into buckets whose widths grow with the magnitude of the value, so
+ * that every bucket covers at most 1/16th of its lower bound.
+ * <br>Percentiles are therefore accurate to within about 3%, regardless of whether the times are microseconds or
+ * minutes.
+ *
+ * <p>
+ * Each bucket is a {@link LongAdder} that is created the first time a value falls into it, so recording is lock-free
+ * and contention between threads is spread across cells.
+ */
+public class LatencyHistogram {
+
+	private static final int
+		SUB_BITS = 4,
+		SUB_COUNT = 1 << SUB_BITS,
+		MAX_EXP = 36,  // 2^36us is about 19 hours.
+		BUCKETS = (MAX_EXP - SUB_BITS + 2) * SUB_COUNT;
+
+	private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * Records an execution time.
+	 *
+	 * @param nanoTime The execution time in nanoseconds.
+	 * @return This object (for method chaining).
+	 */
+	public LatencyHistogram record(long nanoTime) {
+		bucket(index(nanoTime / 1_000)).increment();
+		count.increment();
+		return this;
+	}
+
+	/**
+	 * Returns the number of times recorded in this histogram.
+	 *
+	 * @return The number of times recorded in this histogram.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the execution time at the specified percentile.
+	 *
+	 * @param percentile The percentile between <c>0</c> and <c>100</c> (e.g. <c>99.9</c>).
+	 * @return The execution time in nanoseconds, or <c>0</c> if no times have been recorded.
+	 */
+	public long getPercentile(double percentile) {
+		return getPercentile(percentile, this);
+	}
+
+	/**
+	 * Returns the execution time at the specified percentile across the combined contents of several histograms.
+	 *
+	 * @param percentile The percentile between <c>0</c> and <c>100</c> (e.g. <c>99.9</c>).
+	 * @param histograms The histograms to combine.
+	 * @return The execution time in nanoseconds, or <c>0</c> if no times have been recorded.
+	 */
+	public static long getPercentile(double percentile, LatencyHistogram...histograms) {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (LatencyHistogram h : histograms) {
+			for (int i = 0; i < BUCKETS; i++) {
+				LongAdder a = h.buckets.get(i);
+				if (a != null) {
+					long c = a.sum();
+					counts[i] += c;
+					total += c;
+				}
+			}
+		}
+		if (total == 0)
+			return 0;
+		long target = Math.max(1, (long)Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= target)
+				return value(i) * 1_000;
+		}
+		return value(BUCKETS - 1) * 1_000;
+	}
+
+	private LongAdder bucket(int i) {
+		LongAdder a = buckets.get(i);
+		if (a == null) {
+			buckets.compareAndSet(i, null, new LongAdder());
+			a = buckets.get(i);
+		}
+		return a;
+	}
+
+	/*
+	 * Values below SUB_COUNT get their own bucket.
+	 * Above that, each power of two is split into SUB_COUNT equal-width buckets.
+	 */
+	static int index(long micros) {
+		if (micros < SUB_COUNT)
+			return micros < 0 ? 0 : (int)micros;
+		int exp = 63 - Long.numberOfLeadingZeros(micros);
+		if (exp > MAX_EXP)
+			return BUCKETS - 1;
+		int sub = (int)(micros >>> (exp - SUB_BITS)) & (SUB_COUNT - 1);
+		return (exp - SUB_BITS + 1) * SUB_COUNT + sub;
+	}
+
+	/*
+	 * Returns the midpoint of the range of values covered by the specified bucket.
+	 */
+	static long value(int index) {
+		int block = index / SUB_COUNT, sub = index % SUB_COUNT;
+		if (block == 0)
+			return index;
+		long lower = (long)(SUB_COUNT + sub) << (block - 1);
+		return lower + ((1L << (block - 1)) >> 1);
+	}
+}
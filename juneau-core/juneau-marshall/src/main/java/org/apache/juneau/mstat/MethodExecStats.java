@@ -16,10 +16,12 @@ import static java.util.Optional.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.cp.*;
 import org.apache.juneau.internal.*;
 
@@ -27,6 +29,10 @@ import org.apache.juneau.internal.*;
  * Method execution statistics.
  *
  * Keeps track of number of starts/finishes on tasks and keeps an average run time.
+ *
+ * <p>
+ * Execution times are also recorded in a {@link LatencyHistogram} so that percentiles can be reported, both over the
+ * lifetime of the method and over a recent window of time.
  */
 public class MethodExecStats {
 
@@ -55,6 +61,7 @@ public class MethodExecStats {
 
 		Method method;
 		ThrownStore thrownStore;
+		Duration window = Duration.ofMinutes(1);
 
 		/**
 		 * Constructor.
@@ -72,6 +79,7 @@ public class MethodExecStats {
 			super(copyFrom);
 			method = copyFrom.method;
 			thrownStore = copyFrom.thrownStore;
+			window = copyFrom.window;
 		}
 
 		@Override /* BeanBuilder */
@@ -112,6 +120,25 @@ public class MethodExecStats {
 			return this;
 		}
 
+		/**
+		 * Specifies the length of the window used for the recent percentiles.
+		 *
+		 * <p>
+		 * Recent percentiles are computed from the times recorded during the current window and the one before it, so
+		 * they cover between one and two windows of time.
+		 *
+		 * <p>
+		 * The default is 1 minute.
+		 *
+		 * @param value The new value for this setting.
+		 * @return  This object (for method chaining).
+		 */
+		@FluentSetter
+		public Builder window(Duration value) {
+			window = value;
+			return this;
+		}
+
 		// <FluentSetters>
 
 		@Override /* BeanBuilder */
@@ -149,15 +176,22 @@ public class MethodExecStats {
 	private final Method method;
 	private final ThrownStore thrownStore;
 
-	private volatile int minTime = -1, maxTime;
+	private final LongAdder
+		starts = new LongAdder(),
+		finishes = new LongAdder(),
+		errors = new LongAdder(),
+		totalTime = new LongAdder();
+
+	private final LongAccumulator
+		minTime = new LongAccumulator(Math::min, Long.MAX_VALUE),
+		maxTime = new LongAccumulator(Math::max, 0);
 
-	private AtomicInteger
-		starts = new AtomicInteger(),
-		finishes = new AtomicInteger(),
-		errors = new AtomicInteger();
+	private final LatencyHistogram histogram = new LatencyHistogram();
 
-	private AtomicLong
-		totalTime = new AtomicLong();
+	// The recent-window histograms.  Rotated when the current window expires.
+	private final long windowNanos;
+	private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+	private volatile LatencyHistogram currentWindow = new LatencyHistogram(), previousWindow = new LatencyHistogram();
 
 	/**
 	 * Constructor.
@@ -168,6 +202,7 @@ public class MethodExecStats {
 		this.guid = new Random().nextLong();
 		this.method = builder.method;
 		this.thrownStore = ofNullable(builder.thrownStore).orElseGet(ThrownStore::new);
+		this.windowNanos = builder.window.toNanos();
 	}
 
 
@@ -177,7 +212,7 @@ public class MethodExecStats {
 	 * @return This object (for method chaining).
 	 */
 	public MethodExecStats started() {
-		starts.incrementAndGet();
+		starts.increment();
 		return this;
 	}
 
@@ -188,11 +223,12 @@ public class MethodExecStats {
 	 * @return This object (for method chaining).
 	 */
 	public MethodExecStats finished(long nanoTime) {
-		finishes.incrementAndGet();
-		int milliTime = (int)(nanoTime/1_000_000);
-		totalTime.addAndGet(nanoTime);
-		minTime = minTime == -1 ? milliTime : Math.min(minTime, milliTime);
-		maxTime = Math.max(maxTime, milliTime);
+		finishes.increment();
+		totalTime.add(nanoTime);
+		minTime.accumulate(nanoTime);
+		maxTime.accumulate(nanoTime);
+		histogram.record(nanoTime);
+		currentWindow().record(nanoTime);
 		return this;
 	}
 
@@ -203,7 +239,7 @@ public class MethodExecStats {
 	 * @return This object (for method chaining).
 	 */
 	public MethodExecStats error(Throwable e) {
-		errors.incrementAndGet();
+		errors.increment();
 		thrownStore.add(e);
 		return this;
 	}
@@ -237,7 +273,7 @@ public class MethodExecStats {
 	 * @return The number of times the {@link #started()} method was called.
 	 */
 	public int getRuns() {
-		return starts.get();
+		return starts.intValue();
 	}
 
 	/**
@@ -246,7 +282,7 @@ public class MethodExecStats {
 	 * @return The number of currently running method invocations.
 	 */
 	public int getRunning() {
-		return starts.get() - finishes.get();
+		return starts.intValue() - finishes.intValue();
 	}
 
 	/**
@@ -255,25 +291,26 @@ public class MethodExecStats {
 	 * @return The number of times the {@link #error(Throwable)} method was called.
 	 */
 	public int getErrors() {
-		return errors.get();
+		return errors.intValue();
 	}
 
 	/**
-	 * Returns the max execution time.
+	 * Returns the min execution time.
 	 *
-	 * @return The average execution time in milliseconds.
+	 * @return The min execution time in milliseconds.
 	 */
 	public int getMinTime() {
-		return minTime == -1 ? 0 : minTime;
+		long t = minTime.get();
+		return t == Long.MAX_VALUE ? 0 : (int)(t / 1_000_000);
 	}
 
 	/**
 	 * Returns the max execution time.
 	 *
-	 * @return The average execution time in milliseconds.
+	 * @return The max execution time in milliseconds.
 	 */
 	public int getMaxTime() {
-		return maxTime;
+		return (int)(maxTime.get() / 1_000_000);
 	}
 
 	/**
@@ -282,7 +319,7 @@ public class MethodExecStats {
 	 * @return The average execution time in milliseconds.
 	 */
 	public int getAvgTime() {
-		int runs = finishes.get();
+		int runs = finishes.intValue();
 		return runs == 0 ? 0 : (int)(getTotalTime() / runs);
 	}
 
@@ -292,7 +329,109 @@ public class MethodExecStats {
 	 * @return The total execution time in milliseconds.
 	 */
 	public long getTotalTime() {
-		return totalTime.get() / 1_000_000;
+		return totalTime.sum() / 1_000_000;
+	}
+
+	/**
+	 * Returns the median execution time.
+	 *
+	 * @return The median execution time in milliseconds.
+	 */
+	public double getP50Time() {
+		return getPercentileTime(50);
+	}
+
+	/**
+	 * Returns the 95th percentile execution time.
+	 *
+	 * @return The 95th percentile execution time in milliseconds.
+	 */
+	public double getP95Time() {
+		return getPercentileTime(95);
+	}
+
+	/**
+	 * Returns the 99th percentile execution time.
+	 *
+	 * @return The 99th percentile execution time in milliseconds.
+	 */
+	public double getP99Time() {
+		return getPercentileTime(99);
+	}
+
+	/**
+	 * Returns the median execution time over the recent window.
+	 *
+	 * @return The median execution time in milliseconds.
+	 * @see Builder#window(Duration)
+	 */
+	public double getRecentP50Time() {
+		return getRecentPercentileTime(50);
+	}
+
+	/**
+	 * Returns the 95th percentile execution time over the recent window.
+	 *
+	 * @return The 95th percentile execution time in milliseconds.
+	 * @see Builder#window(Duration)
+	 */
+	public double getRecentP95Time() {
+		return getRecentPercentileTime(95);
+	}
+
+	/**
+	 * Returns the 99th percentile execution time over the recent window.
+	 *
+	 * @return The 99th percentile execution time in milliseconds.
+	 * @see Builder#window(Duration)
+	 */
+	public double getRecentP99Time() {
+		return getRecentPercentileTime(99);
+	}
+
+	/**
+	 * Returns the execution time at the specified percentile over the lifetime of the method.
+	 *
+	 * @param percentile The percentile between <c>0</c> and <c>100</c> (e.g. <c>99.9</c>).
+	 * @return The execution time in milliseconds, accurate to the microsecond.
+	 */
+	public double getPercentileTime(double percentile) {
+		return toMillis(histogram.getPercentile(percentile));
+	}
+
+	/**
+	 * Returns the execution time at the specified percentile over the recent window.
+	 *
+	 * @param percentile The percentile between <c>0</c> and <c>100</c> (e.g. <c>99.9</c>).
+	 * @return The execution time in milliseconds, accurate to the microsecond.
+	 * @see Builder#window(Duration)
+	 */
+	public double getRecentPercentileTime(double percentile) {
+		LatencyHistogram current = currentWindow();
+		return toMillis(LatencyHistogram.getPercentile(percentile, previousWindow, current));
+	}
+
+	/**
+	 * Returns the histogram of execution times over the lifetime of the method.
+	 *
+	 * @return The histogram of execution times.
+	 */
+	@BeanIgnore
+	public LatencyHistogram getHistogram() {
+		return histogram;
+	}
+
+	private LatencyHistogram currentWindow() {
+		long now = System.nanoTime(), start = windowStart.get();
+		if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+			previousWindow = now - start >= windowNanos * 2 ? new LatencyHistogram() : currentWindow;
+			currentWindow = new LatencyHistogram();
+		}
+		return currentWindow;
+	}
+
+	private static double toMillis(long nanoTime) {
+		return Math.round(nanoTime / 1_000d) / 1_000d;
 	}
 
 	/**
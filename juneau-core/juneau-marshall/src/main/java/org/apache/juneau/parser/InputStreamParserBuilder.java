@@ -534,12 +534,24 @@ public abstract class InputStreamParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public InputStreamParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public InputStreamParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public InputStreamParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public InputStreamParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -552,6 +564,12 @@ public abstract class InputStreamParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public InputStreamParserBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public InputStreamParserBuilder strict() {
 		super.strict();
@@ -176,6 +176,40 @@ public abstract class Parser extends BeanContextable {
 	 */
 	public static final String PARSER_autoCloseStreams = PREFIX + ".autoCloseStreams.b";
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * When enabled, generic maps and lists created by the parser (e.g. when parsing into <c>Object.<jk>class</jk></c>)
+	 * use a compact array-backed representation instead of linked nodes and hash tables.
+	 *
+	 * <p>
+	 * The parsed objects are still {@link OMap} and {@link OList} instances, but use a fraction of the memory when
+	 * parsing large untyped documents.
+	 * <br>Lists are stored in arrays and maps are stored as arrays of keys and values until they grow past a handful of
+	 * entries.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.Parser#PARSER_compactCollections PARSER_compactCollections}
+	 * 	<li><b>Name:</b>  <js>"Parser.compactCollections.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Parser.compactCollections</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSER_COMPACTCOLLECTIONS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.parser.annotation.ParserConfig#compactCollections()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#compactCollections()}
+	 * 		</ul>
+	 * </ul>
+	 */
+	public static final String PARSER_compactCollections = PREFIX + ".compactCollections.b";
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -229,6 +263,44 @@ public abstract class Parser extends BeanContextable {
 	 */
 	public static final String PARSER_listener = PREFIX + ".listener.c";
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * When enabled, the <c>parse()</c> convenience methods on this parser reuse session objects instead of creating a
+	 * new session on every call.
+	 *
+	 * <p>
+	 * Idle sessions are kept in a small pool shared by all threads (at most twice the number of processors), and are
+	 * reset and reused by later calls.
+	 * <br>The pool belongs to the parser and doesn't use thread-local storage, so pooled sessions aren't kept alive by
+	 * long-lived threads such as the request threads of a servlet container.
+	 * <br>Sessions created through {@link #createSession(ParserSessionArgs)} and sessions used by
+	 * {@link #parseStream(Object, Class)} are never pooled.
+	 * <br>Pooling is not used when a {@link #PARSER_listener listener} is defined since listeners are created once per
+	 * session.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.Parser#PARSER_poolSessions PARSER_poolSessions}
+	 * 	<li><b>Name:</b>  <js>"Parser.poolSessions.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Parser.poolSessions</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSER_POOLSESSIONS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.parser.annotation.ParserConfig#poolSessions()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#poolSessions()}
+	 * 		</ul>
+	 * </ul>
+	 */
+	public static final String PARSER_poolSessions = PREFIX + ".poolSessions.b";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -315,9 +387,10 @@ public abstract class Parser extends BeanContextable {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
+	private final boolean trimStrings, strict, autoCloseStreams, unbuffered, poolSessions, compactCollections;
 	private final int debugOutputLines;
 	private final Class<? extends ParserListener> listener;
+	private final ObjectPool<ParserSession> sessionPool;
 
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
@@ -340,6 +413,9 @@ public abstract class Parser extends BeanContextable {
 		debugOutputLines = cp.getInteger(PARSER_debugOutputLines).orElse(5);
 		unbuffered = cp.getBoolean(PARSER_unbuffered).orElse(false);
 		listener = cp.getClass(PARSER_listener, ParserListener.class).orElse(null);
+		poolSessions = cp.getBoolean(PARSER_poolSessions).orElse(false);
+		compactCollections = cp.getBoolean(PARSER_compactCollections).orElse(false);
+		sessionPool = poolSessions && listener == null ? new ObjectPool<>(ObjectPool.DEFAULT_SIZE) : null;
 
 		String[] consumes = StringUtils.split(_consumes, ',');
 		this.consumes = new MediaType[consumes.length];
@@ -459,7 +535,12 @@ public abstract class Parser extends BeanContextable {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T parse(Object input, Type type, Type...args) throws ParseException, IOException {
-		return createSession().parse(input, type, args);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -480,7 +561,12 @@ public abstract class Parser extends BeanContextable {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T parse(String input, Type type, Type...args) throws ParseException {
-		return createSession().parse(input, type, args);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -519,7 +605,12 @@ public abstract class Parser extends BeanContextable {
 	 * @throws IOException Thrown by the underlying stream.
 	 */
 	public final <T> T parse(Object input, Class<T> type) throws ParseException, IOException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -534,7 +625,12 @@ public abstract class Parser extends BeanContextable {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T parse(String input, Class<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -554,7 +650,12 @@ public abstract class Parser extends BeanContextable {
 	 * @throws IOException Thrown by the underlying stream.
 	 */
 	public final <T> T parse(Object input, ClassMeta<T> type) throws ParseException, IOException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -569,7 +670,12 @@ public abstract class Parser extends BeanContextable {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T parse(String input, ClassMeta<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	@Override /* Context */
@@ -611,7 +717,12 @@ public abstract class Parser extends BeanContextable {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <K,V> Map<K,V> parseIntoMap(Object input, Map<K,V> m, Type keyType, Type valueType) throws ParseException {
-		return createSession().parseIntoMap(input, m, keyType, valueType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoMap(input, m, keyType, valueType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -634,7 +745,60 @@ public abstract class Parser extends BeanContextable {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <E> Collection<E> parseIntoCollection(Object input, Collection<E> c, Type elementType) throws ParseException {
-		return createSession().parseIntoCollection(input, c, elementType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoCollection(input, c, elementType);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Parses the entries of an array one at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)} with an array or collection type, entries are parsed as the returned
+	 * iterator is advanced instead of all being loaded into memory at once.
+	 * <br>Useful for processing very large arrays.
+	 *
+	 * <p>
+	 * The returned iterator takes ownership of the input and must be closed if it's not read to the end.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (Stream&lt;MyBean&gt; s = JsonParser.<jsf>DEFAULT</jsf>.parseStream(reader, MyBean.<jk>class</jk>).stream()) {
+	 * 		s.forEach(x -&gt; process(x));
+	 * 	}
+	 * </p>
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the entries.
+	 * @return An iterator over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the start of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseStream(Object input, Class<E> elementType) throws ParseException {
+		return createSession().parseStream(input, elementType);
+	}
+
+	/**
+	 * Same as {@link #parseStream(Object, Class)} but allows you to parse entries of generic types.
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType
+	 * 	The class type of the entries.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @param args
+	 * 	The type arguments of the entry type.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @return An iterator over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the start of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseStream(Object input, Type elementType, Type...args) throws ParseException {
+		return createSession().parseStream(input, elementType, args);
 	}
 
 	/**
@@ -660,7 +824,41 @@ public abstract class Parser extends BeanContextable {
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
 		if (argTypes == null || argTypes.length == 0)
 			return new Object[0];
-		return createSession().parseArgs(input, argTypes);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseArgs(input, argTypes);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns a session with the default session arguments for the convenience methods on this class.
+	 *
+	 * <p>
+	 * If {@link #PARSER_poolSessions} is enabled, reuses an idle session from the pool if there is one.
+	 * <br>The session must be handed back through {@link #releaseSession(ParserSession)} once the call is done.
+	 *
+	 * @return A session.  Never <jk>null</jk>.
+	 */
+	final ParserSession acquireSession() {
+		if (sessionPool != null) {
+			// Sessions in use (including ones used by nested calls) are not in the pool.
+			ParserSession s = sessionPool.poll();
+			if (s != null)
+				return s;
+		}
+		return createSession();
+	}
+
+	/**
+	 * Hands back a session returned by {@link #acquireSession()}.
+	 *
+	 * @param s The session.
+	 */
+	final void releaseSession(ParserSession s) {
+		if (sessionPool != null && s.release())
+			sessionPool.offer(s);
 	}
 
 
@@ -716,6 +914,17 @@ public abstract class Parser extends BeanContextable {
 		return autoCloseStreams;
 	}
 
+	/**
+	 * Compact collections.
+	 *
+	 * @see #PARSER_compactCollections
+	 * @return
+	 * 	<jk>true</jk> if generic maps and lists created by the parser use a compact array-backed representation.
+	 */
+	protected final boolean isCompactCollections() {
+		return compactCollections;
+	}
+
 	/**
 	 * Debug output lines.
 	 *
@@ -738,6 +947,17 @@ public abstract class Parser extends BeanContextable {
 		return listener;
 	}
 
+	/**
+	 * Pool sessions.
+	 *
+	 * @see #PARSER_poolSessions
+	 * @return
+	 * 	<jk>true</jk> if the <c>parse()</c> convenience methods reuse session objects.
+	 */
+	protected final boolean isPoolSessions() {
+		return poolSessions;
+	}
+
 	/**
 	 * Strict mode.
 	 *
@@ -785,8 +1005,10 @@ public abstract class Parser extends BeanContextable {
 					.create()
 					.filtered()
 					.a("autoCloseStreams", autoCloseStreams)
+					.a("compactCollections", compactCollections)
 					.a("debugOutputLines", debugOutputLines)
 					.a("listener", listener)
+					.a("poolSessions", poolSessions)
 					.a("strict", strict)
 					.a("trimStrings", trimStrings)
 					.a("unbuffered", unbuffered)
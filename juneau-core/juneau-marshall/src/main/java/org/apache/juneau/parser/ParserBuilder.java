@@ -128,6 +128,38 @@ public abstract class ParserBuilder extends BeanContextableBuilder {
 		return set(PARSER_autoCloseStreams);
 	}
 
+	/**
+	 * Compact collections.
+	 *
+	 * <p>
+	 * When enabled, generic maps and lists created by the parser (e.g. when parsing into <c>Object.<jk>class</jk></c>)
+	 * use a compact array-backed representation instead of linked nodes and hash tables.
+	 *
+	 * <p>
+	 * The parsed objects are still <c>OMap</c> and <c>OList</c> instances, but use a fraction of the memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that produces compact maps and lists.</jc>
+	 * 	ReaderParser <jv>parser</jv> = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.compactCollections()
+	 * 		.build();
+	 *
+	 * 	OMap <jv>map</jv> = (OMap)<jv>parser</jv>.parse(<js>"{foo:[1,2,3]}"</js>, Object.<jk>class</jk>);
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public ParserBuilder compactCollections() {
+		return set(PARSER_compactCollections);
+	}
+
 	/**
 	 * Debug output lines.
 	 *
@@ -221,6 +253,40 @@ public abstract class ParserBuilder extends BeanContextableBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Pool sessions.
+	 *
+	 * <p>
+	 * When enabled, the <c>parse()</c> convenience methods on the parser reuse session objects instead of creating a
+	 * new session on every call.
+	 *
+	 * <p>
+	 * Idle sessions are kept in a small pool shared by all threads, and are reset and reused by later calls.
+	 * <br>This reduces the garbage created when parsing large numbers of small inputs.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reuses its sessions.</jc>
+	 * 	ReaderParser <jv>parser</jv> = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.poolSessions()
+	 * 		.build();
+	 *
+	 * 	<jc>// Subsequent calls reuse idle sessions from the pool.</jc>
+	 * 	MyBean <jv>myBean</jv> = <jv>parser</jv>.parse(<jv>json</jv>, MyBean.<jk>class</jk>);
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_poolSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public ParserBuilder poolSessions() {
+		return set(PARSER_poolSessions);
+	}
+
 
 	/**
 	 * Strict mode.
@@ -807,5 +873,11 @@ public abstract class ParserBuilder extends BeanContextableBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public ParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 }
\ No newline at end of file
@@ -12,14 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.parser;
 
-import static org.apache.juneau.http.HttpHeaders.*;
 import static org.apache.juneau.internal.ExceptionUtils.*;
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -28,6 +27,8 @@ import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.cp.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.mstat.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -463,8 +464,23 @@ public final class ParserGroup {
 	// Instance
 	//-----------------------------------------------------------------------------------------------------------------
 
-	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	// The maximum number of distinct normalized Content-Type headers cached per group.
+	private static final int MATCH_CACHE_MAX_SIZE = Integer.getInteger("juneau.ParserGroup.matchCacheMaxSize", 100);
+
+	// Content-Type headers whose matches are computed when the group is created.
+	private static final String[] COMMON_CONTENT_TYPE_HEADERS = {"*/*", "application/json", "text/html"};
+
+	// Cached result for Content-Type headers that don't match any parser.
+	private static final ParserMatch NO_MATCH = new ParserMatch(null, null);
+
+	// Maps normalized Content-Type headers to matches.
+	private final Cache<String,ParserMatch> cache = new Cache<>(false, MATCH_CACHE_MAX_SIZE);
+
+	// Precomputed matches for the most common Content-Type headers.
+	private final Map<String,ParserMatch> commonMatches;
+
+	// Number of lookups that had to score the media types.
+	private final LongAdder scoredMatches = new LongAdder();
 
 	private final List<MediaType> mediaTypes;
 	private final List<Parser> mediaTypeParsers;
@@ -491,6 +507,11 @@ public final class ParserGroup {
 
 		this.mediaTypes = lmt.unmodifiable();
 		this.mediaTypeParsers = l.unmodifiable();
+
+		Map<String,ParserMatch> cm = new HashMap<>();
+		for (String h : COMMON_CONTENT_TYPE_HEADERS)
+			cm.put(h, findMatch(MediaType.of(h)));
+		this.commonMatches = cm;
 	}
 
 	private Parser build(Object o) {
@@ -514,23 +535,39 @@ public final class ParserGroup {
 	 * <p>
 	 * The returned object includes both the parser and media type that matched.
 	 *
+	 * <p>
+	 * Matches are cached in a bounded cache keyed on the <js>"type/subtype"</js> part of the header, so headers that
+	 * only differ by parameters such as <js>"charset"</js> share the same entry.
+	 * <br>Matches for <js>"*\/*"</js>, <js>"application/json"</js>, and <js>"text/html"</js> are computed when the
+	 * group is created.
+	 *
 	 * @param contentTypeHeader The HTTP <l>Content-Type</l> header value.
 	 * @return The parser and media type that matched the content type header, or <jk>null</jk> if no match was made.
 	 */
 	public ParserMatch getParserMatch(String contentTypeHeader) {
-		ParserMatch pm = cache.get(contentTypeHeader);
-		if (pm != null)
-			return pm;
-
-		ContentType ct = contentType(contentTypeHeader);
-		int match = ct.match(mediaTypes);
-
-		if (match >= 0) {
-			pm = new ParserMatch(mediaTypes.get(match), mediaTypeParsers.get(match));
-			cache.putIfAbsent(contentTypeHeader, pm);
+		if (contentTypeHeader == null)
+			return null;
+		ParserMatch pm = commonMatches.get(contentTypeHeader);
+		if (pm == null) {
+			MediaType mt = MediaType.of(contentTypeHeader);
+			if (mt == null)
+				mt = MediaType.EMPTY;
+			String key = mt.getType() + '/' + mt.getSubType();
+			pm = commonMatches.get(key);
+			if (pm == null) {
+				pm = cache.get(key);
+				if (pm == null) {
+					scoredMatches.increment();
+					pm = cache.put(key, findMatch(mt));
+				}
+			}
 		}
+		return pm == NO_MATCH ? null : pm;
+	}
 
-		return cache.get(contentTypeHeader);
+	private ParserMatch findMatch(MediaType mt) {
+		int match = ContentType.of(mt).match(mediaTypes);
+		return match >= 0 ? new ParserMatch(mediaTypes.get(match), mediaTypeParsers.get(match)) : NO_MATCH;
 	}
 
 	/**
@@ -594,4 +631,23 @@ public final class ParserGroup {
 	public boolean isEmpty() {
 		return entries.length == 0;
 	}
+
+	/**
+	 * Returns the statistics of the cache used by {@link #getParserMatch(String)}.
+	 *
+	 * @return A snapshot of the hit/miss/eviction counters of the match cache.
+	 */
+	public CacheStats getMatchCacheStats() {
+		return cache.getStats();
+	}
+
+	/**
+	 * Returns the number of times {@link #getParserMatch(String)} had to score the media type of a
+	 * <c>Content-Type</c> header against the parsers in this group because no cached or precomputed match was found.
+	 *
+	 * @return The number of scored matches.
+	 */
+	public long getScoredMatchCount() {
+		return scoredMatches.sum();
+	}
 }
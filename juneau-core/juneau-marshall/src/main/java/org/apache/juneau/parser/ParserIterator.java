@@ -0,0 +1,152 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Iterates over the entries of an array while it's being parsed.
+ *
+ * <p>
+ * Returned by {@link ParserSession#parseStream(Object, Class)} and {@link Parser#parseStream(Object, Class)}.
+ * <br>Entries are parsed one at a time as the iterator is advanced, so only the entry being parsed needs to be held in
+ * memory.
+ *
+ * <p>
+ * The input is closed once the end of the array is reached, if a parse error occurs, or when {@link #close()} is called.
+ * <br>Since {@link Iterator} methods cannot throw checked exceptions, parse errors are thrown as
+ * {@link BeanRuntimeException BeanRuntimeExceptions} whose cause is the {@link ParseException}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseStream(reader, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (i.hasNext())
+ * 			process(i.next());
+ * 	}
+ *
+ * 	<jc>// Or as a stream.</jc>
+ * 	<jk>try</jk> (Stream&lt;MyBean&gt; s = JsonParser.<jsf>DEFAULT</jsf>.parseStream(reader, MyBean.<jk>class</jk>).stream()) {
+ * 		s.forEach(x -&gt; process(x));
+ * 	}
+ * </p>
+ *
+ * @param <E> The entry type.
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private final ParserSession session;
+	private final ParserPipe pipe;
+	private E next;
+	private boolean hasNext, closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session doing the parsing.
+	 * @param pipe The parser input.  Closed when this iterator is closed.
+	 */
+	protected ParserIterator(ParserSession session, ParserPipe pipe) {
+		this.session = session;
+		this.pipe = pipe;
+	}
+
+	/**
+	 * Reads the next entry from the input.
+	 *
+	 * <p>
+	 * Implementations call {@link #setNext(Object)} with the entry that was read.
+	 *
+	 * @return <jk>true</jk> if an entry was read, <jk>false</jk> if the end of the array was reached.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected abstract boolean readNext() throws Exception;
+
+	/**
+	 * Sets the entry read by {@link #readNext()}.
+	 *
+	 * @param value The entry.  Can be <jk>null</jk>.
+	 */
+	protected final void setNext(E value) {
+		next = value;
+	}
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (hasNext)
+			return true;
+		if (closed)
+			return false;
+		try {
+			hasNext = readNext();
+		} catch (ParseException e) {
+			close();
+			throw new BeanRuntimeException(e);
+		} catch (StackOverflowError e) {
+			close();
+			throw new BeanRuntimeException(new ParseException(session, "Depth too deep.  Stack overflow occurred."));
+		} catch (Exception e) {
+			close();
+			throw new BeanRuntimeException(new ParseException(session, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage()));
+		}
+		if (! hasNext)
+			close();
+		return hasNext;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		E e = next;
+		next = null;
+		hasNext = false;
+		return e;
+	}
+
+	/**
+	 * Returns the remaining entries as a sequential stream.
+	 *
+	 * <p>
+	 * Closing the stream closes this iterator.
+	 *
+	 * @return A new stream.
+	 */
+	public Stream<E> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+	}
+
+	/**
+	 * Closes the underlying input.
+	 *
+	 * <p>
+	 * Any remaining entries are not read.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		if (! closed) {
+			closed = true;
+			hasNext = false;
+			next = null;
+			try {
+				pipe.close();
+			} finally {
+				session.checkForWarnings();
+			}
+		}
+	}
+}
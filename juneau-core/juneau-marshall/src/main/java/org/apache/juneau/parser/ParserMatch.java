@@ -12,6 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.parser;
 
+import static org.apache.juneau.internal.ObjectUtils.*;
+
+import java.util.*;
+
 import org.apache.juneau.http.header.*;
 
 /**
@@ -50,4 +54,14 @@ public final class ParserMatch {
 	public Parser getParser() {
 		return parser;
 	}
+
+	@Override /* Object */
+	public int hashCode() {
+		return Objects.hash(mediaType, System.identityHashCode(parser));
+	}
+
+	@Override /* Object */
+	public boolean equals(Object o) {
+		return (o instanceof ParserMatch) && eq(this, (ParserMatch)o, (x,y)->eq(x.mediaType, y.mediaType) && x.parser == y.parser);
+	}
 }
@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.ExceptionUtils.*;
 
 import java.io.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 
 /**
@@ -305,6 +306,35 @@ public class ParserReader extends Reader implements Positionable {
 	 * @return The contents of the reusable character buffer as a string.
 	 */
 	public final String getMarked(int offsetStart, int offsetEnd) {
+		return getMarked(offsetStart, offsetEnd, null);
+	}
+
+	/**
+	 * Same as {@link #getMarked(int, int)} except returns the matching property name of the specified bean if there is
+	 * one.
+	 *
+	 * <p>
+	 * Avoids creating a new string when the marked characters are a known property name.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param bm The bean whose property names are being parsed.  Can be <jk>null</jk>.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(int offsetStart, int offsetEnd, BeanMeta<?> bm) {
+		// Holes can only be removed once, so the start and length must not be recomputed after this point.
+		int start = iMark + offsetStart, len = removeHoles() + offsetEnd - offsetStart;
+		String s = bm == null ? null : bm.getPropertyName(buff, start, len);
+		if (s == null)
+			s = new String(buff, start, len);
+		iMark = -1;
+		return s;
+	}
+
+	/*
+	 * Removes any 'delete' characters from the marked characters and returns the number of marked characters remaining.
+	 */
+	private int removeHoles() {
 		int offset = 0;
 
 		// Holes are \u00FF 'delete' characters that we need to get rid of now.
@@ -318,10 +348,7 @@ public class ParserReader extends Reader implements Positionable {
 			}
 			holesExist = false;
 		}
-		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart - offset;
-		String s = new String(buff, start, len);
-		iMark = -1;
-		return s;
+		return iCurrent - iMark - offset;
 	}
 
 	/**
@@ -221,6 +221,32 @@ public abstract class ParserSession extends BeanSession {
 		return s;
 	}
 
+	/**
+	 * Creates a new generic map for storing parsed objects.
+	 *
+	 * @return A new empty map associated with this session.
+	 * @see Parser#PARSER_compactCollections
+	 */
+	protected final OMap newOMap() {
+		return isCompactCollections() ? OMap.createCompact().session(this) : new OMap(this);
+	}
+
+	/**
+	 * Creates a new generic list for storing parsed arrays.
+	 *
+	 * @return A new empty list associated with this session.
+	 * @see Parser#PARSER_compactCollections
+	 */
+	protected final OList newOList() {
+		return isCompactCollections() ? OList.createCompact().session(this) : new OList(this);
+	}
+
+	@Override /* BeanSession */
+	protected Map newGenericMap(ClassMeta mapMeta) {
+		ClassMeta<?> k = mapMeta.getKeyType();
+		return (k == null || k.isString()) ? newOMap() : new AMap();
+	}
+
 	/**
 	 * Converts the specified <c>OMap</c> into a bean identified by the <js>"_type"</js> property in the map.
 	 *
@@ -718,6 +744,97 @@ public abstract class ParserSession extends BeanSession {
 		throw unsupportedOperationException("Parser ''{0}'' does not support this method.", className(getClass()));
 	}
 
+	/**
+	 * Parses the entries of an array one at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)} with an array or collection type, entries are parsed as the returned
+	 * iterator is advanced instead of all being loaded into memory at once.
+	 * <br>Useful for processing very large arrays.
+	 *
+	 * <p>
+	 * The returned iterator takes ownership of the input and must be closed if it's not read to the end.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = session.parseStream(reader, MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the entries.
+	 * @return An iterator over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the start of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseStream(Object input, Class<E> elementType) throws ParseException {
+		return parseStream(input, getClassMeta(elementType));
+	}
+
+	/**
+	 * Same as {@link #parseStream(Object, Class)} but allows you to parse entries of generic types.
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType
+	 * 	The class type of the entries.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @param args
+	 * 	The type arguments of the entry type.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @return An iterator over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the start of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> ParserIterator<E> parseStream(Object input, Type elementType, Type...args) throws ParseException {
+		return parseStream(input, (ClassMeta<E>)getClassMeta(elementType, args));
+	}
+
+	private <E> ParserIterator<E> parseStream(Object input, ClassMeta<E> elementType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return doParseStream(pipe, elementType);
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (UnsupportedOperationException e) {
+			pipe.close();
+			throw e;
+		} catch (IOException e) {
+			pipe.close();
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		}
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * <p>
+	 * Implementations should read up to the start of the first entry and return an iterator that reads the remaining
+	 * entries on demand.  The iterator is responsible for closing the pipe.
+	 *
+	 * @param <E> The entry type.
+	 * @param pipe The parser input.
+	 * @param elementType The class type of the entries.
+	 * @return An iterator over the entries of the array.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected <E> ParserIterator<E> doParseStream(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		throw unsupportedOperationException("Parser ''{0}'' does not support this method.", className(getClass()));
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -853,6 +970,25 @@ public abstract class ParserSession extends BeanSession {
 		return pipe;
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		currentProperty = null;
+		currentClass = null;
+		pipe = null;
+		unmark();
+		return super.reset();
+	}
+
+	/**
+	 * Clears the state of this session so that it can be put back in the session pool of its parser.
+	 *
+	 * @return <jk>true</jk> if this session can be reused.
+	 * @see Parser#PARSER_poolSessions
+	 */
+	final boolean release() {
+		return reset();
+	}
+
 	/**
 	 * Returns the current position into the reader or input stream.
 	 *
@@ -937,6 +1073,17 @@ public abstract class ParserSession extends BeanSession {
 		return ctx.isAutoCloseStreams();
 	}
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * @see Parser#PARSER_compactCollections
+	 * @return
+	 * 	<jk>true</jk> if generic maps and lists created by the parser use a compact array-backed representation.
+	 */
+	protected final boolean isCompactCollections() {
+		return ctx.isCompactCollections();
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
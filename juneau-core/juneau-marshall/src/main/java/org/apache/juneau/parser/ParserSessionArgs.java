@@ -45,6 +45,27 @@ public final class ParserSessionArgs extends BeanSessionArgs {
 		return new ParserSessionArgs();
 	}
 
+	/**
+	 * Constructor.
+	 */
+	public ParserSessionArgs() {}
+
+	/**
+	 * Copy constructor.
+	 *
+	 * @param copyFrom The args to copy from.
+	 */
+	protected ParserSessionArgs(ParserSessionArgs copyFrom) {
+		super(copyFrom);
+		javaMethod = copyFrom.javaMethod;
+		outer = copyFrom.outer;
+	}
+
+	@Override /* SessionArgs */
+	public ParserSessionArgs copy() {
+		return new ParserSessionArgs(this);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -103,6 +103,29 @@ public @interface ParserConfig {
 	 */
 	String autoCloseStreams() default "";
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * When enabled, generic maps and lists created by the parser use a compact array-backed representation.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 */
+	String compactCollections() default "";
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -137,6 +160,30 @@ public @interface ParserConfig {
 	 */
 	Class<? extends ParserListener> listener() default ParserListener.Null.class;
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * When enabled, the <c>parse()</c> convenience methods on the parser reuse session objects instead of creating a
+	 * new session on every call.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_poolSessions}
+	 * </ul>
+	 */
+	String poolSessions() default "";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
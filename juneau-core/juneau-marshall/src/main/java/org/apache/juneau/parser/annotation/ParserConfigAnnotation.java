@@ -43,8 +43,10 @@ public class ParserConfigAnnotation {
 			ParserConfig a = ai.getAnnotation();
 
 			bool(a.autoCloseStreams()).ifPresent(x -> b.set(PARSER_autoCloseStreams, x));
+			bool(a.compactCollections()).ifPresent(x -> b.set(PARSER_compactCollections, x));
 			integer(a.debugOutputLines(), "debugOutputLines").ifPresent(x -> b.set(PARSER_debugOutputLines, x));
 			type(a.listener()).ifPresent(x -> b.set(PARSER_listener, x));
+			bool(a.poolSessions()).ifPresent(x -> b.set(PARSER_poolSessions, x));
 			bool(a.strict()).ifPresent(x -> b.set(PARSER_strict, x));
 			bool(a.trimStrings()).ifPresent(x -> b.set(PARSER_trimStrings, x));
 			bool(a.unbuffered()).ifPresent(x -> b.set(PARSER_unbuffered, x));
@@ -40,6 +40,31 @@ public class NumberMatcherFactory extends MatcherFactory {
 		return new NumberMatcher(pattern);
 	}
 
+	/**
+	 * Returns the inclusive ranges of values matched by the specified pattern.
+	 *
+	 * <p>
+	 * Values are compared using {@link Number#longValue()}.
+	 *
+	 * @param pattern The search pattern.
+	 * @return
+	 * 	Pairs of start/end values, or <jk>null</jk> if the pattern matches all values or contains negated ranges.
+	 * @throws PatternException If the pattern is not a valid number pattern.
+	 */
+	long[][] getRanges(String pattern) {
+		NumberMatcher m = new NumberMatcher(pattern);
+		if (m.numberRanges.length == 0)
+			return null;
+		long[][] l = new long[m.numberRanges.length][];
+		for (int i = 0; i < l.length; i++) {
+			NumberRange r = m.numberRanges[i];
+			if (r.isNot)
+				return null;
+			l[i] = new long[]{r.start, r.end};
+		}
+		return l;
+	}
+
 	/**
 	 * A construct representing a single search pattern.
 	 */
@@ -13,25 +13,47 @@
 package org.apache.juneau.pojotools;
 
 /**
- * TODO
+ * Arguments passed to {@link PojoPaginator}.
  */
 public class PageArgs {
 
+	private final int position, limit;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param position The zero-indexed position of the first row to return.
+	 * @param limit The maximum number of rows to return, or <c>0</c> to return all remaining rows.
+	 */
+	public PageArgs(int position, int limit) {
+		this.position = Math.max(0, position);
+		this.limit = Math.max(0, limit);
+	}
+
 	/**
-	 * TODO
+	 * Returns the maximum number of rows to return.
 	 *
-	 * @return TODO
+	 * @return The maximum number of rows to return, or <c>0</c> to return all remaining rows.
 	 */
 	public int getLimit() {
-		return 0;
+		return limit;
 	}
 
 	/**
-	 * TODO
+	 * Returns the zero-indexed position of the first row to return.
 	 *
-	 * @return TODO
+	 * @return The zero-indexed position of the first row to return.
 	 */
 	public int getPosition() {
-		return 0;
+		return position;
+	}
+
+	/**
+	 * Returns the number of leading rows needed to produce this page.
+	 *
+	 * @return The position plus the limit, or <c>-1</c> if there's no limit.
+	 */
+	int getEnd() {
+		return limit == 0 ? -1 : (int)Math.min(Integer.MAX_VALUE, (long)position + limit);
 	}
 }
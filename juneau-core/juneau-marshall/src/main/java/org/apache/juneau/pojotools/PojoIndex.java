@@ -0,0 +1,292 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.pojotools;
+
+import static java.util.Collections.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * A read-only view of a collection of maps or beans with in-memory indexes for use with {@link PojoSearcher}.
+ *
+ * <p>
+ * Indexes are built once for the specified columns when this object is created:
+ * <ul>
+ * 	<li>String values are hashed so that exact-match search terms (e.g. <js>"name=Bill"</js>) are looked up directly.
+ * 	<li>Number, date, and calendar values are sorted so that range search terms (e.g. <js>"age>=18"</js> or
+ * 		<js>"birthDate=2000 - 2010"</js>) are looked up using binary searches.
+ * </ul>
+ *
+ * <p>
+ * Indexes are only used to narrow down the rows to check.
+ * <br>The remaining rows are always checked against the full search terms, so the results are the same as searching
+ * the original collection.
+ *
+ * <p>
+ * This object is a snapshot.
+ * <br>Changes made to the original collection or its rows after this object is created are not reflected in it.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Build the index once.</jc>
+ * 	PojoIndex <jv>index</jv> = PojoIndex.<jsm>create</jsm>(<jv>session</jv>, <jv>people</jv>, <js>"name"</js>, <js>"age"</js>);
+ *
+ * 	<jc>// Search it many times.</jc>
+ * 	List <jv>adults</jv> = (List)PojoSearcher.<jsf>DEFAULT</jsf>.run(<jv>session</jv>, <jv>index</jv>, <jk>new</jk> SearchArgs(<js>"age>=18"</js>));
+ * </p>
+ */
+@SuppressWarnings({"rawtypes"})
+public class PojoIndex extends AbstractList<Object> implements RandomAccess {
+
+	private final Object[] rows;
+	private final Map<String,ColumnIndex> indexes;
+
+	/**
+	 * Creates an index over the specified collection or array.
+	 *
+	 * @param session The bean session to use to read bean properties.
+	 * @param input The collection or array of maps or beans.
+	 * @param columns The names of the columns to index.
+	 * @return A new index.
+	 */
+	public static PojoIndex create(BeanSession session, Object input, String...columns) {
+		return new PojoIndex(session, input, columns);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The bean session to use to read bean properties.
+	 * @param input The collection or array of maps or beans.
+	 * @param columns The names of the columns to index.
+	 */
+	public PojoIndex(BeanSession session, Object input, String...columns) {
+		if (input == null)
+			rows = new Object[0];
+		else if (input instanceof Collection)
+			rows = ((Collection)input).toArray();
+		else if (input.getClass().isArray()) {
+			rows = new Object[Array.getLength(input)];
+			for (int i = 0; i < rows.length; i++)
+				rows[i] = Array.get(input, i);
+		} else
+			throw new IllegalArgumentException("Input must be a collection or array.");
+
+		Map<String,ColumnIndex> m = new LinkedHashMap<>();
+		for (String c : columns)
+			m.put(c, new ColumnIndex(session, c));
+		indexes = unmodifiableMap(m);
+	}
+
+	/**
+	 * Returns the names of the indexed columns.
+	 *
+	 * @return The names of the indexed columns.  Never <jk>null</jk>.
+	 */
+	public Set<String> getIndexedColumns() {
+		return indexes.keySet();
+	}
+
+	@Override /* List */
+	public Object get(int index) {
+		return rows[index];
+	}
+
+	@Override /* List */
+	public int size() {
+		return rows.length;
+	}
+
+	/**
+	 * Returns the positions of the rows that may match the specified search pattern.
+	 *
+	 * <p>
+	 * Assumes the search pattern is matched using the default {@link NumberMatcherFactory},
+	 * {@link TimeMatcherFactory}, and {@link StringMatcherFactory} matchers.
+	 *
+	 * @param column The column name.
+	 * @param pattern The search pattern.
+	 * @return The positions of the candidate rows, or <jk>null</jk> if the column isn't indexed.
+	 */
+	BitSet getCandidates(String column, String pattern) {
+		ColumnIndex ci = indexes.get(column);
+		return ci == null ? null : ci.getCandidates(pattern);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// ColumnIndex
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private class ColumnIndex {
+
+		// Rows that must always be checked (e.g. values that aren't strings, numbers or dates).
+		final BitSet others = new BitSet(), stringRows = new BitSet(), numberRows = new BitSet(), timeRows = new BitSet();
+		final Map<String,int[]> strings = new HashMap<>();
+		final SortedIndex numbers, times;
+
+		ColumnIndex(BeanSession session, String column) {
+			Map<String,List<Integer>> s = new HashMap<>();
+			List<long[]> n = new ArrayList<>(), t = new ArrayList<>();
+
+			for (int i = 0; i < rows.length; i++) {
+				Object o = rows[i];
+				if (o == null)
+					continue;
+				ClassMeta<?> cm = session.getClassMetaForObject(o);
+				if (! cm.isMapOrBean()) {
+					others.set(i);
+					continue;
+				}
+				Object v = cm.isMap() ? ((Map)o).get(column) : session.toBeanMap(o).getRaw(column);
+				if (v == null)
+					continue;
+				if (v instanceof String) {
+					List<Integer> l = s.get(v);
+					if (l == null)
+						s.put((String)v, l = new ArrayList<>());
+					l.add(i);
+					stringRows.set(i);
+				} else if (v instanceof Number) {
+					n.add(new long[]{((Number)v).longValue(), i});
+					numberRows.set(i);
+				} else if (v instanceof Date) {
+					t.add(new long[]{((Date)v).getTime(), i});
+					timeRows.set(i);
+				} else if (v instanceof Calendar) {
+					t.add(new long[]{((Calendar)v).getTimeInMillis(), i});
+					timeRows.set(i);
+				} else {
+					others.set(i);
+				}
+			}
+
+			for (Map.Entry<String,List<Integer>> e : s.entrySet()) {
+				List<Integer> l = e.getValue();
+				int[] a = new int[l.size()];
+				for (int i = 0; i < a.length; i++)
+					a[i] = l.get(i);
+				strings.put(e.getKey(), a);
+			}
+			numbers = new SortedIndex(n);
+			times = new SortedIndex(t);
+		}
+
+		BitSet getCandidates(String pattern) {
+			BitSet b = (BitSet)others.clone();
+
+			String literal = getLiteral(pattern);
+			if (literal == null)
+				b.or(stringRows);
+			else {
+				int[] a = strings.get(literal);
+				if (a != null)
+					for (int i : a)
+						b.set(i);
+			}
+
+			long[][] r = null;
+			try {
+				r = NumberMatcherFactory.DEFAULT.getRanges(pattern);
+			} catch (RuntimeException e) {
+				// Not a number pattern.  Let the matchers decide.
+			}
+			if (r == null)
+				b.or(numberRows);
+			else
+				numbers.find(r, b);
+
+			r = null;
+			try {
+				synchronized(TimeMatcherFactory.DEFAULT) {
+					r = TimeMatcherFactory.DEFAULT.getRanges(pattern);
+				}
+			} catch (RuntimeException e) {
+				// Not a time pattern.  Let the matchers decide.
+			}
+			if (r == null)
+				b.or(timeRows);
+			else
+				times.find(r, b);
+
+			return b;
+		}
+	}
+
+	/*
+	 * Returns the search pattern if it only matches strings equal to itself, or null if it's a more complex pattern.
+	 */
+	static String getLiteral(String pattern) {
+		String s = pattern.trim();
+		if (s.isEmpty() || "/^+-'\"".indexOf(s.charAt(0)) != -1)
+			return null;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (Character.isWhitespace(c) || "*?'\"\\|".indexOf(c) != -1)
+				return null;
+		}
+		return s;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// SortedIndex
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Row positions sorted by a long key.
+	 */
+	private static class SortedIndex {
+		final long[] keys;
+		final int[] rows;
+
+		SortedIndex(List<long[]> entries) {
+			long[][] a = entries.toArray(new long[entries.size()][]);
+			Arrays.sort(a, new Comparator<long[]>() {
+				@Override /* Comparator */
+				public int compare(long[] o1, long[] o2) {
+					return Long.compare(o1[0], o2[0]);
+				}
+			});
+			keys = new long[a.length];
+			rows = new int[a.length];
+			for (int i = 0; i < a.length; i++) {
+				keys[i] = a[i][0];
+				rows[i] = (int)a[i][1];
+			}
+		}
+
+		/*
+		 * Sets the bits of the rows whose keys fall within any of the specified inclusive ranges.
+		 */
+		void find(long[][] ranges, BitSet b) {
+			for (long[] r : ranges) {
+				for (int i = lowerBound(r[0]); i < keys.length && keys[i] <= r[1]; i++)
+					b.set(rows[i]);
+			}
+		}
+
+		private int lowerBound(long key) {
+			int lo = 0, hi = keys.length;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (keys[mid] < key)
+					lo = mid + 1;
+				else
+					hi = mid;
+			}
+			return lo;
+		}
+	}
+}
@@ -16,16 +16,24 @@ import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 
 /**
- * Designed to provide paging on POJOs consisting of arrays and collections.
+ * Designed to provide searching on POJOs consisting of arrays and collections of maps and beans.
  *
  * <p>
- * Allows you to quickly return subsets of arrays and collections based on position/limit arguments.
+ * Allows you to quickly return subsets of arrays and collections based on search patterns on column values.
+ *
+ * <p>
+ * Large inputs are searched in parallel.
+ * <br>Inputs wrapped in a {@link PojoIndex} are searched using the index to narrow down the rows to check.
+ * <br>In both cases, the rows are returned in their original order.
  */
-@SuppressWarnings({"rawtypes"})
+@SuppressWarnings({"rawtypes","unchecked"})
 public final class PojoSearcher implements PojoTool<SearchArgs> {
 
 	/**
@@ -33,7 +41,18 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 	 */
 	public static final PojoSearcher DEFAULT = new PojoSearcher();
 
+	/**
+	 * Inputs with at least this many rows are searched in parallel.
+	 */
+	static final int PARALLEL_THRESHOLD = 10_000;
+
+	/**
+	 * The number of rows searched by each task of a parallel search.
+	 */
+	static final int PARALLEL_CHUNK_SIZE = 2_048;
+
 	final MatcherFactory[] factories;
+	private final boolean isDefaultFactories;
 
 	/**
 	 * Constructor.
@@ -42,6 +61,10 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 	 */
 	public PojoSearcher(MatcherFactory...factories) {
 		this.factories = factories;
+		this.isDefaultFactories = factories.length == 3
+			&& factories[0] == NumberMatcherFactory.DEFAULT
+			&& factories[1] == TimeMatcherFactory.DEFAULT
+			&& factories[2] == StringMatcherFactory.DEFAULT;
 	}
 
 	/**
@@ -60,28 +83,112 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 		if (search.isEmpty() || type == null || ! type.isCollectionOrArray())
 			return input;
 
-		List<Object> l = null;
-		RowMatcher rowMatcher = new RowMatcher(session, search);
+		RowMatcher rowMatcher = new RowMatcher(search);
 
-		if (type.isCollection()) {
-			Collection c = (Collection)input;
-			l = new ArrayList<>(c.size());
-			for (Object o : c) {
-				if (rowMatcher.matches(o))
-					l.add(o);
+		if (input instanceof PojoIndex && isDefaultFactories) {
+			BitSet candidates = getCandidates((PojoIndex)input, search);
+			if (candidates != null)
+				return search(session, (PojoIndex)input, candidates, rowMatcher);
+		}
+
+		Collection c = type.isCollection() ? (Collection)input : new ArrayAsList(input);
+
+		if (c.size() >= PARALLEL_THRESHOLD) {
+			List<Object> rows = c instanceof List && c instanceof RandomAccess ? (List<Object>)c : Arrays.asList(c.toArray());
+			return parallelSearch(session, rows::get, rows.size(), rowMatcher);
+		}
+
+		List<Object> l = new ArrayList<>(c.size());
+		for (Object o : c) {
+			if (rowMatcher.matches(session, o))
+				l.add(o);
+		}
+		return l;
+	}
+
+	/*
+	 * Intersects the candidate rows of all indexed search columns.
+	 * Returns null if none of the search columns are indexed.
+	 */
+	private static BitSet getCandidates(PojoIndex index, Map<String,String> search) {
+		BitSet b = null;
+		for (Map.Entry<String,String> e : search.entrySet()) {
+			BitSet b2 = index.getCandidates(e.getKey(), e.getValue());
+			if (b2 != null) {
+				if (b == null)
+					b = b2;
+				else
+					b.and(b2);
 			}
+		}
+		return b;
+	}
+
+	/*
+	 * Checks the candidate rows against the full search.
+	 */
+	private static List<Object> search(BeanSession session, PojoIndex index, BitSet candidates, RowMatcher rowMatcher) {
+		if (candidates.cardinality() >= PARALLEL_THRESHOLD) {
+			int[] rows = candidates.stream().toArray();
+			return parallelSearch(session, i -> index.get(rows[i]), rows.length, rowMatcher);
+		}
+		return candidates.stream().mapToObj(index::get).filter(x -> rowMatcher.matches(session, x)).collect(Collectors.toList());
+	}
 
-		} else /* isArray */ {
-			int size = Array.getLength(input);
-			l = new ArrayList<>(size);
-			for (int i = 0; i < size; i++) {
-				Object o = Array.get(input, i);
-				if (rowMatcher.matches(o))
+	/*
+	 * Searches the rows in chunks in parallel and returns the matching rows in their original order.
+	 * Bean sessions aren't thread-safe, so each chunk is searched using its own session.
+	 */
+	private static List<Object> parallelSearch(BeanSession session, IntFunction<Object> rows, int size, RowMatcher rowMatcher) {
+		int chunks = (size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+		return IntStream.range(0, chunks).parallel().mapToObj(x -> {
+			BeanSession bs = createChunkSession(session);
+			List<Object> l = new ArrayList<>();
+			for (int i = x * PARALLEL_CHUNK_SIZE, end = Math.min(size, i + PARALLEL_CHUNK_SIZE); i < end; i++) {
+				Object o = rows.apply(i);
+				if (rowMatcher.matches(bs, o))
 					l.add(o);
 			}
+			return l;
+		}).flatMap(List::stream).collect(Collectors.toList());
+	}
+
+	/*
+	 * Creates a session with the same settings as the specified session.
+	 */
+	private static BeanSession createChunkSession(BeanSession session) {
+		return ((BeanContext)session.getContext()).createBeanSession(
+			BeanSessionArgs
+				.create()
+				.properties(session.getSessionProperties().asMap())
+				.locale(session.getLocale())
+				.timeZone(session.getTimeZone())
+				.mediaType(session.getMediaType())
+				.schema(session.getSchema())
+		);
+	}
+
+	/*
+	 * Read-only list view of an array of any type.
+	 */
+	private static class ArrayAsList extends AbstractList<Object> implements RandomAccess {
+		private final Object array;
+		private final int size;
+
+		ArrayAsList(Object array) {
+			this.array = array;
+			this.size = Array.getLength(array);
 		}
 
-		return l;
+		@Override /* List */
+		public Object get(int index) {
+			return Array.get(array, index);
+		}
+
+		@Override /* List */
+		public int size() {
+			return size;
+		}
 	}
 
 	//====================================================================================================
@@ -89,19 +196,18 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 	//====================================================================================================
 	/*
 	 * Matches on a Map only if all specified entry matchers match.
+	 * Shared by the tasks of parallel searches, so the bean session is passed in by each task.
 	 */
 	private class RowMatcher {
 
 		Map<String,ColumnMatcher> entryMatchers = new HashMap<>();
-		BeanSession bs;
 
-		RowMatcher(BeanSession bs, Map query) {
-			this.bs = bs;
+		RowMatcher(Map query) {
 			for (Map.Entry e : (Set<Map.Entry>)query.entrySet())
-				entryMatchers.put(stringify(e.getKey()), new ColumnMatcher(bs, stringify(e.getValue())));
+				entryMatchers.put(stringify(e.getKey()), new ColumnMatcher(stringify(e.getValue())));
 		}
 
-		boolean matches(Object o) {
+		boolean matches(BeanSession bs, Object o) {
 			if (o == null)
 				return false;
 			ClassMeta<?> cm = bs.getClassMetaForObject(o);
@@ -115,20 +221,20 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 					} else {
 						val = m.get(key);
 					}
-					if (! e.getValue().matches(val))
+					if (! e.getValue().matches(bs, val))
 						return false;
 				}
 				return true;
 			}
 			if (cm.isCollection()) {
 				for (Object o2 : (Collection)o)
-					if (! matches(o2))
+					if (! matches(bs, o2))
 						return false;
 				return true;
 			}
 			if (cm.isArray()) {
 				for (int i = 0; i < Array.getLength(o); i++)
-					if (! matches(Array.get(o, i)))
+					if (! matches(bs, Array.get(o, i)))
 						return false;
 				return true;
 			}
@@ -142,43 +248,54 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 	/*
 	 * Matcher that uses the correct matcher based on object type.
 	 * Used for objects when we can't determine the object type beforehand.
+	 * Matchers are created lazily and may be shared by multiple threads during parallel searches.
 	 */
 	private class ColumnMatcher {
 
 		String searchPattern;
-		Matcher[] matchers;
-		BeanSession bs;
+		AtomicReferenceArray<Matcher> matchers;
 
-		ColumnMatcher(BeanSession bs, String searchPattern) {
-			this.bs = bs;
+		ColumnMatcher(String searchPattern) {
 			this.searchPattern = searchPattern;
-			this.matchers = new Matcher[factories.length];
+			this.matchers = new AtomicReferenceArray<>(factories.length);
 		}
 
-		boolean matches(Object o) {
+		boolean matches(BeanSession bs, Object o) {
 			ClassMeta<?> cm = bs.getClassMetaForObject(o);
 			if (cm == null)
 				return false;
 			if (cm.isCollection()) {
 				for (Object o2 : (Collection)o)
-					if (matches(o2))
+					if (matches(bs, o2))
 						return true;
 				return false;
 			}
 			if (cm.isArray()) {
 				for (int i = 0; i < Array.getLength(o); i++)
-					if (matches(Array.get(o, i)))
+					if (matches(bs, Array.get(o, i)))
 						return true;
 				return false;
 			}
 			for (int i = 0; i < factories.length; i++) {
-				if (factories[i].canMatch(cm)) {
-					if (matchers[i] == null)
-						matchers[i] = factories[i].create(searchPattern);
-					return matchers[i].matches(cm, o);
-				}
+				if (factories[i].canMatch(cm))
+					return getMatcher(i).matches(cm, o);
 			}
 			return false;
 		}
+
+		private Matcher getMatcher(int i) {
+			Matcher m = matchers.get(i);
+			if (m == null) {
+				// Factories aren't necessarily thread-safe (e.g. TimeMatcherFactory uses shared date formats).
+				synchronized(factories[i]) {
+					m = matchers.get(i);
+					if (m == null) {
+						m = factories[i].create(searchPattern);
+						matchers.set(i, m);
+					}
+				}
+			}
+			return m;
+		}
 	}
 }
\ No newline at end of file
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.pojotools;
 
+import static org.apache.juneau.internal.CollectionUtils.*;
+
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -20,12 +22,34 @@ import org.apache.juneau.internal.*;
 
 /**
  * Sorts arrays and collections of maps and beans.
+ *
+ * <p>
+ * The sort values of each row are looked up once, and the rows are then sorted in a single pass using all the sort
+ * columns.
+ * <br>When used with {@link PageArgs}, only the rows up to the end of the requested page are fully ordered.
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public final class PojoSorter implements PojoTool<SortArgs> {
 
 	@Override /* PojoTool */
 	public Object run(BeanSession session, Object input, SortArgs args) {
+		return run(session, input, args, null);
+	}
+
+	/**
+	 * Sorts the specified input and returns the specified page of the result.
+	 *
+	 * <p>
+	 * Equivalent to calling {@link #run(BeanSession, Object, SortArgs)} followed by
+	 * {@link PojoPaginator#run(BeanSession, Object, PageArgs)}, but avoids sorting rows beyond the end of the page.
+	 *
+	 * @param session The current bean session.
+	 * @param input The input POJO.
+	 * @param args The sort arguments.
+	 * @param pageArgs The page arguments.  Can be <jk>null</jk>.
+	 * @return The output POJO.
+	 */
+	public Object run(BeanSession session, Object input, SortArgs args, PageArgs pageArgs) {
 		if (input == null)
 			return null;
 
@@ -34,77 +58,73 @@ public final class PojoSorter implements PojoTool<SortArgs> {
 		Map<String,Boolean> sort = args.getSort();
 
 		if (sort.isEmpty())
-			return input;
+			return pageArgs == null ? input : new PojoPaginator().run(session, input, pageArgs);
 
 		ClassMeta type = session.getClassMetaForObject(input);
 
 		if (! type.isCollectionOrArray())
 			return input;
 
+		String[] columns = sort.keySet().toArray(new String[sort.size()]);
+		final boolean[] isDesc = new boolean[columns.length];
+		for (int i = 0; i < columns.length; i++)
+			isDesc[i] = sort.get(columns[i]);
+
 		ArrayList<SortEntry> l = null;
 
 		if (type.isArray()) {
 			int size = Array.getLength(input);
 			l = new ArrayList<>(size);
 			for (int i = 0; i < size; i++)
-				l.add(new SortEntry(session, Array.get(input, i)));
+				l.add(new SortEntry(session, Array.get(input, i), columns));
 		} else /* isCollection() */ {
 			Collection c = (Collection)input;
 			l = new ArrayList<>(c.size());
 			for (Object o : c)
-				l.add(new SortEntry(session, o));
+				l.add(new SortEntry(session, o, columns));
 		}
 
-		// We reverse the list and sort last to first.
-		List<String> columns = new ArrayList<>(sort.keySet());
-		Collections.reverse(columns);
-
-		for (final String c : columns) {
-			final boolean isDesc = sort.get(c);
-			for (SortEntry se : l)
-				se.setSort(c, isDesc);
-			Collections.sort(l);
-		}
-
-		ArrayList<Object> l2 = new ArrayList<>(l.size());
-		for (SortEntry se : l)
-			l2.add(se.o);
+		Comparator<SortEntry> comparator = new Comparator<SortEntry>() {
+			@Override /* Comparator */
+			public int compare(SortEntry e1, SortEntry e2) {
+				for (int i = 0; i < isDesc.length; i++) {
+					int c = isDesc[i] ? ObjectUtils.compare(e2.sortVals[i], e1.sortVals[i]) : ObjectUtils.compare(e1.sortVals[i], e2.sortVals[i]);
+					if (c != 0)
+						return c;
+				}
+				return 0;
+			}
+		};
+
+		List<SortEntry> sorted = sortTopK(l, comparator, pageArgs == null ? -1 : pageArgs.getEnd());
+
+		int pos = pageArgs == null ? 0 : Math.min(pageArgs.getPosition(), sorted.size());
+		ArrayList<Object> l2 = new ArrayList<>(sorted.size() - pos);
+		for (int i = pos; i < sorted.size(); i++)
+			l2.add(sorted.get(i).o);
 
 		return l2;
 	}
 
-	private static class SortEntry implements Comparable {
-		Object o;
-		ClassMeta<?> cm;
-		BeanSession bs;
-
-		Object sortVal;
-		boolean isDesc;
+	private static class SortEntry {
+		final Object o;
+		final Object[] sortVals;
 
-		SortEntry(BeanSession bs, Object o) {
+		SortEntry(BeanSession bs, Object o, String[] sortCols) {
 			this.o = o;
-			this.bs = bs;
-			this.cm = bs.getClassMetaForObject(o);
-		}
-
-		void setSort(String sortCol, boolean isDesc) {
-			this.isDesc = isDesc;
+			this.sortVals = new Object[sortCols.length];
 
+			ClassMeta<?> cm = bs.getClassMetaForObject(o);
 			if (cm == null)
-				sortVal = null;
-			else if (cm.isMap())
-				sortVal = ((Map)o).get(sortCol);
+				return;
+			Map m = null;
+			if (cm.isMap())
+				m = (Map)o;
 			else if (cm.isBean())
-				sortVal = bs.toBeanMap(o).get(sortCol);
-			else
-				sortVal = null;
-		}
-
-		@Override
-		public int compareTo(Object o) {
-			if (isDesc)
-				return ObjectUtils.compare(((SortEntry)o).sortVal, this.sortVal);
-			return ObjectUtils.compare(this.sortVal, ((SortEntry)o).sortVal);
+				m = bs.toBeanMap(o);
+			if (m != null)
+				for (int i = 0; i < sortCols.length; i++)
+					sortVals[i] = m.get(sortCols[i]);
 		}
 	}
 }
\ No newline at end of file
@@ -80,6 +80,26 @@ public class TimeMatcherFactory extends MatcherFactory {
 		return new TimeMatcher(formats, pattern);
 	}
 
+	/**
+	 * Returns the inclusive ranges of times matched by the specified pattern.
+	 *
+	 * @param pattern The search pattern.
+	 * @return
+	 * 	Pairs of start/end times in milliseconds since the epoch, or <jk>null</jk> if the pattern matches all values.
+	 * @throws RuntimeException If the pattern is not a valid time pattern.
+	 */
+	long[][] getRanges(String pattern) {
+		TimeMatcher m = new TimeMatcher(formats, pattern);
+		if (m.ranges.length == 0)
+			return null;
+		long[][] l = new long[m.ranges.length][];
+		for (int i = 0; i < l.length; i++) {
+			TimestampRange r = m.ranges[i];
+			l[i] = new long[]{r.start.getTimeInMillis() + 1, r.end.getTimeInMillis() - 1};
+		}
+		return l;
+	}
+
 	/**
 	 * A construct representing a single search pattern.
 	 */
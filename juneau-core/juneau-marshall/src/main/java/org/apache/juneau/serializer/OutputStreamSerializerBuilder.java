@@ -548,6 +548,12 @@ public abstract class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public OutputStreamSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public OutputStreamSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -596,6 +602,12 @@ public abstract class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public OutputStreamSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public OutputStreamSerializerBuilder sortCollections() {
 		super.sortCollections();
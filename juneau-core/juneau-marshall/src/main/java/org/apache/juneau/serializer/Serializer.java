@@ -178,6 +178,44 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_keepNullProperties = PREFIX + ".keepNullProperties.b";
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * When enabled, the <c>serialize()</c> convenience methods on this serializer reuse session objects instead of
+	 * creating a new session on every call.
+	 *
+	 * <p>
+	 * Idle sessions are kept in a small pool shared by all threads (at most twice the number of processors), and are
+	 * reset and reused by later calls, which avoids recreating the session, its traversal stack, and its resolved
+	 * session settings.
+	 * <br>The pool belongs to the serializer and doesn't use thread-local storage, so pooled sessions aren't kept
+	 * alive by long-lived threads such as the request threads of a servlet container.
+	 * <br>Sessions created through {@link #createSession(SerializerSessionArgs)} are never pooled.
+	 * <br>Pooling is not used when a {@link #SERIALIZER_listener listener} is defined since listeners are created
+	 * once per session.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.Serializer#SERIALIZER_poolSessions SERIALIZER_poolSessions}
+	 * 	<li><b>Name:</b>  <js>"Serializer.poolSessions.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Serializer.poolSessions</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZER_POOLSESSIONS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.serializer.annotation.SerializerConfig#poolSessions()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#poolSessions()}
+	 * 		</ul>
+	 * </ul>
+	 */
+	public static final String SERIALIZER_poolSessions = PREFIX + ".poolSessions.b";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -416,7 +454,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		trimStrings,
 		sortCollections,
 		sortMaps,
-		addRootType;
+		addRootType,
+		poolSessions;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
@@ -425,6 +464,7 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final MediaRanges accept;
 	private final MediaType[] accepts;
 	private final MediaType produces;
+	private final ObjectPool<SerializerSession> sessionPool;
 
 	final String _produces, _accept;
 
@@ -451,6 +491,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		uriResolution = cp.get(SERIALIZER_uriResolution, UriResolution.class).orElse(UriResolution.NONE);
 		uriRelativity = cp.get(SERIALIZER_uriRelativity, UriRelativity.class).orElse(UriRelativity.RESOURCE);
 		listener = cp.getClass(SERIALIZER_listener, SerializerListener.class).orElse(null);
+		poolSessions = cp.getBoolean(SERIALIZER_poolSessions).orElse(false);
+		sessionPool = poolSessions && listener == null ? new ObjectPool<>(ObjectPool.DEFAULT_SIZE) : null;
 
 		this.produces = MediaType.of(builder.produces);
 		this.accept = builder.accept == null ? MediaRanges.of(builder.produces) : MediaRanges.of(builder.accept);
@@ -526,7 +568,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws IOException Thrown by the underlying stream.
 	 */
 	public final void serialize(Object o, Object output) throws SerializeException, IOException {
-		createSession().serialize(o, output);
+		SerializerSession s = acquireSession();
+		try {
+			s.serialize(o, output);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -541,7 +588,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public Object serialize(Object o) throws SerializeException {
-		return createSession().serialize(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -557,7 +609,41 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final String serializeToString(Object o) throws SerializeException {
-		return createSession().serializeToString(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serializeToString(o);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns a session with the default session arguments for the convenience methods on this class.
+	 *
+	 * <p>
+	 * If {@link #SERIALIZER_poolSessions} is enabled, reuses an idle session from the pool if there is one.
+	 * <br>The session must be handed back through {@link #releaseSession(SerializerSession)} once the call is done.
+	 *
+	 * @return A session.  Never <jk>null</jk>.
+	 */
+	final SerializerSession acquireSession() {
+		if (sessionPool != null) {
+			// Sessions in use (including ones used by nested calls) are not in the pool.
+			SerializerSession s = sessionPool.poll();
+			if (s != null)
+				return s;
+		}
+		return createSession();
+	}
+
+	/**
+	 * Hands back a session returned by {@link #acquireSession()}.
+	 *
+	 * @param s The session.
+	 */
+	final void releaseSession(SerializerSession s) {
+		if (sessionPool != null && s.release())
+			sessionPool.offer(s);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -658,6 +744,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return listener;
 	}
 
+	/**
+	 * Pool sessions.
+	 *
+	 * @see #SERIALIZER_poolSessions
+	 * @return
+	 * 	<jk>true</jk> if the <c>serialize()</c> convenience methods reuse session objects.
+	 */
+	protected final boolean isPoolSessions() {
+		return poolSessions;
+	}
+
 	/**
 	 * Sort arrays and collections alphabetically.
 	 *
@@ -781,6 +878,7 @@ public abstract class Serializer extends BeanTraverseContext {
 					.a("uriResolution", uriResolution)
 					.a("uriRelativity", uriRelativity)
 					.a("listener", listener)
+					.a("poolSessions", poolSessions)
 			);
 	}
 }
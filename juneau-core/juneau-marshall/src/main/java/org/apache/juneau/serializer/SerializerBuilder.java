@@ -324,6 +324,40 @@ public abstract class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Pool sessions.
+	 *
+	 * <p>
+	 * When enabled, the <c>serialize()</c> convenience methods on the serializer reuse session objects instead of
+	 * creating a new session on every call.
+	 *
+	 * <p>
+	 * Idle sessions are kept in a small pool shared by all threads, and are reset and reused by later calls.
+	 * <br>This reduces the garbage created when serializing large numbers of small objects.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that reuses its sessions.</jc>
+	 * 	WriterSerializer <jv>serializer</jv> = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.poolSessions()
+	 * 		.build();
+	 *
+	 * 	<jc>// Subsequent calls reuse idle sessions from the pool.</jc>
+	 * 	String <jv>json</jv> = <jv>serializer</jv>.serialize(<jv>myBean</jv>);
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_poolSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializerBuilder poolSessions() {
+		return set(SERIALIZER_poolSessions);
+	}
+
 	/**
 	 * Sort arrays and collections alphabetically.
 	 *
@@ -1067,6 +1101,12 @@ public abstract class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public SerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -12,14 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.serializer;
 
-import static org.apache.juneau.http.HttpHeaders.*;
 import static org.apache.juneau.internal.ExceptionUtils.*;
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -28,6 +27,8 @@ import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.cp.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.mstat.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -456,8 +457,23 @@ public final class SerializerGroup {
 	// Instance
 	//-----------------------------------------------------------------------------------------------------------------
 
-	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	// The maximum number of distinct normalized Accept headers cached per group.
+	private static final int MATCH_CACHE_MAX_SIZE = Integer.getInteger("juneau.SerializerGroup.matchCacheMaxSize", 100);
+
+	// Accept headers whose matches are computed when the group is created.
+	private static final String[] COMMON_ACCEPT_HEADERS = {"*/*", "application/json", "text/html"};
+
+	// Cached result for Accept headers that don't match any serializer.
+	private static final SerializerMatch NO_MATCH = new SerializerMatch(null, null);
+
+	// Maps normalized Accept headers to matching serializers.
+	private final Cache<String,SerializerMatch> cache = new Cache<>(false, MATCH_CACHE_MAX_SIZE);
+
+	// Precomputed matches for the most common Accept headers.
+	private final Map<String,SerializerMatch> commonMatches;
+
+	// Number of lookups that had to score the media ranges.
+	private final LongAdder scoredMatches = new LongAdder();
 
 	private final List<MediaRange> mediaRanges;
 	private final List<Serializer> mediaTypeRangeSerializers;
@@ -489,6 +505,11 @@ public final class SerializerGroup {
 		this.mediaRanges = lmtr.unmodifiable();
 		this.mediaTypesList = AList.of(lmt).unmodifiable();
 		this.mediaTypeRangeSerializers = l.unmodifiable();
+
+		Map<String,SerializerMatch> cm = new HashMap<>();
+		for (String h : COMMON_ACCEPT_HEADERS)
+			cm.put(h, findMatch(MediaRanges.of(h)));
+		this.commonMatches = cm;
 	}
 
 	private Serializer build(Object o) {
@@ -526,24 +547,56 @@ public final class SerializerGroup {
 	 * <p>
 	 * The returned object includes both the serializer and media type that matched.
 	 *
+	 * <p>
+	 * Matches are cached in a bounded cache keyed on the media ranges of the header that affect matching, so headers
+	 * that only differ by parameters or by q-values that don't change the order of the ranges share the same entry.
+	 * <br>Matches for <js>"*\/*"</js>, <js>"application/json"</js>, and <js>"text/html"</js> are computed when the
+	 * group is created.
+	 *
 	 * @param acceptHeader The HTTP <l>Accept</l> header string.
 	 * @return The serializer and media type that matched the accept header, or <jk>null</jk> if no match was made.
 	 */
 	public SerializerMatch getSerializerMatch(String acceptHeader) {
 		if (acceptHeader == null)
 			return null;
-		SerializerMatch sm = cache.get(acceptHeader);
-		if (sm != null)
-			return sm;
-
-		Accept a = accept(acceptHeader);
-		int match = a.match(mediaRanges);
-		if (match >= 0) {
-			sm = new SerializerMatch(mediaRanges.get(match), mediaTypeRangeSerializers.get(match));
-			cache.putIfAbsent(acceptHeader, sm);
+		SerializerMatch sm = commonMatches.get(acceptHeader);
+		if (sm == null) {
+			MediaRanges mr = MediaRanges.of(acceptHeader);
+			String key = matchKey(mr);
+			sm = commonMatches.get(key);
+			if (sm == null) {
+				sm = cache.get(key);
+				if (sm == null) {
+					scoredMatches.increment();
+					sm = cache.put(key, findMatch(mr));
+				}
+			}
 		}
+		return sm == NO_MATCH ? null : sm;
+	}
+
+	private SerializerMatch findMatch(MediaRanges mr) {
+		int match = mr.match(mediaRanges);
+		return match >= 0 ? new SerializerMatch(mediaRanges.get(match), mediaTypeRangeSerializers.get(match)) : NO_MATCH;
+	}
 
-		return cache.get(acceptHeader);
+	/*
+	 * Reduces media ranges to the parts that affect matching:  the type/subtype of each range with a non-zero q-value
+	 * in order of preference, with ranges of different q-values separated by '|'.
+	 */
+	private static String matchKey(MediaRanges mr) {
+		StringBuilder sb = new StringBuilder();
+		float q = 0;
+		for (MediaRange r : mr.getRanges()) {
+			float q2 = r.getQValue();
+			if (q2 == 0)
+				break;
+			if (sb.length() > 0)
+				sb.append(q2 == q ? ',' : '|');
+			sb.append(r.getType()).append('/').append(r.getSubType());
+			q = q2;
+		}
+		return sb.toString();
 	}
 
 	/**
@@ -648,4 +701,23 @@ public final class SerializerGroup {
 	public boolean isEmpty() {
 		return entries.length == 0;
 	}
+
+	/**
+	 * Returns the statistics of the cache used by {@link #getSerializerMatch(String)}.
+	 *
+	 * @return A snapshot of the hit/miss/eviction counters of the match cache.
+	 */
+	public CacheStats getMatchCacheStats() {
+		return cache.getStats();
+	}
+
+	/**
+	 * Returns the number of times {@link #getSerializerMatch(String)} had to score the media ranges of an
+	 * <c>Accept</c> header against the serializers in this group because no cached or precomputed match was found.
+	 *
+	 * @return The number of scored matches.
+	 */
+	public long getScoredMatchCount() {
+		return scoredMatches.sum();
+	}
 }
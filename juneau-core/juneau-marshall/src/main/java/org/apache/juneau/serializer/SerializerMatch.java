@@ -12,6 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.serializer;
 
+import static org.apache.juneau.internal.ObjectUtils.*;
+
+import java.util.*;
+
 import org.apache.juneau.http.header.*;
 
 /**
@@ -50,4 +54,14 @@ public final class SerializerMatch {
 	public Serializer getSerializer() {
 		return serializer;
 	}
+
+	@Override /* Object */
+	public int hashCode() {
+		return Objects.hash(mediaType, System.identityHashCode(serializer));
+	}
+
+	@Override /* Object */
+	public boolean equals(Object o) {
+		return (o instanceof SerializerMatch) && eq(this, (SerializerMatch)o, (x,y)->eq(x.mediaType, y.mediaType) && x.serializer == y.serializer);
+	}
 }
@@ -117,6 +117,16 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return vrs;
 	}
 
+	/**
+	 * Clears the state of this session so that it can be put back in the session pool of its serializer.
+	 *
+	 * @return <jk>true</jk> if this session can be reused.
+	 * @see Serializer#SERIALIZER_poolSessions
+	 */
+	final boolean release() {
+		return reset();
+	}
+
 	/**
 	 * Default constructor.
 	 *
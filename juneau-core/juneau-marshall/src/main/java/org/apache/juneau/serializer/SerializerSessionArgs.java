@@ -51,6 +51,27 @@ public final class SerializerSessionArgs extends BeanSessionArgs {
 		return new SerializerSessionArgs();
 	}
 
+	/**
+	 * Constructor.
+	 */
+	public SerializerSessionArgs() {}
+
+	/**
+	 * Copy constructor.
+	 *
+	 * @param copyFrom The args to copy from.
+	 */
+	protected SerializerSessionArgs(SerializerSessionArgs copyFrom) {
+		super(copyFrom);
+		javaMethod = copyFrom.javaMethod;
+		resolver = copyFrom.resolver;
+	}
+
+	@Override /* SessionArgs */
+	public SerializerSessionArgs copy() {
+		return new SerializerSessionArgs(this);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -781,6 +781,12 @@ public abstract class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public WriterSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public WriterSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -829,6 +835,12 @@ public abstract class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public WriterSerializerBuilder poolSessions() {
+		super.poolSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public WriterSerializerBuilder sortCollections() {
 		super.sortCollections();
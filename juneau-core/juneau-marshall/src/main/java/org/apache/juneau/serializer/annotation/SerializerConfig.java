@@ -189,6 +189,30 @@ public @interface SerializerConfig {
 	 */
 	Class<? extends SerializerListener> listener() default SerializerListener.Null.class;
 
+	/**
+	 * Configuration property:  Pool sessions.
+	 *
+	 * <p>
+	 * When enabled, the <c>serialize()</c> convenience methods on the serializer reuse session objects instead of
+	 * creating a new session on every call.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_poolSessions}
+	 * </ul>
+	 */
+	String poolSessions() default "";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
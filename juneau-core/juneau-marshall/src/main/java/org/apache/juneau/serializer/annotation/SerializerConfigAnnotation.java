@@ -47,6 +47,7 @@ public class SerializerConfigAnnotation {
 			bool(a.addRootType()).ifPresent(x -> b.set(SERIALIZER_addRootType, x));
 			bool(a.keepNullProperties()).ifPresent(x -> b.set(SERIALIZER_keepNullProperties, x));
 			type(a.listener()).ifPresent(x -> b.set(SERIALIZER_listener, x));
+			bool(a.poolSessions()).ifPresent(x -> b.set(SERIALIZER_poolSessions, x));
 			bool(a.sortCollections()).ifPresent(x -> b.set(SERIALIZER_sortCollections, x));
 			bool(a.sortMaps()).ifPresent(x -> b.set(SERIALIZER_sortMaps, x));
 			bool(a.trimEmptyCollections()).ifPresent(x -> b.set(SERIALIZER_trimEmptyCollections, x));
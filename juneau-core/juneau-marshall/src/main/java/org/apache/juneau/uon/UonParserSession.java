@@ -187,11 +187,11 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				throw new ParseException(this, "Expected ''null'' for void value, but was ''{0}''.", s);
 		} else if (sType.isObject()) {
 			if (c == '(') {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else if (c == '@') {
-				Collection l = new OList(this);
+				Collection l = newOList();
 				o = parseIntoCollection(r, l, sType, isUrlParamValue, pMeta);
 			} else {
 				String s = parseString(r, isUrlParamValue);
@@ -221,7 +221,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (c == '(') {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				// Handle case where it's a collection, but serialized as a map with a _type or _value key.
 				if (m.containsKey(getBeanTypePropertyName(sType)))
@@ -231,7 +231,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					Collection l = (
 						sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance(outer)
-						: new OList(this)
+						: newOList()
 					);
 					l.add(m.cast(sType.getElementType()));
 					o = l;
@@ -240,7 +240,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				Collection l = (
 					sType.canCreateNewInstance(outer)
 					? (Collection)sType.newInstance(outer)
-					: new OList(this)
+					: newOList()
 				);
 				o = parseIntoCollection(r, l, sType, isUrlParamValue, pMeta);
 			}
@@ -258,7 +258,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				o = sType.newInstanceFromString(outer, s);
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '(') {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				// Handle case where it's an array, but serialized as a map with a _type or _value key.
 				if (m.containsKey(getBeanTypePropertyName(sType)))
@@ -275,7 +275,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			}
 		} else if (c == '(') {
 			// It could be a non-bean with _type attribute.
-			OMap m = new OMap(this);
+			OMap m = newOMap();
 			parseIntoMap(r, m, string(), object(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(sType)))
 				o = cast(m, pMeta, eType);
@@ -511,7 +511,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 						else {
 							r.unread();
 							mark();
-							currAttr = parseAttrName(r, decoding);
+							currAttr = parseAttrName(r, decoding, m.getMeta());
 							if (currAttr == null) { // Value was '%00'
 								return null;
 							}
@@ -628,13 +628,28 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	 * @throws ParseException Attribute name was malformed.
 	 */
 	protected final String parseAttrName(UonReader r, boolean encoded) throws IOException, ParseException {
+		return parseAttrName(r, encoded, null);
+	}
+
+	/**
+	 * Same as {@link #parseAttrName(UonReader, boolean)} but returns the property name string of the specified
+	 * bean if the attribute name is one of its properties.
+	 *
+	 * @param r The reader.
+	 * @param encoded Whether the attribute is encoded.
+	 * @param bm The bean whose property names are being parsed.  Can be <jk>null</jk>.
+	 * @return The parsed attribute name.
+	 * @throws IOException Exception thrown by underlying stream.
+	 * @throws ParseException Attribute name was malformed.
+	 */
+	protected final String parseAttrName(UonReader r, boolean encoded, BeanMeta<?> bm) throws IOException, ParseException {
 
 		// If string is of form 'xxx', we're looking for ' at the end.
 		// Otherwise, we're looking for '&' or '=' or WS or -1 denoting the end of this string.
 
 		int c = r.peekSkipWs();
 		if (c == '\'')
-			return parsePString(r);
+			return parsePString(r, bm);
 
 		r.mark();
 		boolean isInEscape = false;
@@ -645,7 +660,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == AMP || c == EQ || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, bm);
 						return ("null".equals(s) ? null : s);
 					}
 				}
@@ -662,7 +677,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == '=' || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, bm);
 						return ("null".equals(s) ? null : trim(s));
 					}
 				}
@@ -747,6 +762,13 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	 * All whitespace within parenthesis are preserved.
 	 */
 	private String parsePString(UonReader r) throws IOException, ParseException {
+		return parsePString(r, null);
+	}
+
+	/*
+	 * Same as parsePString(UonReader) but returns the string from the specified name table if there is a match.
+	 */
+	private String parsePString(UonReader r, BeanMeta<?> bm) throws IOException, ParseException {
 
 		r.read(); // Skip first quote.
 		r.mark();
@@ -757,7 +779,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			c = r.read();
 			if (! isInEscape) {
 				if (c == '\'')
-					return trim(r.getMarked(0, -1));
+					return trim(r.getMarked(0, -1, bm));
 			}
 			if (c == EQ)
 				r.replace('=');
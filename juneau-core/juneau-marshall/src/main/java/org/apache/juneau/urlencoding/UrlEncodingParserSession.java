@@ -107,7 +107,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 		Object o;
 
 		if (sType.isObject()) {
-			OMap m = new OMap(this);
+			OMap m = newOMap();
 			parseIntoMap2(r, m, getClassMeta(Map.class, String.class, Object.class), outer);
 			if (m.containsKey("_value"))
 				o = m.get("_value");
@@ -126,7 +126,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 			o = m == null ? null : m.getBean();
 		} else if (sType.isCollection() || sType.isArray() || sType.isArgs()) {
 			// ?1=foo&2=bar...
-			Collection c2 = ((sType.isArray() || sType.isArgs()) || ! sType.canCreateNewInstance(outer)) ? new OList(this) : (Collection)sType.newInstance();
+			Collection c2 = ((sType.isArray() || sType.isArgs()) || ! sType.canCreateNewInstance(outer)) ? newOList() : (Collection)sType.newInstance();
 			Map<Integer,Object> m = new TreeMap<>();
 			parseIntoMap2(r, m, sType, c2);
 			c2.addAll(m.values());
@@ -138,7 +138,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 				o = c2;
 		} else {
 			// It could be a non-bean with _type attribute.
-			OMap m = new OMap(this);
+			OMap m = newOMap();
 			parseIntoMap2(r, m, getClassMeta(Map.class, String.class, Object.class), outer);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast(m, null, eType);
@@ -273,7 +273,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 						}
 						r.unread();
 						mark();
-						currAttr = parseAttrName(r, true);
+						currAttr = parseAttrName(r, true, m.getMeta());
 						if (currAttr == null)  // Value was '%00'
 							return null;
 						state = S2;
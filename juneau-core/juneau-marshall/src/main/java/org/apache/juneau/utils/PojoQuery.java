@@ -240,17 +240,17 @@ public final class PojoQuery {
 		// list are maps.
 		Map<String,Boolean> sort = args.getSort();
 		List<String> view = args.getView();
+		int pos = args.getPosition();
+		int limit = args.getLimit();
 
 		if ((! sort.isEmpty()) || (! view.isEmpty())) {
 			if (! sort.isEmpty())
-				doSort(l, sort);
+				doSort(l, sort, limit == 0 ? -1 : (int)Math.min(Integer.MAX_VALUE, (long)pos + limit));
 			if (! view.isEmpty())
 				doView(l, view);
 		}
 
 		// Do the paging.
-		int pos = args.getPosition();
-		int limit = args.getLimit();
 		if (pos != 0 || limit != 0) {
 			int end = (limit == 0 || limit+pos >= l.size()) ? l.size() : limit + pos;
 			pos = Math.min(pos, l.size());
@@ -304,30 +304,60 @@ public final class PojoQuery {
 
 	/*
 	 * Sorts the specified list by the sort list.
+	 * The sort values of each row are looked up once and the rows are sorted in a single pass.
+	 * If limit isn't -1, only the first 'limit' rows are kept.
 	 */
-	private static void doSort(List list, Map<String,Boolean> sortList) {
+	private static void doSort(List list, Map<String,Boolean> sortList, int limit) {
 
-		// We reverse the list and sort last to first.
-		List<String> columns = new ArrayList<>(sortList.keySet());
-		Collections.reverse(columns);
+		final String[] columns = sortList.keySet().toArray(new String[sortList.size()]);
+		final boolean[] isDesc = new boolean[columns.length];
+		for (int i = 0; i < columns.length; i++)
+			isDesc[i] = sortList.get(columns[i]);
 
-		for (final String c : columns) {
-			final boolean isDesc = sortList.get(c);
+		List<SortEntry> entries = new ArrayList<>(list.size());
+		for (Object o : list) {
+			Map m = (Map)o;
+			Comparable[] vals = new Comparable[columns.length];
+			for (int i = 0; i < columns.length; i++)
+				vals[i] = toComparable(m.get(columns[i]));
+			entries.add(new SortEntry(o, vals));
+		}
 
-			Comparator comp = new Comparator<Map>() {
-				@Override /* Comparator */
-				public int compare(Map m1, Map m2) {
-					Comparable v1 = toComparable(m1.get(c)), v2 = toComparable(m2.get(c));
+		Comparator<SortEntry> comp = new Comparator<SortEntry>() {
+			@Override /* Comparator */
+			public int compare(SortEntry e1, SortEntry e2) {
+				for (int i = 0; i < isDesc.length; i++) {
+					Comparable v1 = e1.vals[i], v2 = e2.vals[i];
+					int c;
 					if (v1 == null && v2 == null)
-						return 0;
-					if (v1 == null)
-						return (isDesc ? -1 : 1);
-					if (v2 == null)
-						return (isDesc ? 1 : -1);
-					return (isDesc ? v2.compareTo(v1) : v1.compareTo(v2));
+						c = 0;
+					else if (v1 == null)
+						c = (isDesc[i] ? -1 : 1);
+					else if (v2 == null)
+						c = (isDesc[i] ? 1 : -1);
+					else
+						c = (isDesc[i] ? v2.compareTo(v1) : v1.compareTo(v2));
+					if (c != 0)
+						return c;
 				}
-			};
-			Collections.sort(list, comp);
+				return 0;
+			}
+		};
+
+		entries = CollectionUtils.sortTopK(entries, comp, limit);
+
+		list.clear();
+		for (SortEntry e : entries)
+			list.add(e.o);
+	}
+
+	private static class SortEntry {
+		final Object o;
+		final Comparable[] vals;
+
+		SortEntry(Object o, Comparable[] vals) {
+			this.o = o;
+			this.vals = vals;
 		}
 	}
 
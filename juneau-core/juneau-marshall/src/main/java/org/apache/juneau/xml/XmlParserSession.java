@@ -332,13 +332,13 @@ public class XmlParserSession extends ReaderParserSession {
 
 		if (sType.isObject()) {
 			if (jsonType == OBJECT) {
-				OMap m = new OMap(this);
+				OMap m = newOMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				if (wrapperAttr != null)
-					m = new OMap(this).a(wrapperAttr, m);
+					m = newOMap().a(wrapperAttr, m);
 				o = cast(m, pMeta, eType);
 			} else if (jsonType == ARRAY)
-				o = parseIntoCollection(r, new OList(this), null, pMeta);
+				o = parseIntoCollection(r, newOList(), null, pMeta);
 			else if (jsonType == STRING) {
 				o = getElementText(r);
 				if (sType.isChar())
@@ -360,9 +360,9 @@ public class XmlParserSession extends ReaderParserSession {
 			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newGenericMap(sType));
 			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (wrapperAttr != null)
-				o = new OMap(this).a(wrapperAttr, m);
+				o = newOMap().a(wrapperAttr, m);
 		} else if (sType.isCollection()) {
-			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : new OList(this));
+			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : newOList());
 			o = parseIntoCollection(r, l, sType, pMeta);
 		} else if (sType.isNumber()) {
 			o = parseNumber(getElementText(r), (Class<? extends Number>)sType.getInnerClass());
@@ -387,10 +387,10 @@ public class XmlParserSession extends ReaderParserSession {
 		} else if (sType.canCreateNewInstanceFromString(outer)) {
 			o = sType.newInstanceFromString(outer, getElementText(r));
 		} else if (sType.getProxyInvocationHandler() != null) {
-			OMap m = new OMap(this);
+			OMap m = newOMap();
 			parseIntoMap(r, m, string(), object(), pMeta);
 			if (wrapperAttr != null)
-				m = new OMap(this).a(wrapperAttr, m);
+				m = newOMap().a(wrapperAttr, m);
 			o = newBeanMap(outer, sType.getInnerClass()).load(m).getBean();
 		} else {
 			throw new ParseException(this,
@@ -656,7 +656,7 @@ public class XmlParserSession extends ReaderParserSession {
 
 		// If this element has attributes, then it's always an OMap.
 		if (r.getAttributeCount() > 0) {
-			m = new OMap(this);
+			m = newOMap();
 			for (int i = 0; i < r.getAttributeCount(); i++) {
 				String key = getAttributeName(r, i);
 				String val = r.getAttributeValue(i);
@@ -677,7 +677,7 @@ public class XmlParserSession extends ReaderParserSession {
 				// Oops...this has an element in it.
 				// Parse it as a map.
 				if (m == null)
-					m = new OMap(this);
+					m = newOMap();
 				int depth = 0;
 				do {
 					int event = (eventType == -1 ? r.nextTag() : eventType);
@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -403,6 +404,9 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider,
 	private final Map<ClassMeta<?>,XmlClassMeta> xmlClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanMeta<?>,XmlBeanMeta> xmlBeanMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,XmlBeanPropertyMeta> xmlBeanPropertyMetas = new ConcurrentHashMap<>();
+	private final Map<ClassMeta<?>,Boolean>
+		mayHaveNamespaces = new ConcurrentHashMap<>(),
+		declaredTypeMayHaveNamespaces = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -486,6 +490,133 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider,
 		return m;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if objects of exactly the specified class may contain objects with XML namespaces.
+	 *
+	 * <p>
+	 * Looks at the namespaces of the class, its bean properties, and the types reachable through them.
+	 * <br>Reachable bean types that can be subclassed, abstract types, and <c>Object</c> are assumed to have namespaces
+	 * since the runtime values may define their own.
+	 * <br>So are types whose contents can't be determined up front (e.g. delegates and swapped classes).
+	 * <br>Collections, arrays and maps are judged by their element and value types, and simple values such as strings,
+	 * numbers, and dates only by their own namespace.
+	 * <br>The result is computed once per type.
+	 *
+	 * @param cm The runtime class of the object.
+	 * @param session The current session.  Used to find swaps.
+	 * @return <jk>true</jk> if objects of the specified class may contain objects with XML namespaces.
+	 */
+	boolean mayHaveNamespaces(ClassMeta<?> cm, BeanSession session) {
+		Boolean b = mayHaveNamespaces.get(cm);
+		if (b == null) {
+			b = findNamespaces(cm, session);
+			mayHaveNamespaces.put(cm, b);
+		}
+		return b;
+	}
+
+	/**
+	 * Same as {@link #mayHaveNamespaces(ClassMeta, BeanSession)} but for values whose runtime class may be a subclass
+	 * of the specified type (e.g. the declared type of a bean property).
+	 *
+	 * @param cm The declared type of the value.
+	 * @param session The current session.  Used to find swaps.
+	 * @return <jk>true</jk> if values of the specified type may contain objects with XML namespaces.
+	 */
+	boolean declaredTypeMayHaveNamespaces(ClassMeta<?> cm, BeanSession session) {
+		if (cm == null)
+			return true;
+		Boolean b = declaredTypeMayHaveNamespaces.get(cm);
+		if (b == null) {
+			Deque<ClassMeta<?>> stack = new ArrayDeque<>();
+			b = ! push(stack, cm, session) || (! stack.isEmpty() && findNamespaces(stack, session));
+			declaredTypeMayHaveNamespaces.put(cm, b);
+		}
+		return b;
+	}
+
+	private boolean findNamespaces(ClassMeta<?> root, BeanSession session) {
+		Deque<ClassMeta<?>> stack = new ArrayDeque<>();
+		stack.push(root);
+		return findNamespaces(stack, session);
+	}
+
+	private boolean findNamespaces(Deque<ClassMeta<?>> stack, BeanSession session) {
+		Set<ClassMeta<?>> seen = new HashSet<>();
+		while (! stack.isEmpty()) {
+			ClassMeta<?> cm = stack.pop();
+			if (! seen.add(cm))
+				continue;
+			Boolean b = mayHaveNamespaces.get(cm);
+			if (b != null) {
+				if (b)
+					return true;
+				continue;
+			}
+			if (hasNamespace(getXmlClassMeta(cm).getNamespace()))
+				return true;
+			if (cm.isObject() || cm.isDelegate() || cm.isBeanMap() || cm.getSwap(session) != null)
+				return true;
+			if (cm.isCollectionOrArray() || cm.isOptional()) {
+				if (! push(stack, cm.getElementType(), session))
+					return true;
+			} else if (cm.isMap()) {
+				if (! push(stack, cm.getValueType(), session))
+					return true;
+			} else if (cm.isBean()) {
+				for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+					if (bpm.canRead()) {
+						if (hasNamespace(getXmlBeanPropertyMeta(bpm).getNamespace()))
+							return true;
+						if (! push(stack, bpm.getClassMeta(), session))
+							return true;
+					}
+				}
+			} else if (cm.isAbstract()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Pushes the types that values of the specified declared type must be searched for.
+	 * Returns false if the values can't be checked up front, e.g. because the type is a bean class that can be
+	 * subclassed.
+	 */
+	private boolean push(Deque<ClassMeta<?>> stack, ClassMeta<?> cm, BeanSession session) {
+		if (cm == null || cm.isObject() || cm.isDelegate() || cm.isBeanMap() || cm.getSwap(session) != null)
+			return false;
+		if (hasNamespace(getXmlClassMeta(cm).getNamespace()))
+			return false;
+		if (cm.isCollectionOrArray() || cm.isOptional())
+			return push(stack, cm.getElementType(), session);
+		if (cm.isMap())
+			return push(stack, cm.getValueType(), session);
+		if (isSimple(cm))
+			return true;
+		if (cm.isBean() ? ! isFinal(cm) : cm.isAbstract())
+			return false;
+		stack.push(cm);
+		return true;
+	}
+
+	/*
+	 * Returns true if values of the specified type are serialized as text and so can't contain other objects.
+	 */
+	private static boolean isSimple(ClassMeta<?> cm) {
+		return cm.isPrimitive() || cm.isCharSequence() || cm.isNumber() || cm.isBoolean() || cm.isChar() || cm.isEnum()
+			|| cm.isDateOrCalendarOrTemporal() || cm.isUri();
+	}
+
+	private static boolean isFinal(ClassMeta<?> cm) {
+		return Modifier.isFinal(cm.getInnerClass().getModifiers());
+	}
+
+	private static boolean hasNamespace(Namespace ns) {
+		return ns != null && ns.uri != null;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -44,6 +44,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	private Namespace
 		defaultNamespace;
 	private Namespace[] namespaces = new Namespace[0];
+	private final Namespace initialDefaultNamespace;
+	private final Namespace[] initialNamespaces;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -63,6 +65,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		SessionProperties sp = getSessionProperties();
 		namespaces = sp.getInstanceArray(XML_namespaces, Namespace.class).orElse(ctx.getNamespaces());
 		defaultNamespace = findDefaultNamespace(sp.getInstance(XML_defaultNamespace, Namespace.class).orElse(ctx.getDefaultNamespace()));
+		initialNamespaces = namespaces;
+		initialDefaultNamespace = defaultNamespace;
+	}
+
+	@Override /* Session */
+	protected boolean reset() {
+		namespaces = initialNamespaces;
+		defaultNamespace = initialDefaultNamespace;
+		return super.reset();
 	}
 
 	private Namespace findDefaultNamespace(Namespace n) {
@@ -141,6 +152,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	/**
 	 * Recursively searches for the XML namespaces on the specified POJO and adds them to the serializer context object.
 	 *
+	 * <p>
+	 * Objects and bean properties whose types are known to not contain any namespaces are not searched.
+	 *
 	 * @param o The POJO to check.
 	 * @throws SerializeException Thrown if bean recursion occurred.
 	 */
@@ -153,6 +167,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			throw new SerializeException(e);
 		}
 
+		if (aType != null && ! ctx.mayHaveNamespaces(aType, this)) {
+			pop();
+			return;
+		}
+
 		if (aType != null) {
 			Namespace ns = getXmlClassMeta(aType).getNamespace();
 			if (ns != null) {
@@ -208,23 +227,66 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				for (Object o2 : ((Object[])o))
 					findNsfMappings(o2);
 			}
-			if (bm != null) {
-				for (BeanPropertyValue p : bm.getValues(isKeepNullProperties())) {
+			if (bm != null)
+				findBeanNsfMappings(bm);
+		}
 
-					Namespace ns = getXmlBeanPropertyMeta(p.getMeta()).getNamespace();
-					if (ns != null && ns.uri != null)
-						addNamespace(ns);
+		pop();
+	}
 
-					try {
-						findNsfMappings(p.getValue());
-					} catch (Throwable x) {
-						// Ignore
-					}
-				}
+	/*
+	 * Searches the properties of a bean for namespaces.
+	 * Getters are only called for properties that have a namespace or whose values may contain namespaces.
+	 */
+	private void findBeanNsfMappings(BeanMap<?> bm) throws SerializeException {
+
+		// Subclasses such as filtered bean maps decide which properties they expose.
+		if (bm.getClass() != BeanMap.class) {
+			for (BeanPropertyValue p : bm.getValues(isKeepNullProperties()))
+				findNsfMappings(p.getMeta(), p.getValue());
+			return;
+		}
+
+		for (BeanPropertyMeta pMeta : bm.getMeta().getPropertyMetas()) {
+			if (! pMeta.canRead())
+				continue;
+			if (! (hasNamespace(pMeta) || ctx.declaredTypeMayHaveNamespaces(pMeta.getClassMeta(), this)))
+				continue;
+			if (pMeta.isDyna()) {
+				for (BeanPropertyValue p : bm.getValues(isKeepNullProperties()))
+					if (p.getMeta() == pMeta)
+						findNsfMappings(pMeta, p.getValue());
+				continue;
+			}
+			Object value = null;
+			boolean thrown = false;
+			try {
+				value = pMeta.get(bm, null);
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable t) {
+				thrown = true;
 			}
+			if (value != null || thrown || isKeepNullProperties())
+				findNsfMappings(pMeta, value);
 		}
+	}
 
-		pop();
+	private boolean hasNamespace(BeanPropertyMeta pMeta) {
+		Namespace ns = getXmlBeanPropertyMeta(pMeta).getNamespace();
+		return ns != null && ns.uri != null;
+	}
+
+	private void findNsfMappings(BeanPropertyMeta pMeta, Object value) {
+		if (hasNamespace(pMeta))
+			addNamespace(getXmlBeanPropertyMeta(pMeta).getNamespace());
+		if (value != null && ctx.declaredTypeMayHaveNamespaces(pMeta.getClassMeta(), this)) {
+			try {
+				findNsfMappings(value);
+			} catch (Throwable x) {
+				// Ignore
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,217 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.httppart.HttpPartType.*;
+
+import java.util.*;
+
+import org.apache.juneau.http.*;
+import org.apache.juneau.httppart.*;
+import org.apache.juneau.httppart.bean.*;
+import org.apache.juneau.rest.client.remote.*;
+
+/**
+ * A remote proxy operation with everything that doesn't depend on the method arguments resolved up front.
+ *
+ * <p>
+ * Created once per interface method by
+ * {@link RestClient#getRemote(Class, Object, org.apache.juneau.serializer.Serializer, org.apache.juneau.parser.Parser)}
+ * and shared by all proxies of the client regardless of their root URI, so that each call only needs to create the
+ * request and add the argument values to it.
+ * <br>This includes the request path, the part serializer of each argument, and the getters of request beans.
+ */
+final class RemoteOperationTemplate {
+
+	private final Class<?> interfaceClass;
+	private final RemoteOperationMeta meta;
+	private final String path, httpMethod;
+	private final boolean hasContent, isAbsolute;
+	private final Arg[] pathArgs, queryArgs, formDataArgs, headerArgs;
+	private final RemoteOperationArg bodyArg;
+	private final BeanArg[] beanArgs;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param interfaceClass The remote interface class.
+	 * @param meta The operation metadata.
+	 * @param partSerializer The part serializer to use for arguments that don't define their own.
+	 */
+	RemoteOperationTemplate(Class<?> interfaceClass, RemoteOperationMeta meta, HttpPartSerializer partSerializer) {
+		this.interfaceClass = interfaceClass;
+		this.meta = meta;
+		this.path = meta.getFullPath();
+		this.isAbsolute = path.indexOf("://") != -1;
+		this.httpMethod = meta.getHttpMethod();
+		this.hasContent = HttpMethod.hasContent(httpMethod);
+		this.pathArgs = args(meta.getPathArgs(), partSerializer);
+		this.queryArgs = args(meta.getQueryArgs(), partSerializer);
+		this.formDataArgs = args(meta.getFormDataArgs(), partSerializer);
+		this.headerArgs = args(meta.getHeaderArgs(), partSerializer);
+		this.bodyArg = meta.getBodyArg();
+
+		RemoteOperationBeanArg[] rba = meta.getRequestArgs();
+		this.beanArgs = new BeanArg[rba.length];
+		for (int i = 0; i < rba.length; i++)
+			beanArgs[i] = new BeanArg(rba[i], partSerializer);
+	}
+
+	private static Arg[] args(RemoteOperationArg[] args, HttpPartSerializer partSerializer) {
+		Arg[] a = new Arg[args.length];
+		for (int i = 0; i < args.length; i++)
+			a[i] = new Arg(args[i], partSerializer);
+		return a;
+	}
+
+	/**
+	 * Returns the operation metadata.
+	 *
+	 * @return The operation metadata.
+	 */
+	RemoteOperationMeta getMeta() {
+		return meta;
+	}
+
+	/**
+	 * Returns the absolute URI of the operation.
+	 *
+	 * @param rootUri The root URI of the proxy without a trailing slash.
+	 * @return The absolute URI of the operation, possibly containing path variables.
+	 * @throws RemoteMetadataException If the absolute URI of the operation cannot be determined.
+	 */
+	String getUri(String rootUri) {
+		if (isAbsolute)
+			return path;
+		String uri = rootUri + '/' + path;
+		if (uri.indexOf("://") == -1)
+			throw new RemoteMetadataException(interfaceClass, "Root URI has not been specified.  Cannot construct absolute path to remote resource.");
+		return uri;
+	}
+
+	/**
+	 * Returns the HTTP method of the operation.
+	 *
+	 * @return The HTTP method of the operation.
+	 */
+	String getHttpMethod() {
+		return httpMethod;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the HTTP method of the operation has a request body.
+	 *
+	 * @return <jk>true</jk> if the HTTP method of the operation has a request body.
+	 */
+	boolean hasContent() {
+		return hasContent;
+	}
+
+	/**
+	 * Adds the method arguments to the specified request.
+	 *
+	 * @param rc The request.
+	 * @param args The method arguments.
+	 * @throws Exception If an argument could not be serialized or a request bean getter threw an exception.
+	 */
+	void apply(RestRequest rc, Object[] args) throws Exception {
+		for (Arg a : pathArgs)
+			rc.pathArg(a.name, args[a.index], a.schema, a.serializer);
+
+		for (Arg a : queryArgs)
+			rc.queryArg(a.name, args[a.index], a.schema, a.serializer, a.skipIfEmpty);
+
+		for (Arg a : formDataArgs)
+			rc.formDataArg(a.name, args[a.index], a.schema, a.serializer, a.skipIfEmpty);
+
+		for (Arg a : headerArgs)
+			rc.headerArg(a.name, args[a.index], a.schema, a.serializer, a.skipIfEmpty);
+
+		if (bodyArg != null)
+			rc.body(args[bodyArg.getIndex()], bodyArg.getSchema());
+
+		for (BeanArg ba : beanArgs) {
+			Object bean = args[ba.index];
+			if (bean != null) {
+				for (BeanProperty p : ba.properties) {
+					Object val = p.meta.getValue(bean);
+					HttpPartType pt = p.partType;
+					if (pt == PATH)
+						rc.pathArg(p.name, val, p.schema, p.serializer);
+					else if (val != null) {
+						if (pt == QUERY)
+							rc.queryArg(p.name, val, p.schema, p.serializer, p.skipIfEmpty);
+						else if (pt == FORMDATA)
+							rc.formDataArg(p.name, val, p.schema, p.serializer, p.skipIfEmpty);
+						else if (pt == HEADER)
+							rc.headerArg(p.name, val, p.schema, p.serializer, p.skipIfEmpty);
+						else /* (pt == HttpPartType.BODY) */
+							rc.body(val, p.schema);
+					}
+				}
+			}
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Precompiled arguments
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static class Arg {
+		final String name;
+		final int index;
+		final HttpPartSchema schema;
+		final HttpPartSerializer serializer;
+		final boolean skipIfEmpty;
+
+		Arg(RemoteOperationArg a, HttpPartSerializer partSerializer) {
+			name = a.getName();
+			index = a.getIndex();
+			schema = a.getSchema();
+			serializer = a.getSerializer().orElse(partSerializer);
+			skipIfEmpty = a.isSkipIfEmpty();
+		}
+	}
+
+	private static class BeanArg {
+		final int index;
+		final BeanProperty[] properties;
+
+		BeanArg(RemoteOperationBeanArg a, HttpPartSerializer partSerializer) {
+			index = a.getIndex();
+			Collection<RequestBeanPropertyMeta> p = a.getMeta().getProperties();
+			properties = new BeanProperty[p.size()];
+			int i = 0;
+			for (RequestBeanPropertyMeta x : p)
+				properties[i++] = new BeanProperty(x, partSerializer);
+		}
+	}
+
+	private static class BeanProperty {
+		final RequestBeanPropertyMeta meta;
+		final HttpPartType partType;
+		final String name;
+		final HttpPartSchema schema;
+		final HttpPartSerializer serializer;
+		final boolean skipIfEmpty;
+
+		BeanProperty(RequestBeanPropertyMeta p, HttpPartSerializer partSerializer) {
+			meta = p;
+			partType = p.getPartType();
+			name = p.getPartName();
+			schema = p.getSchema();
+			serializer = p.getSerializer().orElse(partSerializer);
+			skipIfEmpty = schema.isSkipIfEmpty();
+		}
+	}
+}
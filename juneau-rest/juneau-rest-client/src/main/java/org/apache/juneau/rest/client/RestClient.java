@@ -1048,10 +1048,14 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 
 	private final Map<Class<?>, HttpPartParser> partParsers = new ConcurrentHashMap<>();
 	private final Map<Class<?>, HttpPartSerializer> partSerializers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, RemoteMeta> remoteMetas = new ConcurrentHashMap<>();
+
+	// Keyed by interface class.  Root URIs are resolved per proxy so that per-tenant proxies don't grow this map.
+	private final Map<Class<?>, Map<Method,RemoteOperationTemplate>> remoteOperationTemplates = new ConcurrentHashMap<>();
 
 	// This is lazy-created.
 	private volatile ExecutorService executorService;
-	private final boolean executorServiceShutdownOnClose;
+	private volatile boolean executorServiceShutdownOnClose;
 
 	/**
 	 * Instantiates a new clean-slate {@link RestClientBuilder} object.
@@ -2030,68 +2034,26 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 			new Class[] { interfaceClass },
 			new InvocationHandler() {
 
-				final RemoteMeta rm = new RemoteMeta(interfaceClass);
+				final RemoteMeta rm = getRemoteMeta(interfaceClass);
+				final Map<Method,RemoteOperationTemplate> templates = getRemoteOperationTemplates(interfaceClass);
 
 				@Override /* InvocationHandler */
 				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-					RemoteOperationMeta rom = rm.getOperationMeta(method);
-
-					String uri = rom.getFullPath();
-					if (uri.indexOf("://") == -1)
-						uri = restUrl2 + '/' + uri;
-					if (uri.indexOf("://") == -1)
-						throw new RemoteMetadataException(interfaceClass, "Root URI has not been specified.  Cannot construct absolute path to remote resource.");
+					RemoteOperationTemplate rot = templates.get(method);
+					if (rot == null) {
+						rot = new RemoteOperationTemplate(interfaceClass, rm.getOperationMeta(method), partSerializer);
+						templates.put(method, rot);
+					}
+					RemoteOperationMeta rom = rot.getMeta();
 
-					String httpMethod = rom.getHttpMethod();
-					RestRequest rc = request(httpMethod, uri, hasContent(httpMethod));
+					RestRequest rc = request(rot.getHttpMethod(), rot.getUri(restUrl2), rot.hasContent());
 
 					rc.serializer(serializer);
 					rc.parser(parser);
 
 					rm.getHeaders().forEach(x -> rc.header(x));
 
-					for (RemoteOperationArg a : rom.getPathArgs())
-						rc.pathArg(a.getName(), args[a.getIndex()], a.getSchema(), a.getSerializer().orElse(partSerializer));
-
-					for (RemoteOperationArg a : rom.getQueryArgs())
-						rc.queryArg(a.getName(), args[a.getIndex()], a.getSchema(), a.getSerializer().orElse(partSerializer), a.isSkipIfEmpty());
-
-					for (RemoteOperationArg a : rom.getFormDataArgs())
-						rc.formDataArg(a.getName(), args[a.getIndex()], a.getSchema(), a.getSerializer().orElse(partSerializer), a.isSkipIfEmpty());
-
-					for (RemoteOperationArg a : rom.getHeaderArgs())
-						rc.headerArg(a.getName(), args[a.getIndex()], a.getSchema(), a.getSerializer().orElse(partSerializer), a.isSkipIfEmpty());
-
-					RemoteOperationArg ba = rom.getBodyArg();
-					if (ba != null)
-						rc.body(args[ba.getIndex()], ba.getSchema());
-
-					if (rom.getRequestArgs().length > 0) {
-						for (RemoteOperationBeanArg rmba : rom.getRequestArgs()) {
-							RequestBeanMeta rbm = rmba.getMeta();
-							Object bean = args[rmba.getIndex()];
-							if (bean != null) {
-								for (RequestBeanPropertyMeta p : rbm.getProperties()) {
-									Object val = p.getGetter().invoke(bean);
-									HttpPartType pt = p.getPartType();
-									String pn = p.getPartName();
-									HttpPartSchema schema = p.getSchema();
-									if (pt == PATH)
-										rc.pathArg(pn, val, schema, p.getSerializer().orElse(partSerializer));
-									else if (val != null) {
-										if (pt == QUERY)
-											rc.queryArg(pn, val, schema, p.getSerializer().orElse(partSerializer), schema.isSkipIfEmpty());
-										else if (pt == FORMDATA)
-											rc.formDataArg(pn, val, schema, p.getSerializer().orElse(partSerializer), schema.isSkipIfEmpty());
-										else if (pt == HEADER)
-											rc.headerArg(pn, val, schema, p.getSerializer().orElse(partSerializer), schema.isSkipIfEmpty());
-										else /* (pt == HttpPartType.BODY) */
-											rc.body(val, schema);
-									}
-								}
-							}
-						}
-					}
+					rot.apply(rc, args);
 
 					RemoteOperationReturn ror = rom.getReturns();
 					if (ror.isFuture()) {
@@ -2108,19 +2070,13 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 							}
 						});
 					} else if (ror.isCompletableFuture()) {
-						CompletableFuture<Object> cf = new CompletableFuture<>();
-						getExecutorService().submit(new Callable<Object>() {
-							@Override
-							public Object call() throws Exception {
-								try {
-									cf.complete(executeRemote(interfaceClass, rc, method, rom));
-								} catch (Throwable e) {
-									cf.completeExceptionally(e);
-								}
-								return null;
+						return CompletableFuture.supplyAsync(() -> {
+							try {
+								return executeRemote(interfaceClass, rc, method, rom);
+							} catch (Throwable e) {
+								throw new CompletionException(e);
 							}
-						});
-						return cf;
+						}, getExecutorService());
 					}
 
 					return executeRemote(interfaceClass, rc, method, rom);
@@ -2390,6 +2346,31 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 		return x;
 	}
 
+	/**
+	 * Returns the metadata for the specified remote interface.
+	 *
+	 * <p>
+	 * The metadata is only computed the first time a proxy is created for the interface.
+	 *
+	 * @param interfaceClass The remote interface class.
+	 * @return The metadata for the specified remote interface.
+	 */
+	RemoteMeta getRemoteMeta(Class<?> interfaceClass) {
+		RemoteMeta x = remoteMetas.get(interfaceClass);
+		if (x == null) {
+			x = new RemoteMeta(interfaceClass);
+			remoteMetas.put(interfaceClass, x);
+		}
+		return x;
+	}
+
+	/*
+	 * Returns the remote operation templates shared by all proxies of the specified interface.
+	 */
+	private Map<Method,RemoteOperationTemplate> getRemoteOperationTemplates(Class<?> interfaceClass) {
+		return remoteOperationTemplates.computeIfAbsent(interfaceClass, k -> new ConcurrentHashMap<>());
+	}
+
 	/**
 	 * Returns the part parser instance of the specified type.
 	 *
@@ -2847,15 +2828,61 @@ public class RestClient extends BeanContextable implements HttpClient, Closeable
 		}
 	}
 
-	ExecutorService getExecutorService() {
-		if (executorService != null)
-			return executorService;
+	/**
+	 * Returns the executor service used for creating {@link Future Futures}.
+	 *
+	 * <p>
+	 * If an executor service was not specified on the builder, a default pool of daemon threads is created on first
+	 * use and shut down when this client is closed.
+	 *
+	 * @return The executor service.  Never <jk>null</jk>.
+	 * @see RestClientBuilder#executorService(ExecutorService, boolean)
+	 */
+	public ExecutorService getExecutorService() {
+		ExecutorService es = executorService;
+		if (es != null)
+			return es;
 		synchronized(this) {
-			executorService = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(10));
+			if (executorService == null) {
+				int threads = Runtime.getRuntime().availableProcessors();
+				executorService = RestClientBuilder.createExecutorService(threads, threads * 100);
+				executorServiceShutdownOnClose = true;
+			}
 			return executorService;
 		}
 	}
 
+	/**
+	 * Returns the number of tasks waiting to be run by the executor service.
+	 *
+	 * <p>
+	 * Useful for monitoring whether asynchronous calls are backing up because the executor service is undersized.
+	 *
+	 * @return
+	 * 	The number of queued tasks, <c>0</c> if the executor service hasn't been created yet, or <c>-1</c> if the
+	 * 	executor service is not a {@link ThreadPoolExecutor} and so does not expose its queue.
+	 */
+	public int getExecutorQueueDepth() {
+		ExecutorService es = executorService;
+		if (es == null)
+			return 0;
+		return es instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor)es).getQueue().size() : -1;
+	}
+
+	/**
+	 * Returns the approximate number of threads actively running tasks in the executor service.
+	 *
+	 * @return
+	 * 	The number of active threads, <c>0</c> if the executor service hasn't been created yet, or <c>-1</c> if the
+	 * 	executor service is not a {@link ThreadPoolExecutor} and so does not expose this information.
+	 */
+	public int getExecutorActiveCount() {
+		ExecutorService es = executorService;
+		if (es == null)
+			return 0;
+		return es instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor)es).getActiveCount() : -1;
+	}
+
 	/*
 	 * Returns the serializer that best matches the specified content type.
 	 * If no match found or the content type is null, returns the serializer in the list if it's a list of one.
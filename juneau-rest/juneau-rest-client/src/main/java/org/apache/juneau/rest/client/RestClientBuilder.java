@@ -23,6 +23,7 @@ import java.net.*;
 import java.net.URI;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -2962,8 +2963,9 @@ public class RestClientBuilder extends BeanContextableBuilder {
 	 * </ul>
 	 *
 	 * <p>
-	 * The default executor service is a single-threaded {@link ThreadPoolExecutor} with a 30 second timeout
-	 * and a queue size of 10.
+	 * The default executor service is a {@link ThreadPoolExecutor} of daemon threads with one thread per available
+	 * processor and a queue size of 100 per thread.
+	 * <br>The default executor service is shut down when the client is closed.
 	 *
 	 * <h5 class='section'>Example:</h5>
 	 * <p class='bcode w800'>
@@ -3004,6 +3006,79 @@ public class RestClientBuilder extends BeanContextableBuilder {
 		return this;
 	}
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Executor service thread pool.
+	 *
+	 * <p>
+	 * Shortcut for calling {@link #executorService(ExecutorService, boolean)} with a fixed-size pool of daemon threads
+	 * that is shut down when the client is closed.
+	 *
+	 * <p>
+	 * Once the queue is full, new tasks are rejected with a {@link RejectedExecutionException}.
+	 * <br>The number of queued tasks can be monitored using {@link RestClient#getExecutorQueueDepth()}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that can run up to 16 calls in parallel with up to 1000 waiting.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.executorService(16, 1000)
+	 * 		.build();
+	 * </p>
+	 *
+	 * @param threads The number of threads in the pool.
+	 * @param queueSize The maximum number of tasks waiting for a thread.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder executorService(int threads, int queueSize) {
+		return executorService(createExecutorService(threads, queueSize), true);
+	}
+
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Executor service using virtual threads.
+	 *
+	 * <p>
+	 * Shortcut for calling {@link #executorService(ExecutorService, boolean)} with an executor service that runs each
+	 * task on its own virtual thread and is shut down when the client is closed.
+	 *
+	 * <p>
+	 * Virtual threads make blocking HTTP calls cheap, so large numbers of {@link Future} and {@link CompletableFuture}
+	 * calls can be run in parallel without sizing a pool.
+	 * <br>On JVMs that do not support virtual threads, an unbounded cached pool of daemon threads is used instead.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder executorServiceVirtualThreads() {
+		return executorService(createVirtualThreadExecutorService(), true);
+	}
+
+	static ExecutorService createExecutorService(int threads, int queueSize) {
+		ThreadPoolExecutor es = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize), EXECUTOR_THREAD_FACTORY);
+		es.allowCoreThreadTimeOut(true);
+		return es;
+	}
+
+	static ExecutorService createVirtualThreadExecutorService() {
+		try {
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (Exception e) {
+			return Executors.newCachedThreadPool(EXECUTOR_THREAD_FACTORY);
+		}
+	}
+
+	private static final ThreadFactory EXECUTOR_THREAD_FACTORY = new ThreadFactory() {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override /* ThreadFactory */
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "RestClient-" + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	};
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Keep HttpClient open.
 	 *
@@ -5153,6 +5228,12 @@ public class RestClientBuilder extends BeanContextableBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RestClientBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	//------------------------------------------------------------------------------------------------
@@ -656,6 +656,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public MockRestClientBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder accept(String value) {
 		super.accept(value);
@@ -926,6 +932,18 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder executorService(int threads, int queueSize) {
+		super.executorService(threads, queueSize);
+		return this;
+	}
+
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder executorServiceVirtualThreads() {
+		super.executorServiceVirtualThreads();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder formData(NameValuePair...parts) {
 		super.formData(parts);
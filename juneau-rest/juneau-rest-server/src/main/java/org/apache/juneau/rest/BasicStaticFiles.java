@@ -15,16 +15,20 @@ package org.apache.juneau.rest;
 import static org.apache.juneau.http.HttpHeaders.*;
 import static org.apache.juneau.http.HttpResources.*;
 import static org.apache.juneau.internal.FileUtils.*;
+import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.ObjectUtils.*;
 
 import java.io.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.activation.*;
 
 import org.apache.http.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.cp.*;
+import org.apache.juneau.http.header.*;
 import org.apache.juneau.http.resource.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.internal.*;
@@ -35,6 +39,12 @@ import org.apache.juneau.internal.*;
  * <p>
  * Provides the same functionality as {@link BasicFileFinder} but adds support for returning files as {@link HttpResource}
  * objects with arbitrary headers.
+ *
+ * <p>
+ * When backed by a {@link BasicFileFinder}, files are returned as {@link StaticFileResource} objects that carry strong
+ * entity tags and modification times so that conditional and range requests can be answered cheaply.
+ * <br>Classpath resources larger than the caching limit are returned as plain streams since their size and
+ * modification time aren't known.
  */
 public class BasicStaticFiles implements StaticFiles {
 
@@ -42,6 +52,8 @@ public class BasicStaticFiles implements StaticFiles {
 	private final MimetypesFileTypeMap mimeTypes;
 	private final int hashCode;
 	private final FileFinder fileFinder;
+	private final long cachingLimit;
+	private final Map<String,StaticFileResource> cache = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new builder for this object.
@@ -61,7 +73,11 @@ public class BasicStaticFiles implements StaticFiles {
 		this.headers = builder.headers.toArray(new Header[builder.headers.size()]);
 		this.mimeTypes = builder.mimeTypes;
 		this.hashCode = HashCode.of(hashCode(), headers);
-		this.fileFinder = builder.fileFinder.build();
+		this.cachingLimit = builder.cachingLimit;
+		FileFinder ff = builder.fileFinder.build();
+		if (ff instanceof BasicFileFinder && cachingLimit >= 0)
+			ff = builder.fileFinder.copy().caching(-1).build();  // File contents are cached here instead.
+		this.fileFinder = ff;
 	}
 
 	/**
@@ -76,6 +92,7 @@ public class BasicStaticFiles implements StaticFiles {
 		this.mimeTypes = null;
 		this.hashCode = HashCode.of(hashCode(), headers);
 		this.fileFinder = null;
+		this.cachingLimit = -1;
 	}
 
 	/**
@@ -91,12 +108,14 @@ public class BasicStaticFiles implements StaticFiles {
 	@Override /* StaticFiles */
 	public Optional<HttpResource> resolve(String path, Locale locale) {
 		try {
+			if (fileFinder instanceof BasicFileFinder)
+				return Optional.ofNullable(resolve((BasicFileFinder)fileFinder, path));
 			Optional<InputStream> is = getStream(path);
 			if (! is.isPresent())
 				return Optional.empty();
 			return Optional.of(
 				streamResource(is.get())
-					.header(contentType(mimeTypes == null ? null : mimeTypes.getContentType(getFileName(path))))
+					.header(getContentType(path))
 					.headers(headers)
 					.build()
 			);
@@ -105,6 +124,75 @@ public class BasicStaticFiles implements StaticFiles {
 		}
 	}
 
+	private HttpResource resolve(BasicFileFinder ff, String path) throws IOException {
+		LocalFile lf = ff.getLocalFile(path, null).orElse(null);
+		if (lf == null)
+			return null;
+
+		String key = StringUtils.trimSlashesAndSpaces(path);
+		StaticFileResource r = cache.get(key);
+		Path p = lf.getPath();
+
+		// Classpath resources can't change, so once cached they're always current.
+		if (p == null) {
+			if (r != null)
+				return r;
+			InputStream is = lf.read();
+			if (is == null)
+				return null;
+			if (cachingLimit >= 0) {
+				byte[] b;
+				try {
+					b = readUpTo(is, cachingLimit);
+				} catch (IOException e) {
+					is.close();
+					throw e;
+				}
+				if (b.length <= cachingLimit) {
+					is.close();
+					r = new StaticFileResource(b, -1, getContentType(path), headers);
+					cache.put(key, r);
+					return r;
+				}
+				is = new SequenceInputStream(new ByteArrayInputStream(b), is);
+			}
+			// Too large to cache.  Streamed without an entity tag or precompressed copy.
+			return streamResource(is).header(getContentType(path)).headers(headers).build();
+		}
+
+		long size = Files.size(p), lastModified = lf.lastModified();
+		if (r != null && r.isCurrent(size, lastModified))
+			return r;
+
+		if (size > cachingLimit)
+			return new StaticFileResource(p, size, lastModified, getContentType(path), headers);
+
+		r = new StaticFileResource(readBytes(p.toFile()), lastModified, getContentType(path), headers);
+		if (! r.isCurrent(size, lastModified))
+			return r;  // Modified while being read.  Serve it, but don't cache it.
+		cache.put(key, r);
+		return r;
+	}
+
+	/*
+	 * Reads at most one byte more than the specified limit from the stream.
+	 */
+	private static byte[] readUpTo(InputStream is, long limit) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] buf = new byte[8192];
+		while (baos.size() <= limit) {
+			int n = is.read(buf, 0, (int)Math.min(buf.length - 1, limit - baos.size()) + 1);
+			if (n == -1)
+				break;
+			baos.write(buf, 0, n);
+		}
+		return baos.toByteArray();
+	}
+
+	private ContentType getContentType(String path) {
+		return contentType(mimeTypes == null ? null : mimeTypes.getContentType(getFileName(path)));
+	}
+
 	/**
 	 * Returns a map representation of this bean.
 	 *
@@ -212,6 +212,35 @@ public class RequestAttributes {
 		return m;
 	}
 
+	/**
+	 * Returns a read-only view of the request attributes as a map.
+	 *
+	 * <p>
+	 * Unlike {@link #asMap()}, the attributes are not copied.
+	 * <br>Lookups by name go directly to the underlying request, so this is the cheaper option when only a few
+	 * attributes are read, such as when the attributes are used as session properties.
+	 *
+	 * @return A read-only view of the request attributes.  Never <jk>null</jk>.
+	 */
+	public Map<String,Object> asView() {
+		return new AbstractMap<String,Object>() {
+			@Override /* Map */
+			public Object get(Object key) {
+				return key instanceof String ? sreq.getAttribute((String)key) : null;
+			}
+
+			@Override /* Map */
+			public boolean containsKey(Object key) {
+				return get(key) != null;
+			}
+
+			@Override /* Map */
+			public Set<Map.Entry<String,Object>> entrySet() {
+				return Collections.unmodifiableMap(asMap()).entrySet();
+			}
+		};
+	}
+
 	@Override /* Object */
 	public String toString() {
 		return asMap().toString();
@@ -443,18 +443,14 @@ public class RequestBody {
 
 		if (pm != null) {
 			Parser p = pm.getParser();
-			MediaType mediaType = pm.getMediaType();
-			ParserSessionArgs pArgs = ParserSessionArgs
-				.create()
-				.properties(req.getAttributes().asMap())
-				.javaMethod(req.getOpContext().getJavaMethod())
+			ParserSessionArgs pArgs = req.getOpContext()
+				.createParserSessionArgs(pm)
+				.properties(new OMap().inner(req.getAttributes().asView()))
 				.locale(locale)
 				.timeZone(timeZone.orElse(null))
-				.mediaType(mediaType)
 				.streamCharset(req.getCharset())
 				.schema(schema)
-				.debug(req.isDebug() ? true : null)
-				.outer(req.getContext().getResource());
+				.debug(req.isDebug() ? true : null);
 			ParserSession session = p.createSession(pArgs);
 			try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
 				T o = session.parse(in, cm);
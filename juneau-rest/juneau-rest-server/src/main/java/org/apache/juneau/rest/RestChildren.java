@@ -138,6 +138,7 @@ public class RestChildren {
 	//-----------------------------------------------------------------------------------------------------------------
 
 	private final Map<String,RestContext> children = Collections.synchronizedMap(new LinkedHashMap<String,RestContext>());
+	private final UrlPathTrie<RestContext> trie;
 
 	/**
 	 * Constructor.
@@ -147,6 +148,7 @@ public class RestChildren {
 	public RestChildren(Builder builder) {
 		for (RestContext rc : builder.list)
 			children.put(rc.getPath(), rc);
+		trie = new UrlPathTrie<>(children.values(), x -> new UrlPathMatcher[]{x.getPathMatcher()});
 	}
 
 	/**
@@ -158,7 +160,7 @@ public class RestChildren {
 	public Optional<RestChildMatch> findMatch(RestCall call) {
 		String pi = call.getPathInfoUndecoded();
 		if ((! children.isEmpty()) && pi != null && ! pi.equals("/")) {
-			for (RestContext rc : children.values()) {
+			for (RestContext rc : trie.getCandidates(call.getUrlPath())) {
 				UrlPathMatcher upp = rc.getPathMatcher();
 				UrlPathMatch uppm = upp.match(call.getUrlPath());
 				if (uppm != null) {
@@ -945,7 +945,7 @@ public class RestContext extends Context {
 	 * @return The stack trace database.
 	 */
 	public RestContextStats getStats() {
-		return new RestContextStats(startTime, getMethodExecStats());
+		return new RestContextStats(startTime, getMethodExecStats(), CacheStats.getAll());
 	}
 
 	/**
@@ -1011,12 +1011,12 @@ public class RestContext extends Context {
 	 */
 	public String getMethodExecStatsReport() {
 		StringBuilder sb = new StringBuilder()
-			.append(" Method                         Runs      Running   Errors   Avg          Total     \n")
-			.append("------------------------------ --------- --------- -------- ------------ -----------\n");
+			.append(" Method                         Runs      Running   Errors   Avg          P50          P95          P99          Total     \n")
+			.append("------------------------------ --------- --------- -------- ------------ ------------ ------------ ------------ -----------\n");
 		getMethodExecStats()
 			.stream()
 			.sorted(Comparator.comparingDouble(MethodExecStats::getTotalTime).reversed())
-			.forEach(x -> sb.append(String.format("%30s %9d %9d %9d %10dms %10dms\n", x.getMethod(), x.getRuns(), x.getRunning(), x.getErrors(), x.getAvgTime(), x.getTotalTime())));
+			.forEach(x -> sb.append(String.format("%30s %9d %9d %9d %10dms %10.3fms %10.3fms %10.3fms %10dms\n", x.getMethod(), x.getRuns(), x.getRunning(), x.getErrors(), x.getAvgTime(), x.getP50Time(), x.getP95Time(), x.getP99Time(), x.getTotalTime())));
 		return sb.toString();
 	}
 
@@ -1360,11 +1360,15 @@ public class RestContext extends Context {
 	 * <p>
 	 * Subclasses can override this method to provide their own custom error response handling.
 	 *
+	 * <p>
+	 * This method is called concurrently by all threads whose requests failed and should only use state from the
+	 * specified call.
+	 *
 	 * @param call The rest call.
 	 * @param e The exception that occurred.
 	 * @throws IOException Can be thrown if a problem occurred trying to write to the output stream.
 	 */
-	protected synchronized void handleError(RestCall call, Throwable e) throws IOException {
+	protected void handleError(RestCall call, Throwable e) throws IOException {
 
 		call.exception(e);
 
@@ -1582,10 +1582,12 @@ public class RestContextBuilder extends ContextBuilder implements ServletConfig
 	 * 	<li class='jc'>{@link InputStreamProcessor}
 	 * 	<li class='jc'>{@link ThrowableProcessor}
 	 * 	<li class='jc'>{@link HttpResponseProcessor}
+	 * 	<li class='jc'>{@link StaticFileProcessor}
 	 * 	<li class='jc'>{@link HttpResourceProcessor}
 	 * 	<li class='jc'>{@link HttpEntityProcessor}
 	 * 	<li class='jc'>{@link ResponseBeanProcessor}
 	 * 	<li class='jc'>{@link PlainTextPojoProcessor}
+	 * 	<li class='jc'>{@link SwaggerProcessor}
 	 * 	<li class='jc'>{@link SerializedPojoProcessor}
 	 * </ul>
 	 *
@@ -1722,10 +1724,12 @@ public class RestContextBuilder extends ContextBuilder implements ServletConfig
 					InputStreamProcessor.class,
 					ThrowableProcessor.class,
 					HttpResponseProcessor.class,
+					StaticFileProcessor.class,
 					HttpResourceProcessor.class,
 					HttpEntityProcessor.class,
 					ResponseBeanProcessor.class,
 					PlainTextPojoProcessor.class,
+					SwaggerProcessor.class,
 					SerializedPojoProcessor.class
 				)
 		);
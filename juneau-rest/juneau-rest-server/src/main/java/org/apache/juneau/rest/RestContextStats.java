@@ -22,14 +22,16 @@ import org.apache.juneau.transforms.*;
 /**
  * A snapshot of execution statistics for REST resource classes.
  */
-@Bean(properties="startTime,upTime,methodStats")
+@Bean(properties="startTime,upTime,methodStats,cacheStats")
 public class RestContextStats {
 	private final Instant startTime;
 	private final List<MethodExecStats> methodStats;
+	private final List<CacheStats> cacheStats;
 
-	RestContextStats(Instant startTime, List<MethodExecStats> methodStats) {
+	RestContextStats(Instant startTime, List<MethodExecStats> methodStats, List<CacheStats> cacheStats) {
 		this.startTime = startTime;
 		this.methodStats = methodStats;
+		this.cacheStats = cacheStats;
 	}
 
 	/**
@@ -60,4 +62,13 @@ public class RestContextStats {
 	public Collection<MethodExecStats> getMethodStats() {
 		return methodStats;
 	}
+
+	/**
+	 * Returns hit/miss/eviction statistics on all the named caches in this JVM.
+	 *
+	 * @return Statistics on all the named caches.
+	 */
+	public Collection<CacheStats> getCacheStats() {
+		return cacheStats;
+	}
 }
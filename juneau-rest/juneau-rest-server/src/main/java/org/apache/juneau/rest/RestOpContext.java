@@ -95,6 +95,8 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 	private final Map<Class<?>,ResponseBeanMeta> responseBeanMetas = new ConcurrentHashMap<>();
 	private final Map<Class<?>,ResponsePartMeta> headerPartMetas = new ConcurrentHashMap<>();
 	private final Map<Class<?>,ResponsePartMeta> bodyPartMetas = new ConcurrentHashMap<>();
+	private final Map<SerializerMatch,SerializerSessionArgs> serializerSessionArgs = new ConcurrentHashMap<>();
+	private final Map<ParserMatch,ParserSessionArgs> parserSessionArgs = new ConcurrentHashMap<>();
 	private final ResponseBeanMeta responseMeta;
 	private final int hierarchyDepth;
 	private final DebugEnablement debug;
@@ -286,6 +288,15 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 		return httpMethod;
 	}
 
+	/**
+	 * Returns the path matchers for this method.
+	 *
+	 * @return The path matchers for this method.
+	 */
+	UrlPathMatcher[] getPathMatchers() {
+		return pathMatchers;
+	}
+
 	/**
 	 * Returns the path pattern for this method.
 	 *
@@ -448,6 +459,46 @@ public class RestOpContext extends Context implements Comparable<RestOpContext>
 		return responseMeta;
 	}
 
+	/**
+	 * Returns new session args for serializing a response body with the specified serializer.
+	 *
+	 * <p>
+	 * The arguments that don't change between requests (the Java method and the matched media type) are computed
+	 * once per serializer match and copied, so only the request-specific arguments need to be set on the returned
+	 * object.
+	 *
+	 * @param sm The serializer match.
+	 * @return A new mutable session args object.
+	 */
+	public SerializerSessionArgs createSerializerSessionArgs(SerializerMatch sm) {
+		SerializerSessionArgs a = serializerSessionArgs.get(sm);
+		if (a == null) {
+			a = SerializerSessionArgs.create().javaMethod(method).mediaType(sm.getMediaType());
+			serializerSessionArgs.putIfAbsent(sm, a);
+		}
+		return a.copy();
+	}
+
+	/**
+	 * Returns new session args for parsing a request body with the specified parser.
+	 *
+	 * <p>
+	 * The arguments that don't change between requests (the Java method, the matched media type, and the resource
+	 * object) are computed once per parser match and copied, so only the request-specific arguments need to be set
+	 * on the returned object.
+	 *
+	 * @param pm The parser match.
+	 * @return A new mutable session args object.
+	 */
+	public ParserSessionArgs createParserSessionArgs(ParserMatch pm) {
+		ParserSessionArgs a = parserSessionArgs.get(pm);
+		if (a == null) {
+			a = ParserSessionArgs.create().javaMethod(method).mediaType(pm.getMediaType()).outer(context.getResource());
+			parserSessionArgs.putIfAbsent(pm, a);
+		}
+		return a.copy();
+	}
+
 	/**
 	 * Identifies if this method can process the specified call.
 	 *
@@ -14,12 +14,14 @@ package org.apache.juneau.rest;
 
 import static org.apache.juneau.internal.ClassUtils.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.cp.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.util.*;
 
 /**
  * Encapsulates the set of {@link RestOp}-annotated methods within a single {@link Rest}-annotated object.
@@ -154,7 +156,8 @@ public class RestOperations {
 	// Instance
 	//-----------------------------------------------------------------------------------------------------------------
 
-	private final Map<String,List<RestOpContext>> map;
+	private final Map<String,UrlPathTrie<RestOpContext>> map;
+	private final UrlPathTrie<RestOpContext> nonRemainderOps;
 	private List<RestOpContext> list;
 
 	/**
@@ -163,16 +166,24 @@ public class RestOperations {
 	 * @param builder The builder containing the settings for this object.
 	 */
 	public RestOperations(Builder builder) {
-		AMap<String,List<RestOpContext>> m = AMap.create();
+		AMap<String,UrlPathTrie<RestOpContext>> m = AMap.create();
 		for (Map.Entry<String,TreeSet<RestOpContext>> e : builder.map.entrySet())
-			m.put(e.getKey(), AList.of(e.getValue()));
+			m.put(e.getKey(), new UrlPathTrie<>(e.getValue(), RestOpContext::getPathMatchers));
 		this.map = m;
 		this.list = AList.of(builder.set);
+		this.nonRemainderOps = new UrlPathTrie<>(
+			list.stream().filter(x -> ! x.getPathPattern().endsWith("/*")).collect(Collectors.toList()),
+			RestOpContext::getPathMatchers
+		);
 	}
 
 	/**
 	 * Finds the method that should handle the specified call.
 	 *
+	 * <p>
+	 * Only the operations whose path patterns could match the request path are checked, but they're checked in the
+	 * same order as {@link RestOpContext#compareTo(RestOpContext)} so the result is the same as checking all of them.
+	 *
 	 * @param call The HTTP call.
 	 * @return The method that should handle the specified call.
 	 * @throws MethodNotAllowed If no methods implement the requested HTTP method.
@@ -181,10 +192,11 @@ public class RestOperations {
 	 */
 	public RestOpContext findOperation(RestCall call) throws MethodNotAllowed, PreconditionFailed, NotFound {
 		String m = call.getMethod();
+		UrlPath urlPath = call.getUrlPath();
 
 		int rc = 0;
 		if (map.containsKey(m)) {
-			for (RestOpContext oc : map.get(m)) {
+			for (RestOpContext oc : map.get(m).getCandidates(urlPath)) {
 				int mrc = oc.match(call);
 				if (mrc == 2)
 					return oc;
@@ -193,7 +205,7 @@ public class RestOperations {
 		}
 
 		if (map.containsKey("*")) {
-			for (RestOpContext oc : map.get("*")) {
+			for (RestOpContext oc : map.get("*").getCandidates(urlPath)) {
 				int mrc = oc.match(call);
 				if (mrc == 2)
 					return oc;
@@ -204,12 +216,10 @@ public class RestOperations {
 		// If no paths matched, see if the path matches any other methods.
 		// Note that we don't want to match against "/*" patterns such as getOptions().
 		if (rc == 0) {
-			for (RestOpContext oc : list) {
-				if (! oc.getPathPattern().endsWith("/*")) {
-					int orc = oc.match(call);
-					if (orc == 2)
-						throw new MethodNotAllowed();
-				}
+			for (RestOpContext oc : nonRemainderOps.getCandidates(urlPath)) {
+				int orc = oc.match(call);
+				if (orc == 2)
+					throw new MethodNotAllowed();
 			}
 		}
 
@@ -0,0 +1,275 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.zip.*;
+
+import org.apache.http.*;
+import org.apache.juneau.http.header.*;
+import org.apache.juneau.http.resource.*;
+
+/**
+ * A static file resolved by {@link BasicStaticFiles}.
+ *
+ * <p>
+ * Unlike a plain stream resource, this resource knows its size, modification time, and strong entity tag so that
+ * conditional and range requests can be answered without reading the file.
+ * <br>The contents are either held in memory (small files and classpath resources) or read directly from the file
+ * system on each request (large files).
+ *
+ * <p>
+ * In-memory contents of compressible types (e.g. text, JavaScript, JSON) also keep a precompressed GZIP copy so that
+ * compressed responses don't have to be recompressed on every request.
+ */
+public class StaticFileResource implements HttpResource {
+
+	private static final int MIN_GZIP_SIZE = 256;
+
+	private final byte[] content, gzipped;
+	private final Path path;
+	private final long size, lastModified;
+	private final String eTag;
+	private final ContentType contentType;
+	private final HeaderList headers;
+
+	/**
+	 * Constructor for in-memory contents.
+	 *
+	 * @param content The file contents.
+	 * @param lastModified The file modification time in milliseconds since the epoch, or <c>-1</c> if not known.
+	 * @param contentType The content type, or <jk>null</jk> if not known.
+	 * @param headers Additional headers to add to the response.
+	 */
+	StaticFileResource(byte[] content, long lastModified, ContentType contentType, Header[] headers) {
+		this.content = content;
+		this.path = null;
+		this.size = content.length;
+		this.lastModified = lastModified;
+		this.eTag = '"' + digest(content) + '"';
+		this.contentType = contentType;
+		this.headers = HeaderList.of(headers);
+		this.gzipped = isCompressible(contentType) && size >= MIN_GZIP_SIZE ? gzip(content) : null;
+	}
+
+	/**
+	 * Constructor for contents read from the file system on each request.
+	 *
+	 * @param path The file location.
+	 * @param size The file size in bytes.
+	 * @param lastModified The file modification time in milliseconds since the epoch.
+	 * @param contentType The content type, or <jk>null</jk> if not known.
+	 * @param headers Additional headers to add to the response.
+	 */
+	StaticFileResource(Path path, long size, long lastModified, ContentType contentType, Header[] headers) {
+		this.content = null;
+		this.gzipped = null;
+		this.path = path;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.eTag = '"' + Long.toHexString(lastModified) + '-' + Long.toHexString(size) + '"';
+		this.contentType = contentType;
+		this.headers = HeaderList.of(headers);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this resource still reflects the specified file size and modification time.
+	 *
+	 * @param size The current file size.
+	 * @param lastModified The current file modification time.
+	 * @return <jk>true</jk> if this resource still reflects the specified file size and modification time.
+	 */
+	boolean isCurrent(long size, long lastModified) {
+		return this.size == size && this.lastModified == lastModified;
+	}
+
+	/**
+	 * Returns the strong entity tag of this file.
+	 *
+	 * @return The strong entity tag of this file, including the surrounding quotes.
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	/**
+	 * Returns the entity tag of the GZIP-compressed variant of this file.
+	 *
+	 * @return The entity tag of the GZIP-compressed variant of this file, or <jk>null</jk> if there is no such variant.
+	 */
+	public String getGzippedETag() {
+		return gzipped == null ? null : eTag.substring(0, eTag.length()-1) + "-gz\"";
+	}
+
+	/**
+	 * Returns the time this file was last modified.
+	 *
+	 * @return The time this file was last modified in milliseconds since the epoch, or <c>-1</c> if not known.
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the size of this file.
+	 *
+	 * @return The size of this file in bytes.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the size of the GZIP-compressed variant of this file.
+	 *
+	 * @return The size of the GZIP-compressed variant of this file in bytes, or <c>-1</c> if there is no such variant.
+	 */
+	public long getGzippedSize() {
+		return gzipped == null ? -1 : gzipped.length;
+	}
+
+	/**
+	 * Writes a range of bytes of this file to the specified stream.
+	 *
+	 * <p>
+	 * Files on the file system are copied using {@link FileChannel#transferTo(long, long, WritableByteChannel)} so that
+	 * the operating system can avoid copying the contents through the heap.
+	 *
+	 * @param os The stream to write to.
+	 * @param offset The position of the first byte to write.
+	 * @param length The number of bytes to write.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public void writeTo(OutputStream os, long offset, long length) throws IOException {
+		if (content != null) {
+			os.write(content, (int)offset, (int)length);
+			return;
+		}
+		try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+			WritableByteChannel wc = Channels.newChannel(os);
+			long end = offset + length;
+			while (offset < end) {
+				long n = fc.transferTo(offset, end - offset, wc);
+				if (n <= 0)
+					throw new EOFException("File '"+path+"' was truncated while being read.");
+				offset += n;
+			}
+		}
+	}
+
+	/**
+	 * Writes the GZIP-compressed variant of this file to the specified stream.
+	 *
+	 * @param os The stream to write to.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public void writeGzippedTo(OutputStream os) throws IOException {
+		os.write(gzipped);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// HttpResource methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* HttpEntity */
+	public long getContentLength() {
+		return size;
+	}
+
+	@Override /* HttpEntity */
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override /* HttpEntity */
+	public boolean isChunked() {
+		return false;
+	}
+
+	@Override /* HttpEntity */
+	public Header getContentType() {
+		return contentType;
+	}
+
+	@Override /* HttpEntity */
+	public Header getContentEncoding() {
+		return null;
+	}
+
+	@Override /* HttpEntity */
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override /* HttpEntity */
+	public void consumeContent() throws IOException {}
+
+	@Override /* HttpEntity */
+	public InputStream getContent() throws IOException {
+		return content != null ? new ByteArrayInputStream(content) : Files.newInputStream(path);
+	}
+
+	@Override /* HttpEntity */
+	public void writeTo(OutputStream os) throws IOException {
+		writeTo(os, 0, size);
+	}
+
+	@Override /* HttpResource */
+	public HeaderList getHeaders() {
+		return headers;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utility methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static String digest(byte[] content) {
+		try {
+			byte[] b = MessageDigest.getInstance("SHA-256").digest(content);
+			byte[] b2 = new byte[16];
+			System.arraycopy(b, 0, b2, 0, b2.length);
+			return toHex(b2);
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required to be available on every JVM.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean isCompressible(ContentType contentType) {
+		if (contentType == null)
+			return false;
+		String ct = contentType.getValue();
+		if (ct == null)
+			return false;
+		ct = ct.toLowerCase();
+		return ct.startsWith("text/") || ct.contains("javascript") || ct.contains("json") || ct.contains("xml") || ct.contains("svg");
+	}
+
+	private static byte[] gzip(byte[] content) {
+		try {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(content.length / 2);
+			try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+				gos.write(content);
+			}
+			byte[] b = baos.toByteArray();
+			return b.length < content.length ? b : null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+}
@@ -59,6 +59,7 @@ public interface StaticFiles extends FileFinder {
 		List<Header> headers;
 		MimetypesFileTypeMap mimeTypes;
 		FileFinder.Builder fileFinder;
+		long cachingLimit = -1;
 
 		/**
 		 * Constructor.
@@ -79,6 +80,8 @@ public interface StaticFiles extends FileFinder {
 			super(copyFrom);
 			headers = AList.of(copyFrom.headers);
 			mimeTypes = copyFrom.mimeTypes;
+			fileFinder = copyFrom.fileFinder.copy();
+			cachingLimit = copyFrom.cachingLimit;
 		}
 
 		@Override /* BeanBuilder */
@@ -137,12 +140,17 @@ public interface StaticFiles extends FileFinder {
 		/**
 		 * Enables in-memory caching of files for quicker retrieval.
 		 *
+		 * <p>
+		 * Files up to this size are held in memory along with their entity tags (and precompressed copies of text files).
+		 * <br>Larger files are copied directly from the file system on each request.
+		 *
 		 * @param cachingLimit The maximum file size in bytes.
 		 * @return This object.
 		 */
 		@FluentSetter
 		public Builder caching(long cachingLimit) {
 			fileFinder.caching(cachingLimit);
+			this.cachingLimit = cachingLimit;
 			return this;
 		}
 
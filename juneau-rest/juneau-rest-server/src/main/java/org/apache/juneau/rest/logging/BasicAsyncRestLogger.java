@@ -0,0 +1,201 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.logging;
+
+import static org.apache.juneau.internal.ObjectUtils.*;
+import static org.apache.juneau.SystemProperties.*;
+import static org.apache.juneau.rest.logging.RestLoggerOverflowPolicy.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.logging.*;
+
+import org.apache.juneau.collections.*;
+
+/**
+ * Implementation of a {@link RestLogger} that formats and writes log messages on a background thread.
+ *
+ * <p>
+ * Only the parts of the request and response needed for the log message are captured on the request thread.
+ * <br>Building the message (including the hex dumps of request and response bodies when logging at
+ * {@link RestLoggingDetail#ENTITY ENTITY} detail) and writing it to the logger are done by a background thread that
+ * drains a bounded queue in batches.
+ * <br>The background thread is started when needed and exits after it's been idle for a minute.
+ *
+ * <p>
+ * Uses the same rules and settings as {@link BasicRestLogger}, plus the following:
+ * <ul>
+ * 	<li class='jm'>{@link RestLogger.Builder#queueSize(Integer)} - The maximum number of entries waiting to be written.
+ * 	<li class='jm'>{@link RestLogger.Builder#overflowPolicy(RestLoggerOverflowPolicy)} - What to do when the queue is full.
+ * 	<li class='jm'>{@link RestLogger.Builder#sampleRate(Integer)} - How many entries to keep under the <jsf>SAMPLE</jsf> policy.
+ * </ul>
+ *
+ * <p>
+ * Entries that are not logged because of the overflow policy are counted and can be retrieved using
+ * {@link #getDroppedCount()}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	RestLogger <jv>logger</jv> = RestLogger
+ * 		.<jsm>create</jsm>()
+ * 		.async()
+ * 		.queueSize(1000)
+ * 		.overflowPolicy(<jsf>SAMPLE</jsf>)
+ * 		.build();
+ * </p>
+ *
+ * <ul class='seealso'>
+ * 	<li class='link'>{@doc RestLoggingAndDebugging}
+ * </ul>
+ */
+public class BasicAsyncRestLogger extends BasicRestLogger {
+
+	private static final int MAX_BATCH = 100;
+	private static final long IDLE_TIMEOUT_SECONDS = 60;
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final int queueSize, sampleRate;
+	private final RestLoggerOverflowPolicy overflowPolicy;
+	private final BlockingQueue<Entry> queue;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicLong pending = new AtomicLong(), sampleCounter = new AtomicLong();
+	private final LongAdder dropped = new LongAdder();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param builder The builder object.
+	 */
+	public BasicAsyncRestLogger(RestLogger.Builder builder) {
+		super(builder);
+		this.queueSize = Math.max(1, firstNonNull(builder.queueSize, getProperty(Integer.class, SP_queueSize, 10_000)));
+		this.overflowPolicy = firstNonNull(builder.overflowPolicy, getProperty(RestLoggerOverflowPolicy.class, SP_overflowPolicy, DROP));
+		this.sampleRate = Math.max(1, firstNonNull(builder.sampleRate, 10));
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+	}
+
+	@Override /* BasicRestLogger */
+	void log(Entry entry) {
+		pending.incrementAndGet();
+		if (enqueue(entry)) {
+			startDrainer();
+		} else {
+			pending.decrementAndGet();
+			dropped.increment();
+		}
+	}
+
+	private boolean enqueue(Entry entry) {
+		switch (overflowPolicy) {
+			case BLOCK:
+				startDrainer();
+				try {
+					queue.put(entry);
+					return true;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			case SAMPLE:
+				if (queue.size() >= queueSize / 2 && sampleCounter.incrementAndGet() % sampleRate != 0)
+					return false;
+				return queue.offer(entry);
+			default:
+				return queue.offer(entry);
+		}
+	}
+
+	private void startDrainer() {
+		if (draining.compareAndSet(false, true)) {
+			Thread t = new Thread(this::drain, "RestLogger-" + THREAD_COUNT.incrementAndGet());
+			t.setDaemon(true);
+			t.start();
+		}
+	}
+
+	private void drain() {
+		List<Entry> batch = new ArrayList<>(MAX_BATCH);
+		try {
+			while (true) {
+				Entry first = queue.poll(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				if (first == null) {
+					// Exit unless an entry was queued while we were deciding to stop.
+					draining.set(false);
+					if (queue.isEmpty() || ! draining.compareAndSet(false, true))
+						return;
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, MAX_BATCH - 1);
+				for (Entry x : batch) {
+					try {
+						super.log(x);
+					} catch (Throwable e) {
+						getLogger().log(Level.WARNING, "Could not log REST call.", e);
+					} finally {
+						pending.decrementAndGet();
+					}
+				}
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			draining.set(false);
+		}
+	}
+
+	/**
+	 * Waits until all queued log entries have been written.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of the timeout argument.
+	 * @return <jk>true</jk> if all entries were written, <jk>false</jk> if the timeout elapsed first.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+		long end = System.nanoTime() + unit.toNanos(timeout);
+		while (pending.get() > 0) {
+			if (System.nanoTime() - end > 0)
+				return false;
+			Thread.sleep(1);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of log entries that were not logged because of the overflow policy.
+	 *
+	 * @return The number of dropped log entries.
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Returns the number of log entries waiting to be written.
+	 *
+	 * @return The number of log entries waiting to be written.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	@Override /* BasicRestLogger */
+	public OMap toMap() {
+		return super.toMap()
+			.a("queueSize", queueSize)
+			.a("overflowPolicy", overflowPolicy)
+			.a("sampleRate", sampleRate)
+		;
+	}
+}
@@ -138,77 +138,77 @@ public class BasicRestLogger implements RestLogger {
 		if (level == Level.OFF)
 			return;
 
-		Throwable e = castOrNull(req.getAttribute("Exception"), Throwable.class);
-		Long execTime = castOrNull(req.getAttribute("ExecTime"), Long.class);
+		log(new Entry(req, res, rule, level));
+	}
 
-		RestLoggingDetail reqd = firstNonNull(rule.getRequestDetail(), requestDetail);
-		RestLoggingDetail resd = firstNonNull(rule.getResponseDetail(), responseDetail);
+	/**
+	 * Formats and logs a captured REST call.
+	 *
+	 * <p>
+	 * By default, this is done on the request thread.
+	 * <br>{@link BasicAsyncRestLogger} overrides this method to hand the entry off to a background thread.
+	 *
+	 * @param entry The captured REST call.
+	 */
+	void log(Entry entry) {
+		log(entry.level, format(entry), entry.thrown);
+	}
 
-		String method = req.getMethod();
-		int status = res.getStatus();
-		String uri = req.getRequestURI();
-		byte[] reqBody = getRequestBody(req);
-		byte[] resBody = getResponseBody(req, res);
+	/**
+	 * Formats the log message for a captured REST call.
+	 *
+	 * @param x The captured REST call.
+	 * @return The log message.
+	 */
+	String format(Entry x) {
+		RestLoggingDetail reqd = x.reqd, resd = x.resd;
+		byte[] reqBody = x.reqBody, resBody = x.resBody;
 
 		StringBuilder sb = new StringBuilder();
 
 		if (reqd != STATUS_LINE || resd != STATUS_LINE)
 			sb.append("\n=== HTTP Call (incoming) ======================================================\n");
 
-		ThrownStats sti = getThrownStats(e);
+		sb.append('[').append(x.status);
 
-		sb.append('[').append(status);
-
-		if (sti != null) {
-			int count = sti.getCount();
-			sb.append(',').append(StringUtils.toHex8(sti.getHash())).append('.').append(count);
-			if (count > 1)
-				e = null;
+		if (x.thrownStats != null) {
+			int count = x.thrownStats.getCount();
+			sb.append(',').append(StringUtils.toHex8(x.thrownStats.getHash())).append('.').append(count);
 		}
 
 		sb.append("] ");
 
-		sb.append("HTTP ").append(method).append(' ').append(uri);
+		sb.append("HTTP ").append(x.method).append(' ').append(x.uri);
 
 		if (reqd != STATUS_LINE || resd != STATUS_LINE) {
 
 			if (reqd.isOneOf(HEADER, ENTITY)) {
-				String qs = req.getQueryString();
-				if (qs != null)
-					sb.append('?').append(qs);
+				if (x.queryString != null)
+					sb.append('?').append(x.queryString);
 			}
 
 			if (reqBody != null && reqd.isOneOf(HEADER ,ENTITY))
 				sb.append("\n\tRequest length: ").append(reqBody.length).append(" bytes");
 
 			if (resd.isOneOf(HEADER, ENTITY))
-				sb.append("\n\tResponse code: ").append(status);
+				sb.append("\n\tResponse code: ").append(x.status);
 
 			if (resBody != null && resd.isOneOf(HEADER, ENTITY))
 				sb.append("\n\tResponse length: ").append(resBody.length).append(" bytes");
 
-			if (execTime != null && resd.isOneOf(HEADER, ENTITY))
-				sb.append("\n\tExec time: ").append(execTime).append("ms");
+			if (x.execTime != null && resd.isOneOf(HEADER, ENTITY))
+				sb.append("\n\tExec time: ").append(x.execTime).append("ms");
 
-			if (reqd.isOneOf(HEADER, ENTITY)) {
-				Enumeration<String> hh = req.getHeaderNames();
-				if (hh.hasMoreElements()) {
-					sb.append("\n---Request Headers---");
-					while (hh.hasMoreElements()) {
-						String h = hh.nextElement();
-						sb.append("\n\t").append(h).append(": ").append(req.getHeader(h));
-					}
-				}
+			if (x.reqHeaders != null && ! x.reqHeaders.isEmpty()) {
+				sb.append("\n---Request Headers---");
+				for (String[] h : x.reqHeaders)
+					sb.append("\n\t").append(h[0]).append(": ").append(h[1]);
 			}
 
-			if (resd.isOneOf(HEADER, ENTITY)) {
-				Collection<String> hh = res.getHeaderNames();
-				if (hh.size() > 0) {
-					sb.append("\n---Response Headers---");
-					for (String h : hh) {
-						sb.append("\n\t").append(h).append(": ").append(res.getHeader(h));
-					}
-				}
+			if (x.resHeaders != null && ! x.resHeaders.isEmpty()) {
+				sb.append("\n---Response Headers---");
+				for (String[] h : x.resHeaders)
+					sb.append("\n\t").append(h[0]).append(": ").append(h[1]);
 			}
 
 			if (reqBody != null && reqBody.length > 0 && reqd == ENTITY) {
@@ -235,11 +235,68 @@ public class BasicRestLogger implements RestLogger {
 			sb.append("\n=== END ======================================================================");
 		}
 
-		if (rule.isLogStackTrace() && e == null)
-			e = new Throwable("Stacktrace");
+		return sb.toString();
+	}
 
-		log(level, sb.toString(), e);
+	/**
+	 * The parts of a REST call needed to format its log message.
+	 *
+	 * <p>
+	 * Captured from the servlet request and response while they are still valid, so that the message can be formatted
+	 * later, possibly on a different thread.
+	 */
+	final class Entry {
+		final Level level;
+		final RestLoggingDetail reqd, resd;
+		final String method, uri, queryString;
+		final int status;
+		final byte[] reqBody, resBody;
+		final Long execTime;
+		final ThrownStats thrownStats;
+		final Throwable thrown;
+		final List<String[]> reqHeaders, resHeaders;
+
+		Entry(HttpServletRequest req, HttpServletResponse res, RestLoggerRule rule, Level level) {
+			this.level = level;
+			reqd = firstNonNull(rule.getRequestDetail(), requestDetail);
+			resd = firstNonNull(rule.getResponseDetail(), responseDetail);
+			method = req.getMethod();
+			uri = req.getRequestURI();
+			status = res.getStatus();
+			execTime = castOrNull(req.getAttribute("ExecTime"), Long.class);
+
+			Throwable e = castOrNull(req.getAttribute("Exception"), Throwable.class);
+			thrownStats = getThrownStats(e);
+			if (thrownStats != null && thrownStats.getCount() > 1)
+				e = null;
+			if (rule.isLogStackTrace() && e == null)
+				e = new Throwable("Stacktrace");
+			thrown = e;
+
+			boolean detailed = reqd != STATUS_LINE || resd != STATUS_LINE;
+			reqBody = detailed ? getRequestBody(req) : null;
+			resBody = detailed ? getResponseBody(req, res) : null;
+
+			if (detailed && reqd.isOneOf(HEADER, ENTITY)) {
+				queryString = req.getQueryString();
+				reqHeaders = new ArrayList<>();
+				for (Enumeration<String> hh = req.getHeaderNames(); hh.hasMoreElements();) {
+					String h = hh.nextElement();
+					reqHeaders.add(new String[]{h, req.getHeader(h)});
+				}
+			} else {
+				queryString = null;
+				reqHeaders = null;
+			}
 
+			if (detailed && resd.isOneOf(HEADER, ENTITY)) {
+				resHeaders = new ArrayList<>();
+				for (String h : res.getHeaderNames())
+					resHeaders.add(new String[]{h, res.getHeader(h)});
+			} else {
+				resHeaders = null;
+			}
+		}
 	}
 
 	/**
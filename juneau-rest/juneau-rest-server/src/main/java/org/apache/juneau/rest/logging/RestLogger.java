@@ -40,6 +40,7 @@ import org.apache.juneau.rest.annotation.*;
  * 	<li class='jc'>{@link BasicDisabledRestLogger} - A no-op logger if you want to turn off logging entirely.
  * 	<li class='jc'>{@link BasicTestRestLogger} - A logger useful for testcases.
  * 	<li class='jc'>{@link BasicTestCaptureRestLogger} - Useful for capturing log messages for testing logging itself.
+ * 	<li class='jc'>{@link BasicAsyncRestLogger} - Formats and writes log messages on a background thread.
  * </ul>
  *
  * <ul class='seealso'>
@@ -130,6 +131,29 @@ public interface RestLogger {
 	 */
 	public static final String SP_level = "juneau.restLogger.level";
 
+	/**
+	 * System property name for the default queue size for {@link BasicAsyncRestLogger} objects.
+	 * <p>
+	 * Can also use a <c>JUNEAU_RESTLOGGER_QUEUESIZE</c> environment variable.
+	 * <p>
+	 * If not specified, the default is <js>"10000"</js>.
+	 */
+	public static final String SP_queueSize = "juneau.restLogger.queueSize";
+
+	/**
+	 * System property name for the default overflow policy for {@link BasicAsyncRestLogger} objects.
+	 * <p>
+	 * Can also use a <c>JUNEAU_RESTLOGGER_OVERFLOWPOLICY</c> environment variable.
+	 * <p>
+	 * The possible values are:
+	 * <ul>
+	 * 	<li>{@link RestLoggerOverflowPolicy#DROP "DROP"} (default)
+	 * 	<li>{@link RestLoggerOverflowPolicy#SAMPLE "SAMPLE"}
+	 * 	<li>{@link RestLoggerOverflowPolicy#BLOCK "BLOCK"}
+	 * </ul>
+	 */
+	public static final String SP_overflowPolicy = "juneau.restLogger.overflowPolicy";
+
 	/**
 	 * Creates a new builder for this object.
 	 *
@@ -155,6 +179,8 @@ public interface RestLogger {
 		Predicate<HttpServletRequest> enabledTest;
 		RestLoggingDetail requestDetail, responseDetail;
 		Level level;
+		Integer queueSize, sampleRate;
+		RestLoggerOverflowPolicy overflowPolicy;
 
 		/**
 		 * Constructor.
@@ -179,6 +205,9 @@ public interface RestLogger {
 			requestDetail = copyFrom.requestDetail;
 			responseDetail = copyFrom.responseDetail;
 			level = copyFrom.level;
+			queueSize = copyFrom.queueSize;
+			sampleRate = copyFrom.sampleRate;
+			overflowPolicy = copyFrom.overflowPolicy;
 		}
 
 		@Override /* BeanBuilder */
@@ -477,6 +506,94 @@ public interface RestLogger {
 			return normalRules(values).debugRules(values);
 		}
 
+		/**
+		 * Shortcut for calling <c>type(BasicAsyncRestLogger.<jk>class</jk>)</c>.
+		 *
+		 * <p>
+		 * Log messages are formatted and written on a background thread instead of the request thread.
+		 *
+		 * @return This object.
+		 * @see BasicAsyncRestLogger
+		 */
+		public Builder async() {
+			return type(BasicAsyncRestLogger.class);
+		}
+
+		/**
+		 * The maximum number of log entries waiting to be written by an asynchronous logger.
+		 *
+		 * <p>
+		 * If not specified, the setting is determined via the following:
+		 * <ul>
+		 * 	<li><js>{@link RestLogger#SP_queueSize "juneau.restLogger.queueSize"} system property.
+		 * 	<li><js>{@link RestLogger#SP_queueSize "JUNEAU_RESTLOGGER_QUEUESIZE"} environment variable.
+		 * 	<li><js>10000</js>.
+		 * </ul>
+		 *
+		 * <p>
+		 * Only used by {@link BasicAsyncRestLogger}.
+		 *
+		 * @param value
+		 * 	The new value for this property, or <jk>null</jk> to use the default.
+		 * @return This object.
+		 */
+		public Builder queueSize(Integer value) {
+			queueSize = value;
+			return this;
+		}
+
+		/**
+		 * What an asynchronous logger does with log entries when its queue cannot keep up.
+		 *
+		 * <p>
+		 * The possible values are:
+		 * <ul>
+		 * 	<li>{@link RestLoggerOverflowPolicy#DROP DROP} - Drop entries that don't fit in the queue.
+		 * 	<li>{@link RestLoggerOverflowPolicy#SAMPLE SAMPLE} - Only queue some of the entries once the queue is half full.
+		 * 	<li>{@link RestLoggerOverflowPolicy#BLOCK BLOCK} - Wait for room in the queue.
+		 * </ul>
+		 *
+		 * <p>
+		 * If not specified, the setting is determined via the following:
+		 * <ul>
+		 * 	<li><js>{@link RestLogger#SP_overflowPolicy "juneau.restLogger.overflowPolicy"} system property.
+		 * 	<li><js>{@link RestLogger#SP_overflowPolicy "JUNEAU_RESTLOGGER_OVERFLOWPOLICY"} environment variable.
+		 * 	<li><js>"DROP"</js>.
+		 * </ul>
+		 *
+		 * <p>
+		 * Only used by {@link BasicAsyncRestLogger}.
+		 *
+		 * @param value
+		 * 	The new value for this property, or <jk>null</jk> to use the default.
+		 * @return This object.
+		 */
+		public Builder overflowPolicy(RestLoggerOverflowPolicy value) {
+			overflowPolicy = value;
+			return this;
+		}
+
+		/**
+		 * The sampling rate used by the {@link RestLoggerOverflowPolicy#SAMPLE SAMPLE} overflow policy.
+		 *
+		 * <p>
+		 * Once the queue is half full, one in every <c>value</c> entries is queued.
+		 *
+		 * <p>
+		 * The default if not specified is <c>10</c>.
+		 *
+		 * <p>
+		 * Only used by {@link BasicAsyncRestLogger}.
+		 *
+		 * @param value
+		 * 	The new value for this property, or <jk>null</jk> to use the default.
+		 * @return This object.
+		 */
+		public Builder sampleRate(Integer value) {
+			sampleRate = value;
+			return this;
+		}
+
 		// <FluentSetters>
 
 		@Override /* BeanBuilder */
@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.io.*;
 import java.util.*;
 
+import org.apache.juneau.collections.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.util.*;
 import org.apache.juneau.serializer.*;
@@ -55,21 +56,23 @@ public final class SerializedPojoProcessor implements ResponseProcessor {
 				else
 					res.setHeader(ContentType.of(responseType.toString()));
 
-				SerializerSession session = s.createSession(
-					SerializerSessionArgs
-						.create()
-						.properties(req.getAttributes().asMap())
-						.javaMethod(req.getOpContext().getJavaMethod())
-						.locale(req.getLocale())
-						.timeZone(req.getTimeZone().orElse(null))
-						.mediaType(mediaType)
-						.streamCharset(res.getCharset())
-						.schema(schema)
-						.debug(req.isDebug() ? true : null)
-						.uriContext(req.getUriContext())
-						.useWhitespace(req.isPlainText() ? true : null)
-						.resolver(req.getVarResolverSession())
-				);
+				SerializerSessionArgs args = req.getOpContext()
+					.createSerializerSessionArgs(sm)
+					.properties(new OMap().inner(req.getAttributes().asView()))
+					.locale(req.getLocale())
+					.timeZone(req.getTimeZone().orElse(null))
+					.streamCharset(res.getCharset())
+					.schema(schema)
+					.debug(req.isDebug() ? true : null)
+					.uriContext(req.getUriContext())
+					.useWhitespace(req.isPlainText() ? true : null)
+					.resolver(req.getVarResolverSession());
+
+				// The matched media type is already set on the args.
+				if (mediaType != sm.getMediaType())
+					args.mediaType(mediaType);
+
+				SerializerSession session = s.createSession(args);
 
 				for (Map.Entry<String,String> h : session.getResponseHeaders().entrySet())
 					res.addHeader(h.getKey(), h.getValue());
@@ -0,0 +1,203 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.processors;
+
+import static org.apache.juneau.http.HttpHeaders.*;
+
+import java.io.*;
+import java.time.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.rest.*;
+
+/**
+ * Response handler for {@link StaticFileResource} objects.
+ *
+ * <p>
+ * Adds <c>ETag</c>, <c>Last-Modified</c>, and <c>Accept-Ranges</c> headers to the response and handles the following:
+ * <ul>
+ * 	<li><c>If-None-Match</c> and <c>If-Modified-Since</c> - Responds with <c>304 Not Modified</c> and no body.
+ * 	<li><c>Range</c> and <c>If-Range</c> - Responds with <c>206 Partial Content</c> for a single byte range.
+ * 	<li><c>Accept-Encoding: gzip</c> - Serves the precompressed variant of the file if it has one.
+ * </ul>
+ */
+public final class StaticFileProcessor implements ResponseProcessor {
+
+	@Override /* ResponseProcessor */
+	public int process(RestCall call) throws IOException {
+
+		RestResponse res = call.getRestResponse();
+		StaticFileResource r = res.getOutput(StaticFileResource.class);
+
+		if (r == null)
+			return NEXT;
+
+		RestRequest req = call.getRestRequest();
+		long size = r.getSize(), lastModified = r.getLastModified();
+		boolean hasGzip = r.getGzippedSize() >= 0;
+		String method = req.getMethod();
+		boolean isGetOrHead = "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+
+		EncoderMatch em = getEncoderMatch(req);
+		boolean useGzip = hasGzip && em != null && em.getEncoding().equals("gzip");
+		long[] range = isGetOrHead ? getRange(req, r) : null;
+
+		// Ranges are always served from the uncompressed variant, so they carry its entity tag.
+		String eTag = useGzip && range == null ? r.getGzippedETag() : r.getETag();
+
+		res.setHeader(eTag(eTag));
+		if (lastModified >= 0)
+			res.setHeader(lastModified(ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC)));
+		if (hasGzip)
+			res.setHeader(vary("Accept-Encoding"));
+		r.getHeaders().forEach(x -> res.addHeader(x));
+
+		if (isGetOrHead && isNotModified(req, r)) {
+			res.setStatus(304);
+			return FINISHED;
+		}
+
+		res.setHeader(r.getContentType());
+		res.setHeader(acceptRanges("bytes"));
+
+		if (range != null) {
+			if (range.length == 0) {
+				res.setStatus(416);
+				res.setHeader(contentRange("bytes */" + size));
+				return FINISHED;
+			}
+			long start = range[0], length = range[1] - range[0] + 1;
+			res.setStatus(206);
+			res.setHeader(contentRange("bytes " + range[0] + "-" + range[1] + "/" + size));
+			res.setHeader(contentLength(length));
+			try (OutputStream os = res.getOutputStream()) {
+				r.writeTo(os, start, length);
+				os.flush();
+			}
+			return FINISHED;
+		}
+
+		if (useGzip) {
+			res.setHeader(contentEncoding("gzip"));
+			res.setHeader(contentLength(r.getGzippedSize()));
+			try (OutputStream os = res.getOutputStream()) {
+				r.writeGzippedTo(os);
+				os.flush();
+			}
+			return FINISHED;
+		}
+
+		// Content length is only known if the negotiated encoding doesn't change it.
+		if (em == null || em.getEncoding().equals("identity"))
+			res.setHeader(contentLength(size));
+
+		try (OutputStream os = res.getNegotiatedOutputStream()) {
+			r.writeTo(os);
+			os.flush();
+		}
+
+		return FINISHED;
+	}
+
+	private static EncoderMatch getEncoderMatch(RestRequest req) {
+		String ae = req.getHeader("Accept-Encoding").orElse(null);
+		if (ae == null || ae.isEmpty())
+			return null;
+		return req.getOpContext().getEncoders().getEncoderMatch(ae);
+	}
+
+	private static boolean isNotModified(RestRequest req, StaticFileResource r) {
+		String inm = req.getHeader("If-None-Match").orElse(null);
+		if (inm != null)
+			return matchesAny(inm, r.getETag(), r.getGzippedETag());
+		long lastModified = r.getLastModified();
+		if (lastModified < 0)
+			return false;
+		ZonedDateTime ims = getDate(req, "If-Modified-Since");
+		return ims != null && lastModified / 1000 <= ims.toEpochSecond();
+	}
+
+	/*
+	 * Returns the inclusive start and end of the requested range, an empty array if the range can't be satisfied,
+	 * or null if the whole file should be sent.
+	 * Only single ranges are supported.  Multiple ranges are ignored and the whole file is sent.
+	 */
+	private static long[] getRange(RestRequest req, StaticFileResource r) {
+		String range = req.getHeader("Range").orElse(null);
+		if (range == null || ! range.startsWith("bytes=") || range.indexOf(',') != -1)
+			return null;
+
+		String ifRange = req.getHeader("If-Range").orElse(null);
+		if (ifRange != null) {
+			if (ifRange.startsWith("\"")) {
+				if (! ifRange.equals(r.getETag()))
+					return null;
+			} else {
+				ZonedDateTime d = getDate(req, "If-Range");
+				if (d == null || r.getLastModified() < 0 || r.getLastModified() / 1000 != d.toEpochSecond())
+					return null;
+			}
+		}
+
+		long size = r.getSize();
+		String spec = range.substring(6).trim();
+		int i = spec.indexOf('-');
+		if (i == -1)
+			return null;
+		try {
+			String s1 = spec.substring(0, i).trim(), s2 = spec.substring(i+1).trim();
+			long start, end;
+			if (s1.isEmpty()) {
+				long suffix = Long.parseLong(s2);
+				if (suffix <= 0)
+					return new long[0];
+				start = Math.max(0, size - suffix);
+				end = size - 1;
+			} else {
+				start = Long.parseLong(s1);
+				if (start >= size)
+					return new long[0];
+				end = s2.isEmpty() ? size - 1 : Long.parseLong(s2);
+				if (end < start)
+					return null;
+				end = Math.min(end, size - 1);
+			}
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	static boolean matchesAny(String header, String...eTags) {
+		for (String t : header.split(",")) {
+			t = t.trim();
+			if (t.equals("*"))
+				return true;
+			if (t.startsWith("W/"))
+				t = t.substring(2);
+			for (String e : eTags)
+				if (t.equals(e))
+					return true;
+		}
+		return false;
+	}
+
+	private static ZonedDateTime getDate(RestRequest req, String name) {
+		try {
+			return req.getHeader(name).asDate().orElse(null);
+		} catch (RuntimeException e) {
+			// Invalid dates are ignored.
+			return null;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.processors;
+
+import static org.apache.juneau.http.HttpHeaders.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.header.*;
+import org.apache.juneau.http.response.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Response handler for the {@link Swagger} documents produced by {@link RestContext#getSwagger(Locale)}.
+ *
+ * <p>
+ * The serialized (and compressed) bytes are cached per locale, media type, charset, content encoding, and request URL
+ * (without the query string), so that repeated requests for the same document don't serialize it again.
+ * <br>The cache is a bounded LRU cache, and the documents are always serialized using the default time zone.
+ * <br>Responses include a strong <c>ETag</c> header, and requests with a matching <c>If-None-Match</c> header get a
+ * <c>304 Not Modified</c> response.
+ *
+ * <p>
+ * Response processors are created per {@link RestContext}, so the cache is discarded when the context is
+ * re-initialized.
+ * <br>Swagger documents that aren't the ones cached on the context (e.g. ones modified per request), plain-text
+ * and debug requests are passed on to {@link SerializedPojoProcessor} instead.
+ */
+public final class SwaggerProcessor implements ResponseProcessor {
+
+	private static final int MAX_ENTRIES = 100;
+
+	private final Cache<String,Entry> cache = new Cache<>(false, MAX_ENTRIES);
+
+	private static class Entry {
+		final Swagger swagger;
+		final byte[] content;
+		final String eTag, contentType, encoding;
+		final Map<String,String> headers;
+
+		Entry(Swagger swagger, byte[] content, String contentType, String encoding, Map<String,String> headers) {
+			this.swagger = swagger;
+			this.content = content;
+			this.contentType = contentType;
+			this.encoding = encoding;
+			this.headers = headers;
+			CRC32 crc = new CRC32();
+			crc.update(content);
+			this.eTag = '"' + Long.toHexString(crc.getValue()) + '-' + Integer.toHexString(content.length) + '"';
+		}
+	}
+
+	@Override /* ResponseProcessor */
+	public int process(RestCall call) throws IOException, NotAcceptable, BasicHttpException {
+		RestRequest req = call.getRestRequest();
+		RestResponse res = call.getRestResponse();
+
+		Swagger o = res.getOutput(Swagger.class);
+		SerializerMatch sm = res.getSerializerMatch().orElse(null);
+
+		if (o == null || sm == null || req.isPlainText() || req.isDebug() || res.getCharset() == null)
+			return NEXT;
+
+		if (o != req.getContext().getSwagger(req.getLocale()).orElse(null))
+			return NEXT;
+
+		EncoderMatch em = null;
+		String ae = req.getHeader("Accept-Encoding").orElse(null);
+		if (! (ae == null || ae.isEmpty())) {
+			em = req.getOpContext().getEncoders().getEncoderMatch(ae);
+			// Identity is used unless it's explicitly refused, the same as RestResponse.getNegotiatedOutputStream().
+			if (em == null && ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*"))
+				return NEXT;  // Let the serializer processor produce the error.
+		}
+		String encoding = em == null ? "identity" : em.getEncoding();
+
+		MediaType mediaType = res.getMediaType();
+		if (mediaType == null)
+			mediaType = sm.getMediaType();
+
+		String key = new StringBuilder()
+			.append(req.getLocale()).append('|')
+			.append(mediaType).append('|')
+			.append(res.getCharset()).append('|')
+			.append(encoding).append('|')
+			.append(req.getRequestURL())
+			.toString();
+
+		Entry e = cache.get(key);
+		if (e == null || e.swagger != o) {
+			e = serialize(req, res, sm, mediaType, o, em);
+			cache.put(key, e);
+		}
+
+		res.setHeader(eTag(e.eTag));
+		String inm = req.getHeader("If-None-Match").orElse(null);
+		if (inm != null && StaticFileProcessor.matchesAny(inm, e.eTag)) {
+			res.setStatus(304);
+			return FINISHED;
+		}
+
+		res.setHeader(contentType(e.contentType));
+		for (Map.Entry<String,String> h : e.headers.entrySet())
+			res.addHeader(h.getKey(), h.getValue());
+		if (! e.encoding.equals("identity"))
+			res.setHeader(contentEncoding(e.encoding));
+		res.setHeader(contentLength((long)e.content.length));
+
+		try (OutputStream os = res.getOutputStream()) {
+			os.write(e.content);
+			os.flush();
+		}
+
+		return FINISHED;
+	}
+
+	private static Entry serialize(RestRequest req, RestResponse res, SerializerMatch sm, MediaType mediaType, Swagger o, EncoderMatch em) throws IOException {
+		try {
+			Serializer s = sm.getSerializer();
+
+			MediaType responseType = s.getResponseContentType();
+			if (responseType == null)
+				responseType = mediaType;
+
+			SerializerSession session = s.createSession(
+				req.getOpContext()
+					.createSerializerSessionArgs(sm)
+					.properties(new OMap().inner(req.getAttributes().asView()))
+					.locale(req.getLocale())
+					.mediaType(mediaType)
+					.streamCharset(res.getCharset())
+					.uriContext(req.getUriContext())
+					.resolver(req.getVarResolverSession())
+			);
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			Encoder encoder = em == null ? null : em.getEncoder();
+			try (OutputStream os = encoder == null ? baos : encoder.getOutputStream(baos)) {
+				if (session.isWriterSerializer()) {
+					Writer w = new OutputStreamWriter(os, res.getCharset());
+					session.serialize(o, w);
+					w.flush();
+				} else {
+					session.serialize(o, os);
+				}
+			}
+
+			return new Entry(o, baos.toByteArray(), responseType.toString(), em == null ? "identity" : em.getEncoding(), new LinkedHashMap<>(session.getResponseHeaders()));
+		} catch (SerializeException e) {
+			throw new InternalServerError(e);
+		}
+	}
+}
@@ -77,6 +77,11 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 		public String getComparator() {
 			return comparator;
 		}
+
+		@Override /* UrlPathMatcher */
+		String[] getLiteralParts() {
+			return null;
+		}
 	}
 
 	/**
@@ -176,6 +181,19 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 		public String getComparator() {
 			return comparator;
 		}
+
+		@Override /* UrlPathMatcher */
+		String[] getLiteralParts() {
+			String[] l = new String[parts.length];
+			for (int i = 0; i < parts.length; i++)
+				l[i] = vars[i] == null && ! "*".equals(parts[i]) ? parts[i] : null;
+			return l;
+		}
+
+		@Override /* UrlPathMatcher */
+		boolean hasRemainder() {
+			return hasRemainder;
+		}
 	}
 
 	/**
@@ -195,6 +213,24 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 	 */
 	protected abstract String getComparator();
 
+	/**
+	 * Returns the path segments of this pattern for indexing in a {@link UrlPathTrie}.
+	 *
+	 * @return
+	 * 	The path segments excluding any <js>"/*"</js> remainder, with <jk>null</jk> entries for variables and
+	 * 	<js>"*"</js> segments, or <jk>null</jk> if this pattern doesn't match on path segments.
+	 */
+	abstract String[] getLiteralParts();
+
+	/**
+	 * Returns <jk>true</jk> if this pattern ends with <js>"/*"</js>.
+	 *
+	 * @return <jk>true</jk> if this pattern ends with <js>"/*"</js>.
+	 */
+	boolean hasRemainder() {
+		return false;
+	}
+
 	/**
 	 * Returns the variable names found in the pattern.
 	 *
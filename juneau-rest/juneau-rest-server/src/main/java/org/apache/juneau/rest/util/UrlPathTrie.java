@@ -0,0 +1,119 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A prefix tree of {@link UrlPathMatcher} path segments used to quickly narrow down the values whose path patterns
+ * could match a URL path.
+ *
+ * <p>
+ * Literal path segments are stored as keyed child nodes, variable and <js>"*"</js> segments share a single wildcard
+ * child node per level, and patterns ending in <js>"/*"</js> are stored on the node where the remainder starts.
+ * <br>File name patterns such as <js>"*.jsp"</js> don't match on path segments and are always returned as candidates.
+ *
+ * <p>
+ * Candidates are returned in the same order as the values passed into the constructor.
+ * <br>Since the trie only rules out values whose patterns can't possibly match, callers still run
+ * {@link UrlPathMatcher#match(UrlPath)} on each candidate and get the same result as iterating over all the values.
+ *
+ * @param <T> The value type.
+ */
+public class UrlPathTrie<T> {
+
+	private final List<T> values;
+	private final Node root = new Node();
+	private final BitSet unindexed = new BitSet();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param values The values to index in precedence order.
+	 * @param matchers Returns the path matchers of a value.
+	 */
+	public UrlPathTrie(Collection<T> values, Function<T,UrlPathMatcher[]> matchers) {
+		this.values = new ArrayList<>(values);
+		for (int i = 0; i < this.values.size(); i++)
+			for (UrlPathMatcher m : matchers.apply(this.values.get(i)))
+				add(i, m);
+	}
+
+	private void add(int index, UrlPathMatcher m) {
+		String[] parts = m.getLiteralParts();
+		if (parts == null) {
+			unindexed.set(index);
+			return;
+		}
+		Node n = root;
+		for (String p : parts)
+			n = n.child(p);
+		(m.hasRemainder() ? n.remainder : n.terminal).set(index);
+	}
+
+	/**
+	 * Returns the values whose path patterns could match the specified path.
+	 *
+	 * @param urlPath The path to match against.
+	 * @return The candidate values in the order they were passed into the constructor.  Never <jk>null</jk>.
+	 */
+	public List<T> getCandidates(UrlPath urlPath) {
+		BitSet b = (BitSet)unindexed.clone();
+		collect(root, urlPath.getParts(), 0, urlPath.isTrailingSlash(), b);
+		List<T> l = new ArrayList<>(b.cardinality());
+		for (int i = b.nextSetBit(0); i >= 0; i = b.nextSetBit(i+1))
+			l.add(values.get(i));
+		return l;
+	}
+
+	/**
+	 * Returns the number of values in this trie.
+	 *
+	 * @return The number of values in this trie.
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	// Mirrors the segment-count rules in UrlPathMatcher.PathMatcher.match(UrlPath).
+	private static void collect(Node n, String[] parts, int depth, boolean trailingSlash, BitSet b) {
+		b.or(n.remainder);
+		if (depth == parts.length || (depth == parts.length-1 && trailingSlash))
+			b.or(n.terminal);
+		if (depth < parts.length) {
+			Node c = n.literals == null ? null : n.literals.get(parts[depth]);
+			if (c != null)
+				collect(c, parts, depth+1, trailingSlash, b);
+			if (n.wildcard != null)
+				collect(n.wildcard, parts, depth+1, trailingSlash, b);
+		}
+	}
+
+	private static class Node {
+		final BitSet terminal = new BitSet(), remainder = new BitSet();
+		Map<String,Node> literals;
+		Node wildcard;
+
+		Node child(String literal) {
+			if (literal == null) {
+				if (wildcard == null)
+					wildcard = new Node();
+				return wildcard;
+			}
+			if (literals == null)
+				literals = new HashMap<>();
+			return literals.computeIfAbsent(literal, x -> new Node());
+		}
+	}
+}
@@ -0,0 +1,151 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.AssertionPredicates.*;
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link BeanContextBuilder#useMethodHandles()} setting.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanPropertyMethodHandlesTest {
+
+	static final JsonSerializer s = SimpleJsonSerializer.create().sortProperties().useMethodHandles().findFluentSetters().build();
+	static final JsonParser p = JsonParser.create().useMethodHandles().findFluentSetters().build();
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Fields, getters, setters, and fluent setters.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class A {
+		public int f1;
+		private String f2;
+		private long f3;
+		private List<String> f4;
+		public final String f5 = "foo";
+
+		public String getF2() {
+			return f2;
+		}
+
+		public A setF2(String value) {
+			f2 = value;
+			return this;
+		}
+
+		public long getF3() {
+			return f3;
+		}
+
+		public void setF3(long value) {
+			f3 = value;
+		}
+
+		public List<String> getF4() {
+			return f4;
+		}
+
+		public void setF4(List<String> value) {
+			f4 = value;
+		}
+	}
+
+	@Test
+	public void a01_roundTrip() throws Exception {
+		A a = p.parse("{f1:1,f2:'bar',f3:2,f4:['baz']}", A.class);
+		assertEquals(1, a.f1);
+		assertEquals("bar", a.f2);
+		assertEquals(2, a.f3);
+		assertObject(a.f4).asJson().is("['baz']");
+		assertEquals("{f1:1,f2:'bar',f3:2,f4:['baz'],f5:'foo'}", s.serialize(a));
+	}
+
+	@Test
+	public void a02_sameAsReflection() throws Exception {
+		A a = p.parse("{f1:1,f2:'bar',f3:2,f4:['baz']}", A.class);
+		assertEquals(SimpleJsonSerializer.create().sortProperties().findFluentSetters().build().serialize(a), s.serialize(a));
+	}
+
+	@Test
+	public void a03_beanMap() throws Exception {
+		BeanMap<A> m = p.getBeanContext().createBeanSession().newBeanMap(A.class);
+		m.put("f1", 3);
+		m.put("f3", 4);
+		assertEquals(3, m.get("f1"));
+		assertEquals(4l, m.get("f3"));
+		assertEquals("foo", m.get("f5"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Non-public bean classes.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean
+	private static class B {
+		private int f1;
+
+		@SuppressWarnings("unused")
+		public int getF1() {
+			return f1;
+		}
+
+		@SuppressWarnings("unused")
+		public void setF1(int value) {
+			f1 = value;
+		}
+	}
+
+	@Test
+	public void b01_privateClass() throws Exception {
+		B b = p.parse("{f1:1}", B.class);
+		assertEquals(1, b.f1);
+		assertEquals("{f1:1}", s.serialize(b));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Exceptions thrown by getters and setters.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class C {
+		public String getF1() {
+			throw new RuntimeException("foo");
+		}
+
+		public void setF1(String value) {
+			throw new RuntimeException("bar");
+		}
+	}
+
+	@Test
+	public void c01_exceptions() throws Exception {
+		assertThrown(()->s.serialize(new C())).messages().any(contains("Exception occurred while getting property 'f1'"));
+		assertThrown(()->p.parse("{f1:'x'}", C.class)).messages().any(contains("Error occurred trying to set property 'f1'"));
+	}
+
+	@Test
+	public void c02_ignoreInvocationExceptions() throws Exception {
+		JsonSerializer s2 = s.copy().ignoreInvocationExceptionsOnGetters().build();
+		JsonParser p2 = p.copy().ignoreInvocationExceptionsOnSetters().build();
+		assertEquals("{}", s2.serialize(new C()));
+		assertNotNull(p2.parse("{f1:'x'}", C.class));
+	}
+}
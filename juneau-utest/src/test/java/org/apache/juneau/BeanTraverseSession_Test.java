@@ -0,0 +1,118 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanTraverseSession_Test {
+
+	@org.apache.juneau.annotation.Bean(properties="n,c")
+	public static class A {
+		public int n;
+		public A c;
+
+		public static A chain(int length) {
+			A first = null, last = null;
+			for (int i = 0; i < length; i++) {
+				A a = new A();
+				a.n = i;
+				if (first == null)
+					first = a;
+				else
+					last.c = a;
+				last = a;
+			}
+			return first;
+		}
+	}
+
+	private static A last(A a) {
+		while (a.c != null)
+			a = a.c;
+		return a;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Recursion detection.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_deepChain_noRecursion() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().maxDepth(1000).build();
+		A a = A.chain(200);
+		String json = s.serialize(a);
+		assertString(json).startsWith("{n:0,c:{n:1,c:{n:2,");
+		assertString(json).endsWith("{n:199}" + repeat("}", 199));
+	}
+
+	@Test
+	public void a02_deepChain_recursion() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().maxDepth(1000).build();
+		A a = A.chain(100);
+		last(a).c = a.c.c;
+		assertThrown(()->s.serialize(a)).isType(SerializeException.class).messages().any(x -> x.contains("Recursion occurred") && x.contains("->[100] c:") && ! x.contains("[101]"));
+	}
+
+	@Test
+	public void a03_deepChain_ignoreRecursions() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().ignoreRecursions().maxDepth(1000).build();
+		A a = A.chain(40);
+		last(a).c = a;
+		String json = s.serialize(a);
+		assertString(json).endsWith("{n:39}" + repeat("}", 39));
+	}
+
+	@Test
+	public void a04_sharedReferences_notRecursion() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().build();
+		// The same objects appear in many sibling branches, which pushes and pops them repeatedly.
+		List<A> shared = new ArrayList<>();
+		for (int i = 0; i < 50; i++)
+			shared.add(A.chain(3));
+		OList l = new OList();
+		for (int i = 0; i < 20; i++)
+			l.add(OMap.of("a", shared, "b", shared.get(i)));
+		String json = s.serialize(l);
+		assertString(json).contains("b:{n:0,c:{n:1,c:{n:2}}}");
+
+		// A recursion below many shared siblings is still found.
+		A r = A.chain(3);
+		last(r).c = r;
+		l.add(OMap.of("a", shared, "b", r));
+		assertThrown(()->s.serialize(l)).messages().any(x -> x.contains("Recursion occurred"));
+	}
+
+	@Test
+	public void a05_maxDepth() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().maxDepth(Integer.MAX_VALUE).build();
+		assertString(s.serialize(A.chain(3))).is("{n:0,c:{n:1,c:{n:2}}}");
+		s = JsonSerializer.create().ssq().detectRecursions().maxDepth(2).build();
+		assertString(s.serialize(A.chain(3))).is("{n:0,c:{}}");
+	}
+
+	private static String repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++)
+			sb.append(s);
+		return sb.toString();
+	}
+}
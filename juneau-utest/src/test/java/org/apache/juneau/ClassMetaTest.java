@@ -16,6 +16,7 @@ import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.transform.*;
 import org.junit.*;
@@ -288,4 +289,45 @@ public class ClassMetaTest {
 	public static class HI1Swap extends PojoSwap<HI1,Map> {}
 	public static class HC2Swap extends PojoSwap<HC2,Map> {}
 	public static class HI2Swap extends PojoSwap<HI2,Map> {}
+
+	//====================================================================================================
+	// Concurrent creation of recursive class metas.
+	//====================================================================================================
+	public static class J1 {
+		public J2 j2;
+		public J3 j3;
+	}
+	public static class J2 {
+		public J3 j3;
+		public J1 j1;
+	}
+	public static class J3 {
+		public J1 j1;
+		public J2 j2;
+	}
+
+	@Test
+	public void concurrentRecursiveClassMetas() throws Exception {
+		Class<?>[] types = {J1.class, J2.class, J3.class};
+		ExecutorService es = Executors.newFixedThreadPool(types.length);
+		try {
+			for (int i = 0; i < 200; i++) {
+				BeanContext bc2 = BeanContext.create().typePropertyName("_type" + i).build();
+				CyclicBarrier barrier = new CyclicBarrier(types.length);
+				List<Future<ClassMeta<?>>> l = new ArrayList<>();
+				for (Class<?> c : types)
+					l.add(es.submit(() -> { barrier.await(); return bc2.getClassMeta(c); }));
+				for (int j = 0; j < types.length; j++) {
+					ClassMeta<?> cm = l.get(j).get(10, TimeUnit.SECONDS);
+					assertSame(cm, bc2.getClassMeta(types[j]));
+					assertTrue(cm.isBean());
+					assertEquals(2, cm.getBeanMeta().getPropertyMetas().size());
+				}
+				assertSame(bc2.getClassMeta(J2.class), bc2.getClassMeta(J1.class).getBeanMeta().getPropertyMeta("j2").getClassMeta());
+				assertSame(bc2.getClassMeta(J1.class), bc2.getClassMeta(J3.class).getBeanMeta().getPropertyMeta("j1").getClassMeta());
+			}
+		} finally {
+			es.shutdownNow();
+		}
+	}
 }
@@ -0,0 +1,330 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class CompactCollections_Test {
+
+	private static final String JSON = "{a:1,b:'x',c:[1,2,{d:true,e:null}],f:{g:[],h:{}},i:[[1,2],[3]]}";
+
+	private static Object parse(Parser p, Object in) throws Exception {
+		return p.parse(in, Object.class);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json() throws Exception {
+		ReaderParser p = JsonParser.create().compactCollections().build();
+		OMap m = (OMap)parse(p, JSON);
+		assertNotEquals(OMap.class, m.getClass());
+		assertNotEquals(OList.class, m.get("c").getClass());
+		assertEquals(parse(JsonParser.DEFAULT, JSON), m);
+		assertObject(m).asJson().is("{a:1,b:'x',c:[1,2,{d:true,e:null}],f:{g:[],h:{}},i:[[1,2],[3]]}");
+		assertEquals(3, m.getList("c").size());
+		assertEquals(true, m.getAt("c/2/d", Boolean.class));
+	}
+
+	@Test
+	public void a02_otherFormats() throws Exception {
+		Object o = parse(JsonParser.DEFAULT, JSON);
+
+		String uon = UonSerializer.DEFAULT.serialize(o);
+		assertEquals(o, parse(UonParser.create().compactCollections().build(), uon));
+
+		String url = UrlEncodingSerializer.DEFAULT.serialize(o);
+		assertEquals(parse(UrlEncodingParser.DEFAULT, url), parse(UrlEncodingParser.create().compactCollections().build(), url));
+
+		byte[] mp = MsgPackSerializer.DEFAULT.serialize(o);
+		assertEquals(parse(MsgPackParser.DEFAULT, mp), parse(MsgPackParser.create().compactCollections().build(), mp));
+
+		String xml = XmlSerializer.DEFAULT.serialize(o);
+		assertEquals(parse(XmlParser.DEFAULT, xml), parse(XmlParser.create().compactCollections().build(), xml));
+
+		String html = HtmlSerializer.DEFAULT.serialize(o);
+		assertEquals(parse(HtmlParser.DEFAULT, html), parse(HtmlParser.create().compactCollections().build(), html));
+	}
+
+	@Test
+	public void a03_typedListsAndMaps() throws Exception {
+		ReaderParser p = JsonParser.create().compactCollections().build();
+		List<?> l = p.parse("[1,2,3]", List.class);
+		assertTrue(l instanceof OList);
+		assertNotEquals(OList.class, l.getClass());
+		assertObject(l).asJson().is("[1,2,3]");
+		Map<?,?> m = p.parse("{a:{b:1}}", Map.class);
+		assertTrue(m.get("a") instanceof OMap);
+		assertNotEquals(OMap.class, m.get("a").getClass());
+		assertObject(m).asJson().is("{a:{b:1}}");
+	}
+
+	@Test
+	public void a04_disabledByDefault() throws Exception {
+		assertEquals(OMap.class, parse(JsonParser.DEFAULT, "{}").getClass());
+		assertEquals(OList.class, parse(JsonParser.DEFAULT, "[]").getClass());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// OMap
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_map_basic() throws Exception {
+		OMap m = OMap.createCompact();
+		assertTrue(m.isEmpty());
+		m.put("b", 1);
+		m.put("a", 2);
+		m.put("c", null);
+		m.put("b", 3);
+		assertEquals(3, m.size());
+		assertObject(m.keySet()).asJson().is("['b','a','c']");
+		assertObject(m.values()).asJson().is("[3,2,null]");
+		assertEquals(3, m.get("b"));
+		assertNull(m.get("x"));
+		assertTrue(m.containsKey("c"));
+		assertFalse(m.containsKey("x"));
+		assertTrue(m.containsValue(2));
+		assertEquals(2, m.remove("a"));
+		assertNull(m.remove("a"));
+		assertObject(m).asJson().is("{b:3,c:null}");
+		m.clear();
+		assertTrue(m.isEmpty());
+		assertObject(m).asJson().is("{}");
+	}
+
+	@Test
+	public void b02_map_equalsHashMap() throws Exception {
+		OMap m = OMap.createCompact().a("a", 1).a("b", "x");
+		Map<String,Object> m2 = new LinkedHashMap<>();
+		m2.put("a", 1);
+		m2.put("b", "x");
+		assertEquals(m2, m);
+		assertEquals(m, m2);
+		assertEquals(m2.hashCode(), m.hashCode());
+		assertEquals(m2.entrySet(), m.entrySet());
+	}
+
+	@Test
+	public void b03_map_growsPastCompactSize() throws Exception {
+		OMap m = OMap.createCompact();
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			m.put("k" + i, i);
+			keys.add("k" + i);
+		}
+		assertEquals(100, m.size());
+		assertEquals(keys, new ArrayList<>(m.keySet()));
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, m.get("k" + i));
+		m.remove("k50");
+		assertEquals(99, m.size());
+		assertFalse(m.containsKey("k50"));
+	}
+
+	@Test
+	public void b04_map_iterators() throws Exception {
+		OMap m = OMap.createCompact().a("a", 1).a("b", 2).a("c", 3);
+		for (Map.Entry<String,Object> e : m.entrySet())
+			e.setValue(((Integer)e.getValue()) * 10);
+		assertObject(m).asJson().is("{a:10,b:20,c:30}");
+
+		Iterator<String> i = m.keySet().iterator();
+		i.next();
+		i.next();
+		i.remove();
+		assertObject(m).asJson().is("{a:10,c:30}");
+		assertEquals("c", i.next());
+		assertFalse(i.hasNext());
+
+		Iterator<Object> i2 = m.values().iterator();
+		i2.next();
+		m.put("d", 4);
+		assertThrown(()->i2.next()).isType(ConcurrentModificationException.class);
+
+		StringBuilder sb = new StringBuilder();
+		m.forEach((k,v) -> sb.append(k).append('=').append(v).append(';'));
+		assertEquals("a=10;c=30;d=4;", sb.toString());
+	}
+
+	@Test
+	public void b05_map_otherMethods() throws Exception {
+		OMap m = OMap.createCompact().a("a", 1).a("n", null);
+		assertEquals(1, m.getOrDefault("a", 5));
+		assertEquals(5, m.getOrDefault("x", 5));
+		assertNull(m.getOrDefault("n", 5));
+		m.remove("n");
+		assertEquals(2, m.computeIfAbsent("b", x -> 2));
+		assertEquals(1, m.getOrDefault("a", 5));
+		assertEquals(5, m.getOrDefault("x", 5));
+		m.merge("a", 10, (x,y) -> (Integer)x + (Integer)y);
+		assertObject(m).asJson().is("{a:11,b:2}");
+		m.put("c", 3);
+		assertObject(m).asJson().is("{a:11,b:2,c:3}");
+
+		OMap m2 = OMap.createCompact().a("a", 1).append(AMap.of("b",2,"c",3));
+		assertObject(m2).asJson().is("{a:1,b:2,c:3}");
+		assertObject(m2.clone()).asJson().is("{a:1,b:2,c:3}");
+	}
+
+	@Test
+	public void b06_map_inner() throws Exception {
+		OMap m = OMap.createCompact().a("a", 1).inner(OMap.of("a", 2, "b", 3));
+		assertEquals(1, m.get("a"));
+		assertEquals(3, m.get("b"));
+		assertTrue(m.containsKey("b"));
+		assertFalse(m.containsOuterKey("b"));
+		assertObject(m.keySet()).asJson().is("['a','b']");
+	}
+
+	@Test
+	public void b07_map_javaSerialization() throws Exception {
+		OMap m = OMap.createCompact().a("a", 1).a("b", OList.of(1,2));
+		assertObject(roundTrip(m)).asJson().is("{a:1,b:[1,2]}");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// OList
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_list_basic() throws Exception {
+		OList l = OList.createCompact();
+		assertTrue(l.isEmpty());
+		for (int i = 0; i < 20; i++)
+			l.add(i);
+		assertEquals(20, l.size());
+		assertEquals(5, l.get(5));
+		l.add(0, "x");
+		l.set(1, "y");
+		assertEquals("x", l.remove(0));
+		assertTrue(l.remove((Object)19));
+		assertEquals(19, l.size());
+		assertEquals(0, l.indexOf("y"));
+		assertEquals(-1, l.indexOf(19));
+		assertTrue(l.contains(18));
+		l.addAll(1, Arrays.asList("a","b"));
+		assertObject(l.subList(0, 4)).asJson().is("['y','a','b',1]");
+		l.subList(0, 3).clear();
+		assertEquals(1, l.get(0));
+		assertObject(l.toArray(new Integer[0])).asJson().is("[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18]");
+		assertEquals(171, l.stream().mapToInt(x -> (Integer)x).sum());
+		assertThrown(()->l.get(18)).isType(IndexOutOfBoundsException.class);
+		l.clear();
+		assertObject(l).asJson().is("[]");
+	}
+
+	@Test
+	public void c02_list_equalsLinkedList() throws Exception {
+		OList l = OList.createCompact().a(1).a("x").a((Object)null);
+		List<Object> l2 = new LinkedList<>(Arrays.asList(1, "x", null));
+		assertEquals(l2, l);
+		assertEquals(l, l2);
+		assertEquals(l2.hashCode(), l.hashCode());
+		assertEquals(Arrays.asList(1, "x", null), l.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void c03_list_deque() throws Exception {
+		OList l = OList.createCompact();
+		l.push(2);
+		l.push(1);
+		l.addLast(3);
+		l.offerFirst(0);
+		assertObject(l).asJson().is("[0,1,2,3]");
+		assertEquals(0, l.peek());
+		assertEquals(3, l.peekLast());
+		assertEquals(0, l.pop());
+		assertEquals(3, l.pollLast());
+		assertEquals(1, l.removeFirst());
+		assertEquals(2, l.getLast());
+		assertEquals(2, l.remove());
+		assertNull(l.poll());
+		assertThrown(()->l.getFirst()).isType(NoSuchElementException.class);
+		l.a(1).a(2).a(1);
+		assertTrue(l.removeLastOccurrence(1));
+		assertObject(l).asJson().is("[1,2]");
+		Iterator<Object> i = l.descendingIterator();
+		assertEquals(2, i.next());
+		assertEquals(1, i.next());
+		assertFalse(i.hasNext());
+	}
+
+	@Test
+	public void c04_list_iterators() throws Exception {
+		OList l = OList.createCompact().a(1).a(2).a(3).a(4);
+		ListIterator<Object> i = l.listIterator();
+		while (i.hasNext()) {
+			int x = (Integer)i.next();
+			if (x == 2)
+				i.remove();
+			else if (x == 3)
+				i.add(5);
+			else
+				i.set(x * 10);
+		}
+		assertObject(l).asJson().is("[10,3,5,40]");
+		l.sort(null);
+		assertObject(l).asJson().is("[3,5,10,40]");
+		l.removeIf(x -> (Integer)x > 5);
+		assertObject(l).asJson().is("[3,5]");
+
+		Iterator<Object> i2 = l.iterator();
+		i2.next();
+		l.add(6);
+		assertThrown(()->i2.next()).isType(ConcurrentModificationException.class);
+	}
+
+	@Test
+	public void c05_list_cloneAndSerialization() throws Exception {
+		OList l = OList.createCompact().a(1).a(OMap.of("a", 1));
+		OList l2 = (OList)l.clone();
+		l2.add(2);
+		assertObject(l).asJson().is("[1,{a:1}]");
+		assertObject(l2).asJson().is("[1,{a:1},2]");
+		assertObject(roundTrip(l)).asJson().is("[1,{a:1}]");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utility methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static Object roundTrip(Object o) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(o);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			return ois.readObject();
+		}
+	}
+}
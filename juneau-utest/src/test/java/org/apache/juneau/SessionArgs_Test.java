@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.http.header.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class SessionArgs_Test {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Copies
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_serializerArgsCopy() throws Exception {
+		SerializerSessionArgs a = SerializerSessionArgs.create().mediaType(MediaType.JSON).locale(Locale.JAPAN).property("p1", "v1");
+		SerializerSessionArgs b = a.copy().locale(Locale.FRANCE).property("p2", "v2");
+
+		SerializerSession s = JsonSerializer.DEFAULT.createSession(a);
+		assertObject(s.getMediaType()).isSame(MediaType.JSON);
+		assertObject(s.getLocale()).is(Locale.JAPAN);
+		assertString(s.getSessionProperties().get("p1").orElse(null)).is("v1");
+		assertObject(s.getSessionProperties().get("p2").orElse(null)).isNull();
+
+		s = JsonSerializer.DEFAULT.createSession(b);
+		assertObject(s.getMediaType()).isSame(MediaType.JSON);
+		assertObject(s.getLocale()).is(Locale.FRANCE);
+		assertString(s.getSessionProperties().get("p1").orElse(null)).is("v1");
+		assertString(s.getSessionProperties().get("p2").orElse(null)).is("v2");
+	}
+
+	@Test
+	public void a02_parserArgsCopy() throws Exception {
+		ParserSessionArgs a = ParserSessionArgs.create().mediaType(MediaType.JSON);
+		ParserSessionArgs b = a.copy().timeZone(TimeZone.getTimeZone("GMT"));
+
+		ParserSession s = JsonParser.DEFAULT.createSession(b);
+		assertObject(s.getMediaType()).isSame(MediaType.JSON);
+		assertString(s.getTimeZone().getID()).is("GMT");
+		assertObject(JsonParser.DEFAULT.createSession(a).getTimeZone()).isNot(TimeZone.getTimeZone("GMT"));
+	}
+
+	@Test
+	public void a03_innerProperties() throws Exception {
+		OMap attrs = OMap.of("p1", "v1", "p2", "v2");
+		SerializerSessionArgs a = SerializerSessionArgs.create().properties(new OMap().inner(attrs)).property("p2", "x");
+
+		SessionProperties sp = JsonSerializer.DEFAULT.createSession(a).getSessionProperties();
+		assertString(sp.get("p1").orElse(null)).is("v1");
+		assertString(sp.get("p2").orElse(null)).is("x");
+		assertString(attrs.get("p2")).is("v2");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Match equality
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_matchEquality() throws Exception {
+		assertObject(new SerializerMatch(MediaType.JSON, JsonSerializer.DEFAULT)).is(new SerializerMatch(MediaType.of("application/json"), JsonSerializer.DEFAULT));
+		assertObject(new SerializerMatch(MediaType.JSON, JsonSerializer.DEFAULT)).isNot(new SerializerMatch(MediaType.JSON, JsonSerializer.DEFAULT_READABLE));
+		assertObject(new ParserMatch(MediaType.JSON, JsonParser.DEFAULT)).is(new ParserMatch(MediaType.of("application/json"), JsonParser.DEFAULT));
+		assertObject(new ParserMatch(MediaType.JSON, JsonParser.DEFAULT)).isNot(new ParserMatch(MediaType.JSON, JsonParser.DEFAULT_STRICT));
+		assertInteger(new ParserMatch(MediaType.JSON, JsonParser.DEFAULT).hashCode()).is(new ParserMatch(MediaType.of("application/json"), JsonParser.DEFAULT).hashCode());
+	}
+}
@@ -0,0 +1,305 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.reflect.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.serializer.annotation.*;
+import org.apache.juneau.svl.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class SessionPool_Test {
+
+	// Records the sessions used to swap/unswap.
+	public static class A {
+		public String f;
+
+		public static A create(String f) {
+			A x = new A();
+			x.f = f;
+			return x;
+		}
+	}
+
+	public static class ASwap extends StringSwap<A> {
+		static final List<BeanSession> SESSIONS = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public String swap(BeanSession session, A o) throws Exception {
+			SESSIONS.add(session);
+			return o.f;
+		}
+
+		@Override
+		public A unswap(BeanSession session, String f, ClassMeta<?> hint) throws Exception {
+			SESSIONS.add(session);
+			return A.create(f);
+		}
+	}
+
+	// Serializes its child with the same serializer from within a swap.
+	public static class B {
+		public String f;
+	}
+
+	public static class BSwap extends StringSwap<B> {
+		static volatile WriterSerializer serializer;
+
+		@Override
+		public String swap(BeanSession session, B o) throws Exception {
+			return serializer.serialize(A.create(o.f));
+		}
+	}
+
+	public static class C {
+		public C c;
+	}
+
+	private static List<BeanSession> sessions(Runnable r) {
+		ASwap.SESSIONS.clear();
+		r.run();
+		return new ArrayList<>(ASwap.SESSIONS);
+	}
+
+	private static Runnable safe(Callable<?> c) {
+		return () -> {
+			try {
+				c.call();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_serializer_reusesSession() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			assertString(s.serialize(A.create("foo"))).is("'foo'");
+			assertString(s.serialize(A.create("bar"))).is("'bar'");
+			return null;
+		}));
+		assertInteger(l.size()).is(2);
+		assertObject(l.get(1)).isSame(l.get(0));
+	}
+
+	@Test
+	public void a02_serializer_notPooledByDefault() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class).build();
+		List<BeanSession> l = sessions(safe(() -> {
+			s.serialize(A.create("foo"));
+			s.serialize(A.create("bar"));
+			return null;
+		}));
+		assertTrue(l.get(1) != l.get(0));
+	}
+
+	@Test
+	public void a03_serializer_allConvenienceMethods() throws Exception {
+		OutputStreamSerializer s = MsgPackSerializer.create().swaps(ASwap.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			s.serialize(A.create("foo"));
+			s.serializeToString(A.create("foo"));
+			s.serialize(A.create("foo"), new ByteArrayOutputStream());
+			return null;
+		}));
+		assertInteger(l.size()).is(3);
+		assertObject(l.get(1)).isSame(l.get(0));
+		assertObject(l.get(2)).isSame(l.get(0));
+	}
+
+	@Test
+	public void a04_serializer_stateResetAfterError() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().poolSessions().build();
+		C c = new C();
+		c.c = c;
+		assertThrown(()->s.serialize(c)).isType(SerializeException.class);
+		assertString(s.serialize(new C())).is("{}");
+		assertString(s.serialize(OMap.of("a", OList.of(1, 2)))).is("{a:[1,2]}");
+	}
+
+	@Test
+	public void a05_serializer_xmlNamespacesReset() throws Exception {
+		WriterSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().poolSessions().build();
+		WriterSerializer s2 = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build();
+		OMap m = OMap.of("a", 1);
+		assertString(s.serialize(m)).is(s2.serialize(m));
+		assertString(s.serialize(m)).is(s2.serialize(m));
+	}
+
+	@Test
+	public void a06_serializer_nestedCalls() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class, BSwap.class).poolSessions().build();
+		BSwap.serializer = s;
+		B b = new B();
+		b.f = "foo";
+		List<BeanSession> l = sessions(safe(() -> {
+			assertString(s.serialize(b)).is("'\\'foo\\''");
+			assertString(s.serialize(A.create("bar"))).is("'bar'");
+			return null;
+		}));
+		assertInteger(l.size()).is(2);
+	}
+
+	@Test
+	public void a07_serializer_threads() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class).poolSessions().build();
+		ExecutorService es = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> l = new ArrayList<>();
+			ASwap.SESSIONS.clear();
+			for (int i = 0; i < 400; i++) {
+				String f = "x" + i;
+				l.add(es.submit(() -> assertString(s.serialize(A.create(f))).is("'" + f + "'")));
+			}
+			for (Future<?> f : l)
+				f.get(30, TimeUnit.SECONDS);
+			// Sessions are reused across the calls.
+			Set<BeanSession> s2 = Collections.newSetFromMap(new IdentityHashMap<>());
+			s2.addAll(ASwap.SESSIONS);
+			assertInteger(s2.size()).isLt(400);
+		} finally {
+			es.shutdownNow();
+		}
+	}
+
+	public static class AA extends SerializerListener {}
+
+	@Test
+	public void a08_serializer_notPooledWithListener() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class).listener(AA.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			s.serialize(A.create("foo"));
+			s.serialize(A.create("bar"));
+			return null;
+		}));
+		assertTrue(l.get(1) != l.get(0));
+	}
+
+	@SerializerConfig(poolSessions="$X{true}")
+	static class A09 {}
+
+	@Test
+	public void a09_serializer_annotation() throws Exception {
+		AnnotationWorkList al = ClassInfo.of(A09.class).getAnnotationList().getWork(VarResolver.create().vars(XVar.class).build().createSession());
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class).apply(al).build();
+		List<BeanSession> l = sessions(safe(() -> {
+			s.serialize(A.create("foo"));
+			s.serialize(A.create("bar"));
+			return null;
+		}));
+		assertObject(l.get(1)).isSame(l.get(0));
+	}
+
+	@Test
+	public void a10_serializer_notPinnedToThreads() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().swaps(ASwap.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			// A session released by a thread that has since ended is reused by other threads.
+			Thread t = new Thread(safe(() -> s.serialize(A.create("foo"))));
+			t.start();
+			t.join();
+			s.serialize(A.create("bar"));
+			return null;
+		}));
+		assertInteger(l.size()).is(2);
+		assertObject(l.get(1)).isSame(l.get(0));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_parser_reusesSession() throws Exception {
+		ReaderParser p = JsonParser.create().swaps(ASwap.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			assertString(p.parse("'foo'", A.class).f).is("foo");
+			assertString(p.parse("'bar'", A.class).f).is("bar");
+			assertObject(p.parse("['baz']", List.class, A.class)).asJson().is("[{f:'baz'}]");
+			assertString(p.parse(new StringReader("'qux'"), A.class).f).is("qux");
+			return null;
+		}));
+		assertInteger(l.size()).is(4);
+		for (BeanSession s : l)
+			assertObject(s).isSame(l.get(0));
+	}
+
+	@Test
+	public void b02_parser_notPooledByDefault() throws Exception {
+		ReaderParser p = JsonParser.create().swaps(ASwap.class).build();
+		List<BeanSession> l = sessions(safe(() -> {
+			p.parse("'foo'", A.class);
+			p.parse("'bar'", A.class);
+			return null;
+		}));
+		assertTrue(l.get(1) != l.get(0));
+	}
+
+	@Test
+	public void b03_parser_stateResetAfterError() throws Exception {
+		ReaderParser p = JsonParser.create().validateEnd().poolSessions().build();
+		assertThrown(()->p.parse("{f:[1,2}", A.class)).isType(ParseException.class);
+		assertString(p.parse("{f:'foo'}", A.class).f).is("foo");
+		assertThrown(()->p.parse("{f:'foo'}x", A.class)).isType(ParseException.class);
+		assertString(p.parse("{f:'bar'}", A.class).f).is("bar");
+	}
+
+	@Test
+	public void b04_parser_parseStreamNotPooled() throws Exception {
+		ReaderParser p = JsonParser.create().swaps(ASwap.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			try (ParserIterator<A> i = p.parseStream("['foo','bar']", A.class)) {
+				assertString(i.next().f).is("foo");
+				assertString(p.parse("'baz'", A.class).f).is("baz");
+				assertString(i.next().f).is("bar");
+			}
+			return null;
+		}));
+		assertInteger(l.size()).is(3);
+		assertTrue(l.get(1) != l.get(0));
+	}
+
+	@Test
+	public void b05_parser_notPinnedToThreads() throws Exception {
+		ReaderParser p = JsonParser.create().swaps(ASwap.class).poolSessions().build();
+		List<BeanSession> l = sessions(safe(() -> {
+			Thread t = new Thread(safe(() -> p.parse("'foo'", A.class)));
+			t.start();
+			t.join();
+			p.parse("'bar'", A.class);
+			return null;
+		}));
+		assertInteger(l.size()).is(2);
+		assertObject(l.get(1)).isSame(l.get(0));
+	}
+}
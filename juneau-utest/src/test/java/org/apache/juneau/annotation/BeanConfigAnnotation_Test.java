@@ -138,7 +138,8 @@ public class BeanConfigAnnotation_Test {
 		sortProperties="$X{true}",
 		timeZone="$X{z}",
 		useEnumNames="$X{true}",
-		useJavaBeanIntrospector="$X{true}"
+		useJavaBeanIntrospector="$X{true}",
+		useMethodHandles="$X{true}"
 	)
 	static class A {}
 	static ClassInfo a = ClassInfo.of(A.class);
@@ -177,6 +178,7 @@ public class BeanConfigAnnotation_Test {
 		check("true", bc.isUseEnumNames());
 		check("false", bc.isUseInterfaceProxies());
 		check("true", bc.isUseJavaBeanIntrospector());
+		check("true", bc.isUseMethodHandles());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -224,6 +226,7 @@ public class BeanConfigAnnotation_Test {
 		check("false", bc.isUseEnumNames());
 		check("true", bc.isUseInterfaceProxies());
 		check("false", bc.isUseJavaBeanIntrospector());
+		check("false", bc.isUseMethodHandles());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -270,6 +273,7 @@ public class BeanConfigAnnotation_Test {
 		check("false", bc.isUseEnumNames());
 		check("true", bc.isUseInterfaceProxies());
 		check("false", bc.isUseJavaBeanIntrospector());
+		check("false", bc.isUseMethodHandles());
 	}
 
 }
@@ -17,6 +17,7 @@ import static org.junit.runners.MethodSorters.*;
 
 import java.util.*;
 
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -49,4 +50,190 @@ public class Csv_Test {
 			this.c = c;
 		}
 	}
+
+	//====================================================================================================
+	// testParseBeans
+	//====================================================================================================
+	@Test
+	public void testParseBeans() throws Exception {
+		List<B> l = CsvParser.DEFAULT.parse("b,c,d\nb1,1,10\n\"b 2\",-2,null\n", List.class, B.class);
+		assertEquals(2, l.size());
+		assertEquals("b1", l.get(0).b);
+		assertEquals(1, l.get(0).c);
+		assertEquals(Long.valueOf(10), l.get(0).d);
+		assertEquals("b 2", l.get(1).b);
+		assertEquals(-2, l.get(1).c);
+		assertNull(l.get(1).d);
+
+		B[] a = CsvParser.DEFAULT.parse("c,b\r\n3,x\r\n\r\n4,y", B[].class);
+		assertEquals(2, a.length);
+		assertEquals("x", a[0].b);
+		assertEquals(3, a[0].c);
+		assertEquals("y", a[1].b);
+		assertEquals(4, a[1].c);
+	}
+
+	//====================================================================================================
+	// testParseQuoted
+	//====================================================================================================
+	@Test
+	public void testParseQuoted() throws Exception {
+		List<B> l = CsvParser.DEFAULT.parse("b,c\n\"a,\"\"b\"\"\nc\",1\n\"\",2\nnull,3\n\"null\",4\n", List.class, B.class);
+		assertEquals(4, l.size());
+		assertEquals("a,\"b\"\nc", l.get(0).b);
+		assertEquals("", l.get(1).b);
+		assertNull(l.get(2).b);
+		assertEquals("null", l.get(3).b);
+	}
+
+	//====================================================================================================
+	// testParseMaps
+	//====================================================================================================
+	@Test
+	public void testParseMaps() throws Exception {
+		Object o = CsvParser.DEFAULT.parse("b,c\nb1,1\nb2,null\n", Object.class);
+		assertEquals("[{b:'b1',c:'1'},{b:'b2',c:null}]", o.toString());
+
+		List<Map<String,Integer>> l = CsvParser.DEFAULT.parse("x,y\n1,2\n3,\n", List.class, Map.class, String.class, Integer.class);
+		assertEquals(2, l.size());
+		assertEquals(Integer.valueOf(2), l.get(0).get("y"));
+		assertEquals(Integer.valueOf(3), l.get(1).get("x"));
+		assertNull(l.get(1).get("y"));
+	}
+
+	//====================================================================================================
+	// testRoundTrip
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<B> l = new ArrayList<>();
+		l.add(B.create("foo", 1, 2L));
+		l.add(B.create("foo bar,baz", -1, null));
+		l.add(B.create(null, Integer.MAX_VALUE, Long.MIN_VALUE));
+
+		String csv = CsvSerializer.DEFAULT.serialize(l);
+		List<B> l2 = CsvParser.DEFAULT.parse(csv, List.class, B.class);
+
+		assertEquals(csv, CsvSerializer.DEFAULT.serialize(l2));
+		assertEquals("foo bar,baz", l2.get(1).b);
+		assertNull(l2.get(2).b);
+		assertEquals(Long.valueOf(Long.MIN_VALUE), l2.get(2).d);
+	}
+
+	//====================================================================================================
+	// testParseStream
+	//====================================================================================================
+	@Test
+	public void testParseStream() throws Exception {
+		StringBuilder sb = new StringBuilder("b,c,d\n");
+		for (int i = 0; i < 1000; i++)
+			sb.append("b").append(i).append(',').append(i).append(',').append(i * 10L).append('\n');
+
+		int count = 0;
+		try (ParserIterator<B> i = CsvParser.DEFAULT.parseStream(sb.toString(), B.class)) {
+			while (i.hasNext()) {
+				B b = i.next();
+				assertEquals("b" + count, b.b);
+				assertEquals(count, b.c);
+				assertEquals(Long.valueOf(count * 10L), b.d);
+				count++;
+			}
+		}
+		assertEquals(1000, count);
+
+		try (ParserIterator<B> i = CsvParser.DEFAULT.parseStream("", B.class)) {
+			assertFalse(i.hasNext());
+		}
+	}
+
+	//====================================================================================================
+	// testSerializeStreams
+	//====================================================================================================
+	@Test
+	public void testSerializeStreams() throws Exception {
+		WriterSerializer s = CsvSerializer.DEFAULT;
+		List<A> l = Arrays.asList(new A("b1",1), new A("b2",2));
+
+		assertEquals("b,c\nb1,1\nb2,2\n", s.serialize(l.iterator()));
+		assertEquals("b,c\nb1,1\nb2,2\n", s.serialize(l.stream()));
+		assertEquals("b,c\nb1,1\nb2,2\n", s.serialize(l.toArray()));
+		assertEquals("b,c\nb1,1\n", s.serialize(new A("b1",1)));
+		assertEquals("", s.serialize(Collections.emptyList()));
+		assertEquals("b,c\nnull,null\nb1,1\n", s.serialize(Arrays.asList(null, new A("b1",1))));
+	}
+
+	//====================================================================================================
+	// testSerializeMaps
+	//====================================================================================================
+	@Test
+	public void testSerializeMaps() throws Exception {
+		WriterSerializer s = CsvSerializer.DEFAULT;
+		Map<String,Object> m1 = new LinkedHashMap<>(), m2 = new LinkedHashMap<>();
+		m1.put("x", 1);
+		m1.put("y", "foo");
+		m2.put("y", "bar");
+
+		assertEquals("x,y\n1,foo\nnull,bar\n", s.serialize(Arrays.asList(m1, m2)));
+		assertEquals("1,2\nx,\"y z\"\n", s.serialize(Arrays.asList(Arrays.asList(1,2), new String[]{"x","y z"})));
+	}
+
+	//====================================================================================================
+	// testSerializeQuoting
+	//====================================================================================================
+	@Test
+	public void testSerializeQuoting() throws Exception {
+		List<B> l = Arrays.asList(B.create("a\"b", 1, null), B.create("null", 2, null), B.create("x\ny", 3, null));
+
+		String csv = CsvSerializer.DEFAULT.serialize(l);
+		assertEquals("b,c,d\n\"a\"\"b\",1,null\n\"null\",2,null\n\"x\ny\",3,null\n", csv);
+
+		List<B> l2 = CsvParser.DEFAULT.parse(csv, List.class, B.class);
+		assertEquals("a\"b", l2.get(0).b);
+		assertEquals("null", l2.get(1).b);
+		assertEquals("x\ny", l2.get(2).b);
+	}
+
+	//====================================================================================================
+	// testParseErrors
+	//====================================================================================================
+	@Test
+	public void testParseErrors() throws Exception {
+		try {
+			CsvParser.DEFAULT.parse("b,c\n\"b1,1\n", List.class, B.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unterminated quoted cell."));
+		}
+
+		try {
+			CsvParser.DEFAULT.parse("b,c\nb1,\"[1, 2]\"\n", List.class, C.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("CSV cells cannot be parsed into collections and arrays."));
+		}
+
+		// Collection columns that aren't in the header are ignored.
+		List<C> l = CsvParser.DEFAULT.parse("b\nb1\n", List.class, C.class);
+		assertEquals("b1", l.get(0).b);
+		assertNull(l.get(0).c);
+	}
+
+	public static class C {
+		public String b;
+		public List<Integer> c;
+	}
+
+	public static class B {
+		public String b;
+		public int c;
+		public Long d;
+
+		public static B create(String b, int c, Long d) {
+			B x = new B();
+			x.b = b;
+			x.c = c;
+			x.d = d;
+			return x;
+		}
+	}
 }
\ No newline at end of file
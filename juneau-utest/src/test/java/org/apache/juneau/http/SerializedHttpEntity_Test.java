@@ -21,6 +21,7 @@ import static org.apache.juneau.httppart.HttpPartSchema.*;
 import static org.apache.juneau.http.HttpEntities.*;
 
 import org.apache.juneau.collections.*;
+import org.apache.juneau.http.entity.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.msgpack.*;
@@ -109,6 +110,20 @@ public class SerializedHttpEntity_Test {
 		checkHeaderClient("Content-Type").post("/",serializedEntity(reader("foo"),null).contentType("text/foo").build()).run().assertBody().is("['text/foo']");
 	}
 
+	@Test
+	public void a13_isChunked() throws Exception {
+		assertBoolean(serializedEntity(ABean.get(),null).build().isChunked()).isFalse();
+		assertBoolean(serializedEntity(ABean.get(),null).chunked().build().isChunked()).isTrue();
+	}
+
+	@Test
+	public void a14_getContent_maxBufferSize() throws Exception {
+		SerializedEntity x = serializedEntity(AList.of("foo","bar","baz"),JsonSerializer.DEFAULT).maxBufferSize(4).build();
+		assertStream(x.getContent()).asString().is("[\"foo\",\"bar\",\"baz\"]");
+		assertStream(x.getContent()).asString().is("[\"foo\",\"bar\",\"baz\"]");
+		assertStream(x.copy().build().getContent()).asString().is("[\"foo\",\"bar\",\"baz\"]");
+	}
+
 	//------------------------------------------------------------------------------------------------------------------
 	// Utility methods
 	//------------------------------------------------------------------------------------------------------------------
@@ -25,6 +25,7 @@ import org.apache.juneau.http.annotation.Header;
 import org.apache.juneau.http.annotation.Path;
 import org.apache.juneau.http.annotation.Query;
 import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
 import org.apache.juneau.rest.mock.*;
 import org.apache.juneau.testutils.*;
 import org.junit.*;
@@ -290,6 +291,49 @@ public class Remote_RequestAnnotation_Test {
 		assertEquals("{body:'',header:null,query:null,path:'{x}'}",x.post(null));
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Repeated calls
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Request
+	public static class F1 {
+		private final String value;
+		public F1(String value) {
+			this.value = value;
+		}
+		@Body
+		public String getBody() {
+			return value;
+		}
+		@Header("X")
+		public String getHeader() {
+			return value;
+		}
+		@Query("x")
+		public String getQuery() {
+			return value;
+		}
+		@Path("x")
+		public String getPath() {
+			return value;
+		}
+	}
+
+	@Remote
+	public static interface F2 {
+		@RemoteOp(path="/{x}") String post(F1 req);
+	}
+
+	@Test
+	public void f01_repeatedCalls() throws Exception {
+		RestClient client = MockRestClient.build(A.class);
+		F2 x = client.getRemote(F2.class), y = client.getRemote(F2.class);
+		assertEquals("{body:'foo',header:'foo',query:'foo',path:'foo'}",x.post(new F1("foo")));
+		assertEquals("{body:'bar',header:'bar',query:'bar',path:'bar'}",x.post(new F1("bar")));
+		assertEquals("{body:'baz',header:'baz',query:'baz',path:'baz'}",y.post(new F1("baz")));
+		assertEquals("{body:'',header:null,query:null,path:'{x}'}",x.post(null));
+	}
+
 	//------------------------------------------------------------------------------------------------------------------
 	// Helper methods.
 	//------------------------------------------------------------------------------------------------------------------
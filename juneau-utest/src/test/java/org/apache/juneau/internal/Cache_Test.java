@@ -0,0 +1,87 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.runners.MethodSorters.*;
+import static org.apache.juneau.assertions.Assertions.*;
+
+import org.apache.juneau.mstat.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class Cache_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Basic tests
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_getPut() {
+		Cache<String,String> c = new Cache<>(false, 100);
+		assertString(c.get("a")).isNull();
+		assertString(c.put("a", "1")).is("1");
+		assertString(c.put("a", "2")).is("1");
+		assertString(c.get("a")).is("1");
+		assertString(c.get(null)).isNull();
+		assertString(c.put(null, "3")).is("3");
+		assertLong(c.getHits()).is(1l);
+		assertLong(c.getMisses()).is(1l);
+	}
+
+	@Test
+	public void a02_disabled() {
+		Cache<String,String> c = new Cache<>(true, 100);
+		assertString(c.put("a", "1")).is("1");
+		assertString(c.put("a", "2")).is("2");
+		assertString(c.get("a")).isNull();
+		assertInteger(c.size()).is(0);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Eviction
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_bounded() {
+		Cache<Integer,Integer> c = new Cache<>(false, 1000);
+		for (int i = 0; i < 10000; i++)
+			c.put(i, i);
+		assertInteger(c.size()).isLte(1000);
+		assertLong(c.getEvictions()).is(10000l - c.size());
+	}
+
+	@Test
+	public void b02_hotEntriesSurviveFlood() {
+		Cache<String,String> c = new Cache<>(false, 1000);
+		c.put("hot", "x");
+		for (int i = 0; i < 100000; i++) {
+			c.put("cold" + i, "y");
+			assertString(c.get("hot")).is("x");
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Registry
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_registry() {
+		Cache<String,String> c = new Cache<>("Cache_Test.c01", false, 10);
+		c.put("a", "1");
+		c.get("a");
+		c.get("b");
+
+		CacheStats s = CacheStats.getAll().stream().filter(x -> "Cache_Test.c01".equals(x.getName())).findFirst().get();
+		assertObject(s).asJson().is("{name:'Cache_Test.c01',size:1,maxSize:10,hits:1,misses:1,evictions:0}");
+	}
+}
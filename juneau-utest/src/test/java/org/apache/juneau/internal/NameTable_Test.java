@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.assertions.AssertionPredicates.*;
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class NameTable_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Lookups
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_basic() throws Exception {
+		String foo = new String("foo"), bar = new String("bar");
+		NameTable t = new NameTable(Arrays.asList(foo, bar, null, "foo"));
+		char[] b = "xfoobarx".toCharArray();
+		assertSame(foo, t.get(b, 1, 3));
+		assertSame(bar, t.get(b, 4, 3));
+		assertSame(foo, t.get(new StringBuilder("foo")));
+		assertNull(t.get(b, 0, 3));
+		assertNull(t.get(b, 1, 2));
+		assertNull(t.get(b, 1, 0));
+		assertNull(t.get("baz"));
+	}
+
+	@Test
+	public void a02_empty() throws Exception {
+		NameTable t = new NameTable(Collections.emptyList());
+		assertNull(t.get(new char[0], 0, 0));
+		assertNull(t.get("foo"));
+		assertSame("", new NameTable(Arrays.asList("")).get(new char[0], 0, 0));
+	}
+
+	@Test
+	public void a03_collisions() throws Exception {
+		// "Aa" and "BB" have the same hash code.
+		List<String> l = new ArrayList<>(Arrays.asList("Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa"));
+		for (int i = 0; i < 500; i++)
+			l.add("p" + i);
+		NameTable t = new NameTable(l);
+		for (String s : l) {
+			char[] b = ("_" + s + "_").toCharArray();
+			assertSame(s, t.get(b, 1, s.length()));
+			assertSame(s, t.get(s));
+		}
+		assertNull(t.get("AaBBx"));
+		assertNull(t.get("p500"));
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Bean(properties="foo,bar,baz")
+	public static class B {
+		public String foo, bar;
+		public int baz;
+	}
+
+	@Test
+	public void b01_parsersUseBeanPropertyNames() throws Exception {
+		assertObject(JsonParser.DEFAULT.parse("{foo:'a',\"bar\":'b',baz:1}", B.class)).asJson().is("{foo:'a',bar:'b',baz:1}");
+		assertObject(JsonParser.DEFAULT.parse("{\"f\\u006Fo\":'a','b'+'ar':'b'}", B.class)).asJson().is("{foo:'a',bar:'b',baz:0}");
+		assertObject(UonParser.DEFAULT.parse("(foo=a,'bar'=b,baz=1)", B.class)).asJson().is("{foo:'a',bar:'b',baz:1}");
+		assertObject(UrlEncodingParser.DEFAULT.parse("foo=a&b%61r=b&baz=1", B.class)).asJson().is("{foo:'a',bar:'b',baz:1}");
+		assertThrown(()->JsonParser.DEFAULT.parse("{\"fo\":'a'}", B.class)).messages().any(contains("Unknown property 'fo'"));
+	}
+
+	@Test
+	public void b02_propertyNames() throws Exception {
+		BeanMeta<?> bm = BeanContext.DEFAULT.getClassMeta(B.class).getBeanMeta();
+		char[] b = "xfoo_typequx".toCharArray();
+		assertString(bm.getPropertyName(b, 1, 3)).is("foo");
+		assertString(bm.getPropertyName(b, 4, 5)).is("_type");
+		assertNull(bm.getPropertyName(b, 9, 3));
+	}
+}
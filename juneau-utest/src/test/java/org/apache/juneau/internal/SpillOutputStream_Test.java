@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.runners.MethodSorters.*;
+import static org.apache.juneau.assertions.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class SpillOutputStream_Test {
+
+	@Test
+	public void a01_inMemory() throws Exception {
+		SpillOutputStream s = new SpillOutputStream(10);
+		s.write("foo".getBytes());
+		assertBoolean(s.isSpilled()).isFalse();
+		assertStream(s.getInputStream()).asString().is("foo");
+	}
+
+	@Test
+	public void a02_spilled() throws Exception {
+		Set<Path> before = tempFiles();
+		SpillOutputStream s = new SpillOutputStream(2);
+		s.write("foo".getBytes());
+		s.write('b');
+		assertBoolean(s.isSpilled()).isTrue();
+
+		// The temp file is gone before the stream is read or closed.
+		InputStream is = s.getInputStream();
+		assertObject(tempFiles()).is(before);
+		assertStream(is).asString().is("foob");
+	}
+
+	@Test
+	public void a03_discard() throws Exception {
+		Set<Path> before = tempFiles();
+		SpillOutputStream s = new SpillOutputStream(2);
+		s.write("foo".getBytes());
+		s.discard();
+		assertObject(tempFiles()).is(before);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Utility methods
+	//------------------------------------------------------------------------------------------------------------------
+
+	private static Set<Path> tempFiles() throws IOException {
+		try (Stream<Path> s = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+			return s.filter(x -> x.getFileName().toString().matches("juneau.*\\.tmp")).collect(Collectors.toSet());
+		}
+	}
+}
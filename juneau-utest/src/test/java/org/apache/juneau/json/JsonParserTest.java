@@ -19,6 +19,7 @@ import static org.junit.runners.MethodSorters.*;
 import java.io.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -215,6 +216,33 @@ public class JsonParserTest {
 		}
 	}
 
+	//====================================================================================================
+	// testEscapedNamesAndValues
+	// Escape sequences in attribute names and values must be removed before the strings are created.
+	//====================================================================================================
+	@Test
+	public void testEscapedNamesAndValues() throws Exception {
+		D d = p.parse("{\"b\\u0061r\":\"ba\\\"z\",\"b\\\"az\":\"q\\u0061x\"}", D.class);
+		assertEquals("ba\"z", d.bar);
+		assertEquals("qax", d.baz);
+
+		d = sp.parse("{\"b\\u0061r\":\"ba\\\"z\",\"b\\\"az\":\"q\\u0061x\"}", D.class);
+		assertEquals("ba\"z", d.bar);
+		assertEquals("qax", d.baz);
+
+		OMap m = p.parse("{\"b\\u0061r\":\"ba\\\"z\",'q\\'x':'y\\'z'}", OMap.class);
+		assertEquals("ba\"z", m.getString("bar"));
+		assertEquals("y'z", m.getString("q'x"));
+
+		assertThrown(()->p.parse("{\"q\\u0061q\":1}", D.class)).message().contains("Unknown property 'qaq'");
+		assertThrown(()->p.parse("{\"q\\\"q\":1}", D.class)).message().contains("Unknown property 'q\"q'");
+	}
+
+	public static class D {
+		public String bar;
+		@Beanp("b\"az") public String baz;
+	}
+
 	//====================================================================================================
 	// testStreamsAutoClose
 	// Validates PARSER_autoCloseStreams.
@@ -187,4 +187,34 @@ public class MethodExecStore_Test {
 
 		assertObject(stats).asString().contains("300");
 	}
+
+	@Test
+	public void c02_stats_percentiles() throws Exception {
+		Method m = MethodExecStore_Test.class.getMethod("c02_stats_percentiles");
+		MethodExecStats stats = MethodExecStore.create().build().getStats(m);
+
+		assertComparable(stats.getP50Time()).is(0d);
+		assertComparable(stats.getRecentP99Time()).is(0d);
+
+		for (int i = 1; i <= 100; i++)
+			stats.started().finished(i*1000000l);
+
+		assertComparable(stats.getP50Time()).isBetween(48.5d, 51.5d);
+		assertComparable(stats.getP95Time()).isBetween(92d, 98d);
+		assertComparable(stats.getP99Time()).isBetween(96d, 102d);
+		assertComparable(stats.getRecentP99Time()).is(stats.getP99Time());
+		assertComparable(stats.getPercentileTime(100)).isBetween(97d, 103d);
+		assertLong(stats.getHistogram().getCount()).is(100l);
+	}
+
+	@Test
+	public void c03_histogram_accuracy() throws Exception {
+		LatencyHistogram h = new LatencyHistogram();
+		for (long t : new long[]{0, 3_000, 17_000, 999_000, 123_456_000, 3_600_000_000_000l}) {
+			h.record(t);
+			long p = LatencyHistogram.getPercentile(100, h);
+			assertLong(Math.abs(p - t)).isLte((long)(t * 0.04));
+			h = new LatencyHistogram();
+		}
+	}
 }
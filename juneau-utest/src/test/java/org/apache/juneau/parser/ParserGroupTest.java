@@ -75,4 +75,36 @@ public class ParserGroupTest {
 	public static class P3 extends JsonParser { protected P3(JsonParserBuilder b) { super(b.consumes("text/3")); }}
 	public static class P4 extends JsonParser { protected P4(JsonParserBuilder b) { super(b.consumes("text/4,text/4a"));} }
 	public static class P5 extends JsonParser { protected P5(JsonParserBuilder b) { super(b.consumes("text/5"));}}
+
+	//====================================================================================================
+	// Test match cache
+	//====================================================================================================
+	@Test
+	public void testMatchCache() throws Exception {
+		ParserGroup g = ParserGroup.create().add(Parser1.class, Parser2.class, Parser3.class).build();
+
+		assertObject(g.getParser("text/foo")).isType(Parser1.class);
+		assertObject(g.getParser("text/foo;charset=utf-8")).isType(Parser1.class);
+		assertObject(g.getParser("text/foo; charset=ISO-8859-1")).isType(Parser1.class);
+		assertLong(g.getScoredMatchCount()).is(1l);
+
+		assertObject(g.getParser("text/xxx")).isNull();
+		assertObject(g.getParser("text/xxx;charset=utf-8")).isNull();
+		assertObject(g.getParser((String)null)).isNull();
+		assertLong(g.getScoredMatchCount()).is(2l);
+
+		for (int i = 0; i < 1000; i++)
+			assertObject(g.getParser("text/foo_" + i)).isNull();
+		assertInteger(g.getMatchCacheStats().getSize()).isLte(g.getMatchCacheStats().getMaxSize());
+	}
+
+	@Test
+	public void testMatchCacheCommonHeaders() throws Exception {
+		ParserGroup g = ParserGroup.create().add(JsonParser.class).build();
+
+		assertObject(g.getParser("application/json")).isType(JsonParser.class);
+		assertObject(g.getParser("application/json;charset=utf-8")).isType(JsonParser.class);
+		assertObject(g.getParser("text/html")).isNull();
+		assertLong(g.getScoredMatchCount()).is(0l);
+	}
 }
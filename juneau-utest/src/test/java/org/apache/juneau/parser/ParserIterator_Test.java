@@ -0,0 +1,187 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.assertions.AssertionPredicates.*;
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class ParserIterator_Test {
+
+	@Bean(properties="a,b")
+	public static class A {
+		public int a;
+		public String b;
+
+		public static A create(int a, String b) {
+			A x = new A();
+			x.a = a;
+			x.b = b;
+			return x;
+		}
+	}
+
+	private static <E> List<E> toList(ParserIterator<E> i) {
+		List<E> l = new ArrayList<>();
+		i.forEachRemaining(l::add);
+		return l;
+	}
+
+	// Generates the JSON array "[{a:0,b:'x0'},{a:1,b:'x1'},...]" on the fly.
+	private static class GeneratingReader extends Reader {
+		final int count;
+		int index = -1;
+		String current = "[";
+		int pos;
+		boolean closed;
+
+		GeneratingReader(int count) {
+			this.count = count;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			if (pos == current.length()) {
+				index++;
+				if (index > count)
+					return -1;
+				current = index == count ? "]" : ((index == 0 ? "" : ",") + "{a:" + index + ",b:'x" + index + "'}");
+				pos = 0;
+			}
+			int n = Math.min(len, current.length() - pos);
+			current.getChars(pos, pos + n, cbuf, off);
+			pos += n;
+			return n;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// JSON
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json_basic() throws Exception {
+		JsonParser p = JsonParser.DEFAULT;
+		assertObject(toList(p.parseStream("[{a:1,b:'foo'},{a:2,b:'bar'}]", A.class))).asJson().is("[{a:1,b:'foo'},{a:2,b:'bar'}]");
+		assertObject(toList(p.parseStream(" /*x*/ [ 1 , null , 3 ] ", Integer.class))).asJson().is("[1,null,3]");
+		assertObject(toList(p.parseStream("[[1,2],[3]]", List.class, Integer.class))).asJson().is("[[1,2],[3]]");
+		assertObject(toList(p.parseStream("[]", A.class))).asJson().is("[]");
+		assertObject(toList(p.parseStream("null", A.class))).asJson().is("[]");
+		assertObject(toList(p.parseStream("", A.class))).asJson().is("[]");
+		assertObject(toList(p.parseStream(null, A.class))).asJson().is("[]");
+	}
+
+	@Test
+	public void a02_json_stream() throws Exception {
+		try (Stream<A> s = JsonParser.DEFAULT.parseStream("[{a:1},{a:2},{a:3}]", A.class).stream()) {
+			assertInteger(s.mapToInt(x -> x.a).sum()).is(6);
+		}
+	}
+
+	@Test
+	public void a03_json_invalid() throws Exception {
+		JsonParser p = JsonParser.DEFAULT;
+		assertThrown(()->p.parseStream("{a:1}", A.class)).isType(ParseException.class).messages().any(contains("Expected '[' at beginning of JSON array."));
+		assertThrown(()->toList(p.parseStream("[1,2,]", Integer.class))).isType(BeanRuntimeException.class).messages().any(contains("Unexpected trailing comma in array."));
+		assertThrown(()->toList(p.parseStream("[1 2]", Integer.class))).messages().any(contains("Expected ',' or ']'."));
+		assertThrown(()->toList(p.parseStream("[1,2", Integer.class))).messages().any(contains("Expected ',' or ']'."));
+		assertThrown(()->toList(JsonParser.create().validateEnd().build().parseStream("[1,2] x", Integer.class))).messages().any(contains("Remainder after parse"));
+		assertThrown(()->toList(p.parseStream("[{a:'x'}]", A.class))).messages().any(contains("Invalid number: 'x', class='int'"));
+
+		ParserIterator<Integer> i = p.parseStream("[1,x]", Integer.class);
+		assertInteger(i.next()).is(1);
+		assertThrown(()->i.next()).isType(BeanRuntimeException.class);
+		assertFalse(i.hasNext());
+	}
+
+	@Test
+	public void a04_json_readsIncrementally() throws Exception {
+		GeneratingReader r = new GeneratingReader(100000);
+		try (ParserIterator<A> i = JsonParser.DEFAULT.parseStream(r, A.class)) {
+			assertString(i.next().b).is("x0");
+			// Only the first few entries should have been read from the reader.
+			assertTrue(r.index < 100);
+			long count = 1;
+			while (i.hasNext()) {
+				A a = i.next();
+				assertInteger(a.a).is((int)count++);
+			}
+			assertLong(count).is(100000l);
+		}
+	}
+
+	@Test
+	public void a05_json_close() throws Exception {
+		GeneratingReader r = new GeneratingReader(100);
+		ParserIterator<A> i = JsonParser.create().autoCloseStreams().build().parseStream(r, A.class);
+		assertInteger(i.next().a).is(0);
+		i.close();
+		assertTrue(r.closed);
+		assertFalse(i.hasNext());
+		assertThrown(()->i.next()).isType(NoSuchElementException.class);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// MessagePack
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_msgPack_basic() throws Exception {
+		MsgPackParser p = MsgPackParser.DEFAULT;
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new A[]{A.create(1, "foo"), null, A.create(2, "bar")});
+		assertObject(toList(p.parseStream(b, A.class))).asJson().is("[{a:1,b:'foo'},null,{a:2,b:'bar'}]");
+		b = MsgPackSerializer.DEFAULT.serialize(new int[0][]);
+		assertObject(toList(p.parseStream(b, int[].class))).asJson().is("[]");
+		b = MsgPackSerializer.DEFAULT.serialize(null);
+		assertObject(toList(p.parseStream(b, A.class))).asJson().is("[]");
+		byte[] b2 = MsgPackSerializer.DEFAULT.serialize(A.create(1, "foo"));
+		assertThrown(()->p.parseStream(b2, A.class)).isType(ParseException.class).messages().any(contains("Invalid data type MAP"));
+	}
+
+	@Test
+	public void b02_msgPack_manyEntries() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 70000; i++)
+			l.add(A.create(i, "x" + i));
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+		try (Stream<A> s = MsgPackParser.DEFAULT.parseStream(new ByteArrayInputStream(b), A.class).stream()) {
+			assertLong(s.filter(x -> x.b.equals("x" + x.a)).count()).is(70000l);
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Other
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_unsupported() throws Exception {
+		assertThrown(()->org.apache.juneau.xml.XmlParser.DEFAULT.parseStream("<array/>", A.class)).isType(UnsupportedOperationException.class);
+	}
+}
@@ -993,6 +993,76 @@ public class PojoSearcherTest {
 		assertObject(run(in, "f=foo")).asJson().is("[[{f:'foo'}]]");
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Indexed search
+	//-----------------------------------------------------------------------------------------------------------------
+
+	static Object runIndexed(Object in, String search, String...columns) {
+		return ps.run(bs, PojoIndex.create(bs, in, columns), create(search));
+	}
+
+	@Test
+	public void e01_indexedStringSearch() throws Exception {
+		for (String s : a("f=foo", "f=foo bar", "f=b*", "f='FOO'", "f=-foo", "f=q ux", "f=\"q ux\"", "f=/ba./")) {
+			String expected = ws.toString(run(A_LIST, s));
+			assertObject(runIndexed(A_LIST, s, "f")).asString(ws).is(expected);
+			assertObject(runIndexed(A_LIST, s)).asString(ws).is(expected);
+		}
+		assertObject(runIndexed(A_LIST, "f=foo", "f")).asJson().is("[{f:'foo'}]");
+	}
+
+	@Test
+	public void e02_indexedNumberSearch() throws Exception {
+		for (String s : a("f=1", "f=1 2", "f=-1 -2", "f=1-2", "f=2-1", "f=>1", "f=>=1", "f=<0", "f=!1", "f=1 -2")) {
+			String expected = ws.toString(run(INT_BEAN_ARRAY, s));
+			assertObject(runIndexed(INT_BEAN_ARRAY, s, "f")).asString(ws).is(expected);
+		}
+		assertObject(runIndexed(INT_BEAN_ARRAY, "f=>=1", "f")).asJson().is("[{f:1},{f:2},{f:3}]");
+	}
+
+	@Test
+	public void e03_indexedDateSearch() throws Exception {
+		B[] in = B.create("2010-01-01", "2011-01-01", "2011-01-31", "2012-01-01", "2012-12-31T23:59:59");
+		for (String s : a("f=2011", "f=2011-01", "f=2011-01-01", "f=>2011", "f=>=2011", "f=<2012", "f=2011 - 2012", "f=2010 2012")) {
+			String expected = ws.toString(run(in, s));
+			assertObject(runIndexed(in, s, "f")).asString(ws).is(expected);
+		}
+		assertObject(runIndexed(in, "f=2011", "f")).asString(ws).is("[{f:'2011-01-01T00:00:00'},{f:'2011-01-31T00:00:00'}]");
+	}
+
+	@Test
+	public void e04_indexedMapSearch() throws Exception {
+		List<OMap> in = AList.of(
+			OMap.of("name", "foo", "age", 1),
+			OMap.of("name", "bar", "age", 2),
+			OMap.of("name", "foo", "age", 3),
+			OMap.of("name", AList.of("foo", "baz"), "age", 4),
+			OMap.of("age", 5),
+			null
+		);
+		assertObject(runIndexed(in, "name=foo, age=>1", "name", "age")).asJson().is("[{name:'foo',age:3},{name:['foo','baz'],age:4}]");
+		assertObject(runIndexed(in, "name=foo, age=>1", "age")).asJson().is("[{name:'foo',age:3},{name:['foo','baz'],age:4}]");
+		assertObject(runIndexed(in, "age=>=4", "name")).asJson().is("[{name:['foo','baz'],age:4},{age:5}]");
+	}
+
+	@Test
+	public void e05_largeInput() throws Exception {
+		int size = PojoSearcher.PARALLEL_THRESHOLD * 3;
+		List<C> in = new ArrayList<>(size), expected = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			C c = C.create(i % 1000);
+			in.add(c);
+			if (c.f >= 10 && c.f <= 20 || c.f == 900)
+				expected.add(c);
+		}
+		String s = "f=10-20 900";
+		assertObject(run(in, s)).isSameJsonAs(expected);
+		assertObject(run(in.toArray(new C[size]), s)).isSameJsonAs(expected);
+		assertObject(run(new LinkedHashSet<>(in), s)).isSameJsonAs(expected);
+		assertObject(runIndexed(in, s, "f")).isSameJsonAs(expected);
+		assertObject(runIndexed(in, "f=>=0", "f")).isSameJsonAs(in);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other tests
 	//-----------------------------------------------------------------------------------------------------------------
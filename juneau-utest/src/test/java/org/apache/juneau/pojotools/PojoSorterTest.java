@@ -16,6 +16,8 @@ import static org.apache.juneau.assertions.Assertions.*;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
 import org.junit.*;
@@ -264,4 +266,30 @@ public class PojoSorterTest {
 		SortArgs sa = new SortArgs("f1-","f2+");
 		assertObject(p.run(bs, in, sa)).asJson().is("[{f1:3,f2:1.0},{f1:3,f2:2.0},{f1:2,f2:1.0},{f1:2,f2:2.0},{f1:1,f2:1.0}]");
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Paging
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void sortWithPage() {
+		Object in = new C[]{C.create(1,1),C.create(3,2),C.create(3,1),C.create(2,1),C.create(2,2)};
+		SortArgs sa = new SortArgs("f1-","f2+");
+		assertObject(p.run(bs, in, sa, new PageArgs(0, 2))).asJson().is("[{f1:3,f2:1.0},{f1:3,f2:2.0}]");
+		assertObject(p.run(bs, in, sa, new PageArgs(1, 3))).asJson().is("[{f1:3,f2:2.0},{f1:2,f2:1.0},{f1:2,f2:2.0}]");
+		assertObject(p.run(bs, in, sa, new PageArgs(4, 10))).asJson().is("[{f1:1,f2:1.0}]");
+		assertObject(p.run(bs, in, sa, new PageArgs(10, 10))).asJson().is("[]");
+		assertObject(p.run(bs, in, sa, new PageArgs(2, 0))).asJson().is("[{f1:2,f2:1.0},{f1:2,f2:2.0},{f1:1,f2:1.0}]");
+	}
+
+	@Test
+	public void sortWithPage_largeInput() {
+		List<C> in = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			in.add(C.create(i % 7, i % 13));
+		SortArgs sa = new SortArgs("f1-","f2+");
+		List<?> all = (List<?>)p.run(bs, in, sa);
+		assertEquals(all.subList(0, 20), p.run(bs, in, sa, new PageArgs(0, 20)));
+		assertEquals(all.subList(35, 45), p.run(bs, in, sa, new PageArgs(35, 10)));
+	}
 }
@@ -0,0 +1,120 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.http.response.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.logging.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestContext_HandleError_Test {
+
+	private static final int THREADS = 8;
+
+	@SuppressWarnings("serial")
+	public static class SlowException extends RuntimeException {
+		static volatile CountDownLatch latch;
+
+		public SlowException() {
+			super("foo");
+		}
+
+		// Called by RestContext.handleError() while writing the error body.
+		@Override
+		public void printStackTrace(PrintWriter w) {
+			CountDownLatch l = latch;
+			if (l != null) {
+				l.countDown();
+				try {
+					if (! l.await(10, TimeUnit.SECONDS))
+						w.append("TIMEOUT ");
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			w.append("SlowException");
+		}
+	}
+
+	@Rest(callLogger=BasicDisabledRestLogger.class, renderResponseStackTraces="true")
+	public static class A {
+		@RestGet
+		public void a() {
+			throw new SlowException();
+		}
+		@RestGet
+		public void b() {
+			throw new NotFound("bar");
+		}
+	}
+	static RestClient a = MockRestClient.buildLax(A.class);
+
+	private static void run(int threads, int count, String path, int code, String body) throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> l = new ArrayList<>();
+			for (int i = 0; i < count; i++)
+				l.add(es.submit(() -> a.get(path).run().assertCode().is(code).assertBody().contains(body).assertBody().doesNotContain("TIMEOUT")));
+			for (Future<?> f : l)
+				f.get(30, TimeUnit.SECONDS);
+		} finally {
+			es.shutdownNow();
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Concurrent error handling.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_errorsHandledConcurrently() throws Exception {
+		// Each error response only completes once all the threads are writing their error bodies at the same time.
+		SlowException.latch = new CountDownLatch(THREADS);
+		try {
+			run(THREADS, THREADS, "/a", 500, "SlowException");
+		} finally {
+			SlowException.latch = null;
+		}
+	}
+
+	@Test
+	public void a02_perCallState() throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> l = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				boolean odd = i % 2 == 1;
+				l.add(es.submit(() -> {
+					if (odd)
+						a.get("/a").run().assertCode().is(500).assertBody().contains("SlowException");
+					else
+						a.get("/b").run().assertCode().is(404).assertBody().contains("bar").assertBody().doesNotContain("SlowException");
+					return null;
+				}));
+			}
+			for (Future<?> f : l)
+				f.get(30, TimeUnit.SECONDS);
+		} finally {
+			es.shutdownNow();
+		}
+	}
+}
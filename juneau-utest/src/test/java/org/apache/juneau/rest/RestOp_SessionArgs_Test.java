@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.rest.annotation.HookEvent.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.http.annotation.Body;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.testutils.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestOp_SessionArgs_Test {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Session args are cached per serializer/parser match and copied for each request.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest(serializers=A1.class, parsers=A2.class)
+	public static class A {
+
+		@RestHook(PRE_CALL)
+		public void onPreCall(RestRequest req) {
+			String p1 = req.getHeader("P1").orElse(null);
+			if (p1 != null)
+				req.getAttributes().set("p1", p1);
+		}
+
+		@RestPut
+		public String a(@Body String in) {
+			return in;
+		}
+	}
+
+	public static class A1 extends MockWriterSerializer {
+		public A1(MockWriterSerializer.Builder b) {
+			super(b.produces("text/s1,text/s2").function((s,o) -> o + "|" + out(s)));
+		}
+
+		private static String out(SerializerSession s) {
+			return s.getMediaType() + "," + s.getSessionProperties().get("p1").orElse(null);
+		}
+	}
+
+	public static class A2 extends MockReaderParser {
+		public A2(MockReaderParser.Builder b) {
+			super(b.consumes("text/p1,text/p2").function((s,in,type) -> in(s)));
+		}
+
+		private static Object in(ReaderParserSession s) {
+			return s.getMediaType() + "," + s.getSessionProperties().get("p1").orElse(null);
+		}
+	}
+
+	@Test
+	public void a01_cachedArgs() throws Exception {
+		RestClient a = MockRestClient.build(A.class);
+		a.put("/a", null).contentType("text/p1").accept("text/s1").header("P1", "x").run().assertBody().is("text/p1,x|text/s1,x");
+		a.put("/a", null).contentType("text/p1").accept("text/s1").run().assertBody().is("text/p1,null|text/s1,null");
+		a.put("/a", null).contentType("text/p2").accept("text/s2").header("P1", "y").run().assertBody().is("text/p2,y|text/s2,y");
+		a.put("/a", null).contentType("text/p1").accept("text/s1").run().assertBody().is("text/p1,null|text/s1,null");
+	}
+}
@@ -0,0 +1,222 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.nio.file.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.Path;
+import org.apache.juneau.http.resource.*;
+import org.apache.juneau.http.response.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class StaticFiles_Test {
+
+	private static java.nio.file.Path DIR;
+	private static StaticFiles FILES;
+	private static String SMALL, LARGE;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		DIR = Files.createTempDirectory("StaticFiles_Test");
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			sb.append("line ").append(i).append('\n');
+		SMALL = sb.toString();
+		for (int i = 0; i < 1000; i++)
+			sb.append("line ").append(i).append('\n');
+		LARGE = sb.toString();
+		Files.write(DIR.resolve("small.txt"), SMALL.getBytes("UTF-8"));
+		Files.write(DIR.resolve("large.txt"), LARGE.getBytes("UTF-8"));
+		FILES = StaticFiles.create().path(DIR).caching(2000).build();
+	}
+
+	@AfterClass
+	public static void afterClass() throws Exception {
+		Files.delete(DIR.resolve("small.txt"));
+		Files.delete(DIR.resolve("large.txt"));
+		Files.delete(DIR);
+	}
+
+	@Rest(encoders=GzipEncoder.class)
+	public static class A {
+		@RestGet(path="/*")
+		public HttpResource get(@Path("/*") String path) {
+			return FILES.resolve(path, null).orElseThrow(NotFound::new);
+		}
+	}
+
+	private static RestClient client() {
+		return MockRestClient.create(A.class).ignoreErrors().disableContentCompression().noTrace().build();
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Conditional requests.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_eTag() throws Exception {
+		RestClient a = client();
+		for (String f : new String[]{"small.txt","large.txt"}) {
+			String eTag = a.get("/"+f).run()
+				.assertCode().is(200)
+				.assertHeader("Accept-Ranges").is("bytes")
+				.assertHeader("Last-Modified").isNotNull()
+				.assertBody().is(f.startsWith("small") ? SMALL : LARGE)
+				.getStringHeader("ETag").orElse(null);
+			assertTrue(eTag.startsWith("\""));
+
+			a.get("/"+f).header("If-None-Match", eTag).run()
+				.assertCode().is(304)
+				.assertHeader("ETag").is(eTag)
+				.assertBody().isEmpty();
+			a.get("/"+f).header("If-None-Match", "\"foo\", W/" + eTag).run()
+				.assertCode().is(304);
+			a.get("/"+f).header("If-None-Match", "\"foo\"").run()
+				.assertCode().is(200);
+		}
+	}
+
+	@Test
+	public void a02_ifModifiedSince() throws Exception {
+		RestClient a = client();
+		String lastModified = a.get("/small.txt").run().getStringHeader("Last-Modified").orElse(null);
+		a.get("/small.txt").header("If-Modified-Since", lastModified).run().assertCode().is(304);
+		a.get("/small.txt").header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT").run().assertCode().is(200);
+		a.get("/small.txt").header("If-Modified-Since", "garbage").run().assertCode().is(200);
+	}
+
+	@Test
+	public void a03_modifiedFile() throws Exception {
+		RestClient a = client();
+		java.nio.file.Path p = DIR.resolve("small.txt");
+		String eTag = a.get("/small.txt").run().getStringHeader("ETag").orElse(null);
+		Files.write(p, "changed".getBytes("UTF-8"));
+		try {
+			a.get("/small.txt").header("If-None-Match", eTag).run()
+				.assertCode().is(200)
+				.assertBody().is("changed");
+		} finally {
+			Files.write(p, SMALL.getBytes("UTF-8"));
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Range requests.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_range() throws Exception {
+		RestClient a = client();
+		for (String f : new String[]{"small.txt","large.txt"}) {
+			String s = f.startsWith("small") ? SMALL : LARGE;
+			int len = s.length();
+			a.get("/"+f).header("Range", "bytes=0-9").run()
+				.assertCode().is(206)
+				.assertHeader("Content-Range").is("bytes 0-9/" + len)
+				.assertBody().is(s.substring(0, 10));
+			a.get("/"+f).header("Range", "bytes=10-").run()
+				.assertCode().is(206)
+				.assertHeader("Content-Range").is("bytes 10-" + (len-1) + "/" + len)
+				.assertBody().is(s.substring(10));
+			a.get("/"+f).header("Range", "bytes=-5").run()
+				.assertCode().is(206)
+				.assertBody().is(s.substring(len-5));
+			a.get("/"+f).header("Range", "bytes=" + len + "-").run()
+				.assertCode().is(416)
+				.assertHeader("Content-Range").is("bytes */" + len);
+			a.get("/"+f).header("Range", "bytes=0-1,5-6").run()
+				.assertCode().is(200)
+				.assertBody().is(s);
+		}
+	}
+
+	@Test
+	public void b02_ifRange() throws Exception {
+		RestClient a = client();
+		String eTag = a.get("/small.txt").run().getStringHeader("ETag").orElse(null);
+		a.get("/small.txt").header("Range", "bytes=0-9").header("If-Range", eTag).run()
+			.assertCode().is(206);
+		a.get("/small.txt").header("Range", "bytes=0-9").header("If-Range", "\"foo\"").run()
+			.assertCode().is(200)
+			.assertBody().is(SMALL);
+	}
+
+	@Test
+	public void b03_rangeWithGzip() throws Exception {
+		RestClient a = client();
+		String eTag = a.get("/small.txt").run().getStringHeader("ETag").orElse(null);
+		a.get("/small.txt").acceptEncoding("gzip").header("Range", "bytes=0-9").run()
+			.assertCode().is(206)
+			.assertHeader("ETag").is(eTag)
+			.assertHeader("Content-Encoding").isNull()
+			.assertBody().is(SMALL.substring(0, 10));
+		a.get("/small.txt").acceptEncoding("gzip").header("Range", "bytes=0-9").header("If-Range", eTag).run()
+			.assertCode().is(206);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Precompressed content.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_gzip() throws Exception {
+		RestClient a = client();
+		org.apache.juneau.rest.client.RestResponse r = a.get("/small.txt").acceptEncoding("gzip").run()
+			.assertCode().is(200)
+			.assertHeader("Content-Encoding").is("gzip")
+			.assertHeader("Vary").is("Accept-Encoding");
+		String eTag = r.getStringHeader("ETag").orElse(null);
+		assertTrue(eTag.endsWith("-gz\""));
+		// MockRestClient decodes gzipped responses.
+		assertEquals(SMALL, r.getBody().asString());
+
+		a.get("/small.txt").acceptEncoding("gzip").header("If-None-Match", eTag).run()
+			.assertCode().is(304);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Classpath resources.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_classpath() throws Exception {
+		String name = "BasicRestInfoProviderTest_swagger.json", expected = IOUtils.read(StaticFiles_Test.class.getResourceAsStream(name));
+
+		StaticFiles sf = StaticFiles.create().cp(StaticFiles_Test.class, null, false).caching(100_000).build();
+		HttpResource r = sf.resolve(name, null).get();
+		assertTrue(r instanceof StaticFileResource);
+		assertSame(r, sf.resolve(name, null).get());
+		assertEquals(expected, IOUtils.read(r.getContent()));
+
+		// Too large to cache, so streamed.
+		sf = StaticFiles.create().cp(StaticFiles_Test.class, null, false).caching(100).build();
+		r = sf.resolve(name, null).get();
+		assertFalse(r instanceof StaticFileResource);
+		assertEquals(expected, IOUtils.read(r.getContent()));
+
+		// Caching disabled.
+		sf = StaticFiles.create().cp(StaticFiles_Test.class, null, false).build();
+		r = sf.resolve(name, null).get();
+		assertFalse(r instanceof StaticFileResource);
+		assertEquals(expected, IOUtils.read(r.getContent()));
+	}
+}
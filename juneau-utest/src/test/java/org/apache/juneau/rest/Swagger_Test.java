@@ -18,6 +18,7 @@ import static org.junit.runners.MethodSorters.*;
 import static org.apache.juneau.assertions.Assertions.*;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.json.*;
 import org.apache.juneau.jsonschema.annotation.*;
@@ -33,6 +34,7 @@ import org.apache.juneau.http.annotation.License;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.annotation.Swagger;
 import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.serializer.*;
 import org.junit.*;
 
 @FixMethodOrder(NAME_ASCENDING)
@@ -2361,4 +2363,63 @@ public class Swagger_Test {
 		ResponseInfo ri = o.getResponse("200");
 		assertEquals("{\n\tf1: 1,\n\tf2: 2\n}", ri.getExamples().get("application/json+simple"));
 	}
+
+	@Test
+	public void t02_cachedSerializedSwagger() throws Exception {
+		MockRestClient p = MockRestClient.build(T1.class);
+		org.apache.juneau.rest.client.RestResponse r = p.get("/api").accept("application/json").run();
+		String body = r.getBody().asString(), eTag = r.getStringHeader("ETag").orElse(null);
+		assertNotNull(eTag);
+
+		p.get("/api").accept("application/json").run()
+			.assertHeader("ETag").is(eTag)
+			.assertBody().is(body);
+		p.get("/api").accept("application/json").header("If-None-Match", eTag).run()
+			.assertCode().is(304)
+			.assertBody().isEmpty();
+		p.get("/api").accept("text/xml").run()
+			.assertHeader("ETag").isNot(eTag)
+			.assertBody().isNotEmpty();
+		p.get("/api").accept("text/xml").header("If-None-Match", eTag).run()
+			.assertCode().is(200);
+	}
+
+	private static final AtomicInteger T3_SESSIONS = new AtomicInteger();
+
+	public static class T3Serializer extends JsonSerializer {
+		public T3Serializer(JsonSerializerBuilder builder) {
+			super(builder.accept("text/t3"));
+		}
+
+		@Override /* Serializer */
+		public JsonSerializerSession createSession(SerializerSessionArgs args) {
+			T3_SESSIONS.incrementAndGet();
+			return super.createSession(args);
+		}
+	}
+
+	@Rest(serializers=T3Serializer.class)
+	public static class T3 extends BasicRestServlet {
+		private static final long serialVersionUID = 1L;
+
+		@RestGet(path="/")
+		public T2 a(@Body T2 body) {
+			return null;
+		}
+	}
+
+	@Test
+	public void t03_cachedSwaggerNotReserialized() throws Exception {
+		MockRestClient p = MockRestClient.build(T3.class);
+		String body = p.get("/api").accept("text/t3").run().getBody().asString();
+		int sessions = T3_SESSIONS.get();
+		assertTrue(sessions > 0);
+
+		p.get("/api").accept("text/t3").run().assertBody().is(body);
+		p.get("/api?foo=bar").accept("text/t3").run().assertBody().is(body);
+		assertEquals(sessions, T3_SESSIONS.get());
+
+		p.get("/api").accept("text/t3").header("Accept-Language", "fr").run().assertBody().isNotEmpty();
+		assertTrue(T3_SESSIONS.get() > sessions);
+	}
 }
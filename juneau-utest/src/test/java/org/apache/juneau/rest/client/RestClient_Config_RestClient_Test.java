@@ -137,6 +137,31 @@ public class RestClient_Config_RestClient_Test {
 		x2.get("/echo").runFuture().get().assertCode().is(200).assertBody().contains("GET /echo HTTP/1.1");
 	}
 
+	@Test
+	public void a03b_executorService_pool() throws Exception {
+		RestClient x1 = client().executorService(4, 20).build();
+		ThreadPoolExecutor es = (ThreadPoolExecutor)x1.getExecutorService();
+		assertEquals(4, es.getMaximumPoolSize());
+		assertEquals(20, es.getQueue().remainingCapacity());
+		assertEquals(0, x1.getExecutorQueueDepth());
+		x1.get("/echo").runFuture().get().assertCode().is(200);
+		x1.closeQuietly();
+		assertTrue(es.isShutdown());
+
+		RestClient x2 = client().executorServiceVirtualThreads().build();
+		x2.get("/echo").runFuture().get().assertCode().is(200).assertBody().contains("GET /echo HTTP/1.1");
+		x2.closeQuietly();
+		assertTrue(x2.getExecutorService().isShutdown());
+	}
+
+	@Test
+	public void a03c_executorService_notCreatedByMonitoring() throws Exception {
+		RestClient x = client().build();
+		assertEquals(0, x.getExecutorQueueDepth());
+		assertEquals(0, x.getExecutorActiveCount());
+		assertNull(x.toMap().getMap("RestClient").get("executorService"));
+	}
+
 	@Test
 	public void a04_keepHttpClientOpen() throws Exception {
 		RestClient x = client().keepHttpClientOpen().build();
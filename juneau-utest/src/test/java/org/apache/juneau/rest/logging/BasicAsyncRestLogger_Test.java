@@ -0,0 +1,108 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.logging;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.rest.logging.RestLoggerOverflowPolicy.*;
+import static org.apache.juneau.rest.logging.RestLoggingDetail.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class BasicAsyncRestLogger_Test {
+
+	public static class A extends BasicAsyncRestLogger {
+		final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+		final CountDownLatch gate, entered = new CountDownLatch(1);
+
+		public A(RestLogger.Builder builder, CountDownLatch gate) {
+			super(builder.level(Level.INFO));
+			this.gate = gate;
+		}
+
+		@Override
+		protected void log(Level level, String msg, Throwable e) {
+			entered.countDown();
+			try {
+				gate.await();
+			} catch (InterruptedException e2) {}
+			messages.add(Thread.currentThread().getName() + ":" + msg);
+		}
+	}
+
+	private static void log(RestLogger x, String uri) {
+		x.log(MockServletRequest.create("GET", uri).header("Foo", "bar"), MockServletResponse.create().status(200));
+	}
+
+	@Test
+	public void a01_loggedOnBackgroundThread() throws Exception {
+		A x = new A(RestLogger.create().requestDetail(HEADER), new CountDownLatch(0));
+		log(x, "/a");
+		assertBoolean(x.flush(10, TimeUnit.SECONDS)).isTrue();
+		assertList(x.messages).isSize(1);
+		assertString(x.messages.get(0)).contains("RestLogger-", "HTTP GET /a", "Foo: bar");
+		assertLong(x.getDroppedCount()).is(0l);
+	}
+
+	@Test
+	public void a02_drop() throws Exception {
+		CountDownLatch gate = new CountDownLatch(1);
+		A x = new A(RestLogger.create().queueSize(2).overflowPolicy(DROP), gate);
+		for (int i = 0; i < 10; i++)
+			log(x, "/a" + i);
+		gate.countDown();
+		assertBoolean(x.flush(10, TimeUnit.SECONDS)).isTrue();
+		// Entries already taken by the background thread, plus two in the queue.
+		assertInteger(x.messages.size()).isBetween(2, 5);
+		assertLong(x.getDroppedCount()).is(10l - x.messages.size());
+	}
+
+	@Test
+	public void a03_block() throws Exception {
+		CountDownLatch gate = new CountDownLatch(1);
+		A x = new A(RestLogger.create().queueSize(1).overflowPolicy(BLOCK), gate);
+		Thread t = new Thread(() -> { for (int i = 0; i < 5; i++) log(x, "/a" + i); });
+		t.start();
+		gate.countDown();
+		t.join(10000);
+		assertBoolean(x.flush(10, TimeUnit.SECONDS)).isTrue();
+		assertList(x.messages).isSize(5);
+		assertLong(x.getDroppedCount()).is(0l);
+	}
+
+	@Test
+	public void a04_sample() throws Exception {
+		CountDownLatch gate = new CountDownLatch(1);
+		A x = new A(RestLogger.create().queueSize(20).overflowPolicy(SAMPLE).sampleRate(5), gate);
+
+		// Park the background thread on the first entry so that it doesn't take anything else from the queue.
+		log(x, "/a");
+		assertBoolean(x.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+		// The first 10 entries fill the queue to half its size, then only 1 in 5 of the next 50 are kept.
+		for (int i = 0; i < 60; i++)
+			log(x, "/a" + i);
+		assertInteger(x.getQueueDepth()).is(20);
+		assertLong(x.getDroppedCount()).is(40l);
+
+		gate.countDown();
+		assertBoolean(x.flush(10, TimeUnit.SECONDS)).isTrue();
+		assertList(x.messages).isSize(21);
+	}
+}
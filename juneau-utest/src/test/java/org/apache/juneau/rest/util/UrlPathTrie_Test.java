@@ -0,0 +1,75 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class UrlPathTrie_Test {
+
+	private static final List<String> PATTERNS = Arrays.asList(
+		"foo.txt", "*.txt", "foo.*", "/foo/bar", "/foo/bar/*", "/foo/{id}/bar", "/foo/{id}/bar/*", "/foo/{id}", "/foo/{id}/*",
+		"/foo", "/foo/*", "/foo/*/baz", "/bar/{a}/{b}", "/", "/*", "", "*"
+	);
+
+	private static final List<String> PATHS = Arrays.asList(
+		"/", "/foo", "/foo/", "/foo/bar", "/foo/bar/", "/foo/bar/baz", "/foo/x", "/foo/x/", "/foo/x/bar", "/foo/x/bar/y",
+		"/foo/x/baz", "/bar", "/bar/x", "/bar/x/y", "/bar/x/y/", "/bar/x/y/z", "/baz", "/foo.txt", "/x/foo.txt", "/x/y.txt",
+		"/foo%2Fbar", "//", "/foo//bar"
+	);
+
+	private static UrlPathTrie<UrlPathMatcher> trie(List<String> patterns) {
+		return new UrlPathTrie<>(patterns.stream().map(UrlPathMatcher::of).collect(Collectors.toList()), x -> new UrlPathMatcher[]{x});
+	}
+
+	private static List<String> matches(Collection<UrlPathMatcher> l, UrlPath p) {
+		return l.stream().filter(x -> x.match(p) != null).map(Object::toString).collect(Collectors.toList());
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Candidates
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sameMatchesAsFullScan() throws Exception {
+		List<UrlPathMatcher> l = PATTERNS.stream().map(UrlPathMatcher::of).sorted().collect(Collectors.toList());
+		UrlPathTrie<UrlPathMatcher> t = new UrlPathTrie<>(l, x -> new UrlPathMatcher[]{x});
+		for (String path : PATHS) {
+			UrlPath p = UrlPath.of(path);
+			assertObject(matches(t.getCandidates(p), p)).msg("path={0}", path).is(matches(l, p));
+		}
+	}
+
+	@Test
+	public void a02_literalsNarrowCandidates() throws Exception {
+		UrlPathTrie<UrlPathMatcher> t = trie(Arrays.asList("/a", "/b", "/c/{x}", "/d/*", "*.txt"));
+		assertObject(t.getCandidates(UrlPath.of("/b"))).asJson().is("['/b','*.txt']");
+		assertObject(t.getCandidates(UrlPath.of("/c/1"))).asJson().is("['/c/{x}','*.txt']");
+		assertObject(t.getCandidates(UrlPath.of("/d/1/2"))).asJson().is("['/d/*','*.txt']");
+		assertObject(t.getCandidates(UrlPath.of("/e"))).asJson().is("['*.txt']");
+		assertInteger(t.size()).is(5);
+	}
+
+	@Test
+	public void a03_multipleMatchersPerValue() throws Exception {
+		UrlPathTrie<String> t = new UrlPathTrie<>(Arrays.asList("x", "y"), x -> x.equals("x") ? new UrlPathMatcher[]{UrlPathMatcher.of("/a"), UrlPathMatcher.of("/b")} : new UrlPathMatcher[]{UrlPathMatcher.of("/b")});
+		assertObject(t.getCandidates(UrlPath.of("/a"))).asJson().is("['x']");
+		assertObject(t.getCandidates(UrlPath.of("/b"))).asJson().is("['x','y']");
+	}
+}
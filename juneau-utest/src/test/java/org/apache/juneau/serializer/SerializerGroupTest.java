@@ -151,4 +151,58 @@ public class SerializerGroupTest {
 			super(builder.accept("*/*"));
 		}
 	}
+
+	//====================================================================================================
+	// Test match cache
+	//====================================================================================================
+	@Test
+	public void testMatchCacheNormalization() throws Exception {
+		SerializerGroup g = SerializerGroup.create().add(SA1.class, SA2.class, SA3.class).build();
+
+		assertObject(g.getSerializer("text/foo")).isType(SA1.class);
+		assertObject(g.getSerializer("text/foo;q=0.9")).isType(SA1.class);
+		assertObject(g.getSerializer("text/foo;charset=utf-8")).isType(SA1.class);
+		assertObject(g.getSerializer(" text/foo ")).isType(SA1.class);
+		assertLong(g.getScoredMatchCount()).is(1l);
+
+		assertObject(g.getSerializer("text/foo;q=0.9,text/foo+bar;q=0.8")).isType(SA1.class);
+		assertObject(g.getSerializer("text/foo;q=0.7,text/foo+bar;q=0.6")).isType(SA1.class);
+		assertLong(g.getScoredMatchCount()).is(2l);
+
+		assertObject(g.getSerializer("text/foo;q=0.8,text/foo+bar;q=0.9")).isType(SA2.class);
+		assertObject(g.getSerializer("text/foo,text/foo+bar")).isType(SA2.class);
+		assertLong(g.getScoredMatchCount()).is(4l);
+	}
+
+	@Test
+	public void testMatchCacheCommonHeaders() throws Exception {
+		SerializerGroup g = SerializerGroup.create().add(JsonSerializer.class).build();
+
+		assertObject(g.getSerializer("*/*")).isType(JsonSerializer.class);
+		assertObject(g.getSerializer("application/json")).isType(JsonSerializer.class);
+		assertObject(g.getSerializer("application/json;q=0.9")).isType(JsonSerializer.class);
+		assertObject(g.getSerializer("text/html")).isNull();
+		assertLong(g.getScoredMatchCount()).is(0l);
+		assertInteger(g.getMatchCacheStats().getSize()).is(0);
+	}
+
+	@Test
+	public void testMatchCacheNoMatch() throws Exception {
+		SerializerGroup g = SerializerGroup.create().add(SA1.class).build();
+
+		assertObject(g.getSerializerMatch("text/xxx")).isNull();
+		assertObject(g.getSerializerMatch("text/xxx")).isNull();
+		assertObject(g.getSerializerMatch((String)null)).isNull();
+		assertLong(g.getScoredMatchCount()).is(1l);
+	}
+
+	@Test
+	public void testMatchCacheBounded() throws Exception {
+		SerializerGroup g = SerializerGroup.create().add(SA1.class).build();
+
+		for (int i = 0; i < 1000; i++)
+			assertObject(g.getSerializer("text/foo_" + i)).isNull();
+		assertInteger(g.getMatchCacheStats().getSize()).isLte(g.getMatchCacheStats().getMaxSize());
+		assertObject(g.getSerializer("text/foo")).isType(SA1.class);
+	}
 }
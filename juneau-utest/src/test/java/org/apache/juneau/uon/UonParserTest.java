@@ -20,6 +20,7 @@ import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
@@ -507,6 +508,27 @@ public class UonParserTest {
 		public int f2;
 	}
 
+	//====================================================================================================
+	// Test escaped attribute names and values
+	//====================================================================================================
+	@Test
+	public void testEscapedNamesAndValues() throws Exception {
+		B t = p.parse("(a~'b=c~'d,'e~'f'='g~'h')", B.class);
+		assertEquals("c'd", t.f1);
+		assertEquals("g'h", t.f2);
+
+		Map m = p.parse("(a~~b=c~~d,'e~'f'='g~'h')", OMap.class);
+		assertEquals("c~d", m.get("a~b"));
+		assertEquals("g'h", m.get("e'f"));
+
+		assertThrown(()->p.parse("(q~~q=1)", B.class)).message().contains("Unknown property 'q~q'");
+	}
+
+	public static class B {
+		@Beanp("a'b") public String f1;
+		@Beanp("e'f") public String f2;
+	}
+
 	//====================================================================================================
 	// testStreamsAutoClose
 	// Validates PARSER_autoCloseStreams.
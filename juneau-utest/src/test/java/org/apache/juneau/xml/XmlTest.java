@@ -1028,4 +1028,113 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
+
+	//====================================================================================================
+	// Namespace auto-detection only searches types that can contain namespaces.
+	//====================================================================================================
+	@Test
+	public void testAutoDetectNamespacesSkipsPlainTypes() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build();
+
+		R1 t = new R1();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau'><f1>foo</f1></object>", s.serialize(t));
+		assertEquals(1, t.count);
+
+		R2 t2 = new R2();
+		t2.f1 = Arrays.asList(new Q());
+		t2.f2 = new R1();
+		String r = s.serialize(t2);
+		assertTrue(r.startsWith("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:ns='http://ns' xmlns:nsf1='http://nsf1' xmlns:nsf3='http://nsf3'>"));
+		assertEquals(1, t2.f2.count);
+
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("a", new R1());
+		m.put("b", new Q());
+		r = s.serialize(m);
+		assertTrue(r.startsWith("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:ns='http://ns' xmlns:nsf1='http://nsf1' xmlns:nsf3='http://nsf3'>"));
+	}
+
+	public static class R1 {
+		int count;
+
+		public String getF1() {
+			count++;
+			return "foo";
+		}
+	}
+
+	public static class R2 {
+		public List<Q> f1;
+		public R1 f2;
+	}
+
+	//====================================================================================================
+	// Namespace auto-detection must search properties whose values may be subclasses with namespaces.
+	//====================================================================================================
+	@Test
+	public void testAutoDetectNamespacesPolymorphicProperties() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build();
+
+		S3 t = new S3();
+		t.b = new S2();
+		t.x = Arrays.asList(new S1(), new S2());
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar'><foo:b _type='object'><foo:f1>x</foo:f1><bar:f2>y</bar:f2></foo:b><x><object><f1>x</f1></object><object><foo:f1>x</foo:f1><bar:f2>y</bar:f2></object></x></object>", s.serialize(t));
+
+		S4 t2 = new S4();
+		t2.x = Arrays.asList(new S2());
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar'><x><object><foo:f1>x</foo:f1><bar:f2>y</bar:f2></object></x></object>", s.serialize(t2));
+
+		t = new S3();
+		t.b = new S1();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau'><b><f1>x</f1></b></object>", s.serialize(t));
+	}
+
+	public static class S1 {
+		public String f1 = "x";
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class S2 extends S1 {
+		@Xml(prefix="bar", namespace="http://bar")
+		public String f2 = "y";
+	}
+
+	public static class S3 {
+		public S1 b;
+		public List<S1> x;
+	}
+
+	public static final class S4 {
+		public List<S1> x;
+	}
+
+	//====================================================================================================
+	// Namespace auto-detection must not call getters of properties whose values can't contain namespaces.
+	//====================================================================================================
+	@Test
+	public void testAutoDetectNamespacesSkipsListOfStrings() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build();
+
+		U1 t = new U1();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau'><f1><string>foo</string></f1></object>", s.serialize(t));
+		assertEquals(1, t.count);
+
+		U2 t2 = new U2();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo'><foo:f2>bar</foo:f2><f1><string>foo</string></f1></object>", s.serialize(t2));
+		assertEquals(1, t2.count);
+	}
+
+	public static class U1 {
+		int count;
+
+		public List<String> getF1() {
+			count++;
+			return Arrays.asList("foo");
+		}
+	}
+
+	public static class U2 extends U1 {
+		@Xml(prefix="foo", namespace="http://foo")
+		public String f2 = "bar";
+	}
 }
\ No newline at end of file